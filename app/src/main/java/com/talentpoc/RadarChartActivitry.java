@@ -13,6 +13,7 @@ import android.widget.ArrayAdapter;
 import android.widget.Spinner;
 import android.widget.Toast;
 
+import com.talentpoc.animation.Easing;
 import com.talentpoc.charts.RadarChart;
 import com.talentpoc.components.XAxis;
 import com.talentpoc.components.YAxis;
@@ -40,6 +41,8 @@ public class RadarChartActivitry extends Activity implements AdapterView.OnItemS
 
         mChart = (RadarChart) findViewById(R.id.chart1);
         mProfileImageView=(RoundImageView)findViewById(R.id.img_user_profile);
+        // decoded downsampled to the size of the view
+        mProfileImageView.setImageResource(R.drawable.profile);
 
         mChart.setWebLineWidth(1.5f);
         mChart.setWebLineWidthInner(0.75f);
@@ -47,8 +50,6 @@ public class RadarChartActivitry extends Activity implements AdapterView.OnItemS
         mChart.setChartLabelSelectedListener(this);
 
         mProfileImageView.setOnClickListener(this);
-        
-        setData();
 
         XAxis xAxis = mChart.getXAxis();
         xAxis.setTextSize(9f);
@@ -59,6 +60,8 @@ public class RadarChartActivitry extends Activity implements AdapterView.OnItemS
         yAxis.setStartAtZero(false);
         yAxis.setEnabled(false);
 
+        // after the axis setup, the animation targets depend on the range
+        setData();
 
     }
 
@@ -96,8 +99,7 @@ public class RadarChartActivitry extends Activity implements AdapterView.OnItemS
         RadarData data = new RadarData(xVals, sets);
         data.setValueTextSize(8f);
         data.setDrawValues(false);
-        mChart.setData(data);
-        mChart.invalidate();
+        mChart.animateDataChange(data, 500, Easing.EaseInOutCubic);
     }
 
     @Override
@@ -0,0 +1,231 @@
+
+package com.talentpoc.animation;
+
+import android.view.Choreographer;
+
+/**
+ * Interpolates series of precomputed vertex values (e.g. the normalized radii
+ * of the radar polygons) from a start to a target state, driven by the
+ * Choreographer. Fill the buffers returned by getStartBuffer(...) and
+ * getTargetBuffer(...) for every series, then call start(...). On every frame
+ * the current values are interpolated with the easing function and the
+ * listener is notified, the chart data is not touched. All buffers are kept
+ * and reused by following animations, running an animation does not allocate.
+ * A NaN in the start or target buffer makes the vertex jump to its target.
+ */
+public class ChartAnimator implements Choreographer.FrameCallback {
+
+    /**
+     * Listener that is called after the values of a frame have been
+     * interpolated, usually invalidates the chart.
+     */
+    public interface AnimatorUpdateListener {
+        public void onAnimationUpdate(ChartAnimator animator);
+    }
+
+    private final AnimatorUpdateListener mListener;
+
+    /** per series start, target and current values */
+    private float[][] mStart = new float[0][];
+    private float[][] mTarget = new float[0][];
+    private float[][] mValues = new float[0][];
+
+    /** number of values per series */
+    private int[] mCounts = new int[0];
+
+    /** number of series of the current animation */
+    private int mSeriesCount = 0;
+
+    private EasingFunction mEasing = Easing.EaseInOutQuad;
+
+    private long mDurationNanos = 0;
+
+    /** frame time of the first frame, -1 until the first frame arrived */
+    private long mStartTimeNanos = -1;
+
+    /** the eased progress of the animation */
+    private float mPhase = 1f;
+
+    private boolean mRunning = false;
+
+    public ChartAnimator(AnimatorUpdateListener listener) {
+        mListener = listener;
+    }
+
+    /**
+     * Sets the number of series of the next animation.
+     *
+     * @param count
+     */
+    public void setSeriesCount(int count) {
+
+        if (mCounts.length < count) {
+            mStart = grow(mStart, count);
+            mTarget = grow(mTarget, count);
+            mValues = grow(mValues, count);
+
+            int[] counts = new int[count];
+            System.arraycopy(mCounts, 0, counts, 0, mCounts.length);
+            mCounts = counts;
+        }
+
+        mSeriesCount = count;
+    }
+
+    public int getSeriesCount() {
+        return mSeriesCount;
+    }
+
+    /**
+     * Sets the number of values of the given series and returns the buffer for
+     * its start values, holding at least count values.
+     *
+     * @param series
+     * @param count
+     * @return
+     */
+    public float[] getStartBuffer(int series, int count) {
+        ensureCapacity(series, count);
+        return mStart[series];
+    }
+
+    /**
+     * Returns the buffer for the target values of the given series, call
+     * getStartBuffer(...) for the series first.
+     *
+     * @param series
+     * @return
+     */
+    public float[] getTargetBuffer(int series) {
+        return mTarget[series];
+    }
+
+    /**
+     * Starts animating the filled buffers. A running animation is replaced.
+     *
+     * @param durationMillis
+     * @param easing
+     */
+    public void start(int durationMillis, EasingFunction easing) {
+
+        cancel();
+
+        mEasing = easing != null ? easing : Easing.Linear;
+        mDurationNanos = Math.max(1, durationMillis) * 1000000L;
+        mStartTimeNanos = -1;
+        mRunning = true;
+
+        update(0f);
+        Choreographer.getInstance().postFrameCallback(this);
+    }
+
+    /**
+     * Stops the animation, the current values stay as they are.
+     */
+    public void cancel() {
+
+        if (!mRunning)
+            return;
+
+        Choreographer.getInstance().removeFrameCallback(this);
+        mRunning = false;
+    }
+
+    @Override
+    public void doFrame(long frameTimeNanos) {
+
+        if (!mRunning)
+            return;
+
+        if (mStartTimeNanos < 0)
+            mStartTimeNanos = frameTimeNanos;
+
+        float fraction = (frameTimeNanos - mStartTimeNanos) / (float) mDurationNanos;
+
+        if (fraction >= 1f) {
+            update(1f);
+            mRunning = false;
+        } else {
+            update(fraction);
+            Choreographer.getInstance().postFrameCallback(this);
+        }
+
+        if (mListener != null)
+            mListener.onAnimationUpdate(this);
+    }
+
+    /**
+     * Interpolates the current values for the given elapsed fraction.
+     */
+    private void update(float fraction) {
+
+        mPhase = fraction >= 1f ? 1f : mEasing.getInterpolation(fraction);
+
+        for (int i = 0; i < mSeriesCount; i++) {
+
+            float[] start = mStart[i];
+            float[] target = mTarget[i];
+            float[] values = mValues[i];
+
+            for (int j = 0; j < mCounts[i]; j++) {
+
+                if (Float.isNaN(start[j]) || Float.isNaN(target[j]))
+                    values[j] = target[j];
+                else
+                    values[j] = start[j] + (target[j] - start[j]) * mPhase;
+            }
+        }
+    }
+
+    /**
+     * Returns true if an animation is running.
+     *
+     * @return
+     */
+    public boolean isRunning() {
+        return mRunning;
+    }
+
+    /**
+     * Returns the eased progress of the running animation, 1f if no animation
+     * is running.
+     *
+     * @return
+     */
+    public float getPhase() {
+        return mRunning ? mPhase : 1f;
+    }
+
+    /**
+     * Returns the current values of the given series. Only valid while the
+     * animation is running (or right after it was cancelled), see
+     * getValueCount(...) for the number of values.
+     *
+     * @param series
+     * @return
+     */
+    public float[] getValues(int series) {
+        return mValues[series];
+    }
+
+    public int getValueCount(int series) {
+        return mCounts[series];
+    }
+
+    private void ensureCapacity(int series, int count) {
+
+        if (mStart[series] == null || mStart[series].length < count) {
+            mStart[series] = new float[count];
+            mTarget[series] = new float[count];
+            mValues[series] = new float[count];
+        }
+
+        mCounts[series] = count;
+    }
+
+    private static float[][] grow(float[][] array, int size) {
+        float[][] grown = new float[size][];
+        System.arraycopy(array, 0, grown, 0, array.length);
+        return grown;
+    }
+}
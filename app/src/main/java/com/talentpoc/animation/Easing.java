@@ -0,0 +1,109 @@
+
+package com.talentpoc.animation;
+
+/**
+ * Predefined easing functions for the ChartAnimator. None of them allocates.
+ */
+public abstract class Easing {
+
+    public static final EasingFunction Linear = new EasingFunction() {
+        @Override
+        public float getInterpolation(float input) {
+            return input;
+        }
+    };
+
+    public static final EasingFunction EaseInQuad = new EasingFunction() {
+        @Override
+        public float getInterpolation(float input) {
+            return input * input;
+        }
+    };
+
+    public static final EasingFunction EaseOutQuad = new EasingFunction() {
+        @Override
+        public float getInterpolation(float input) {
+            return -input * (input - 2f);
+        }
+    };
+
+    public static final EasingFunction EaseInOutQuad = new EasingFunction() {
+        @Override
+        public float getInterpolation(float input) {
+
+            float position = input * 2f;
+
+            if (position < 1f)
+                return 0.5f * position * position;
+
+            position -= 1f;
+            return -0.5f * (position * (position - 2f) - 1f);
+        }
+    };
+
+    public static final EasingFunction EaseInCubic = new EasingFunction() {
+        @Override
+        public float getInterpolation(float input) {
+            return input * input * input;
+        }
+    };
+
+    public static final EasingFunction EaseOutCubic = new EasingFunction() {
+        @Override
+        public float getInterpolation(float input) {
+            float position = input - 1f;
+            return position * position * position + 1f;
+        }
+    };
+
+    public static final EasingFunction EaseInOutCubic = new EasingFunction() {
+        @Override
+        public float getInterpolation(float input) {
+
+            float position = input * 2f;
+
+            if (position < 1f)
+                return 0.5f * position * position * position;
+
+            position -= 2f;
+            return 0.5f * (position * position * position + 2f);
+        }
+    };
+
+    public static final EasingFunction EaseInOutSine = new EasingFunction() {
+        @Override
+        public float getInterpolation(float input) {
+            return -0.5f * ((float) Math.cos(Math.PI * input) - 1f);
+        }
+    };
+
+    public static final EasingFunction EaseOutBack = new EasingFunction() {
+        @Override
+        public float getInterpolation(float input) {
+            final float s = 1.70158f;
+            float position = input - 1f;
+            return position * position * ((s + 1f) * position + s) + 1f;
+        }
+    };
+
+    public static final EasingFunction EaseOutBounce = new EasingFunction() {
+        @Override
+        public float getInterpolation(float input) {
+
+            float position = input;
+
+            if (position < (1f / 2.75f)) {
+                return 7.5625f * position * position;
+            } else if (position < (2f / 2.75f)) {
+                position -= (1.5f / 2.75f);
+                return 7.5625f * position * position + 0.75f;
+            } else if (position < (2.5f / 2.75f)) {
+                position -= (2.25f / 2.75f);
+                return 7.5625f * position * position + 0.9375f;
+            } else {
+                position -= (2.625f / 2.75f);
+                return 7.5625f * position * position + 0.984375f;
+            }
+        }
+    };
+}
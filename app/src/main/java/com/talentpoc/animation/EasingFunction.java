@@ -0,0 +1,16 @@
+
+package com.talentpoc.animation;
+
+/**
+ * Maps the elapsed fraction of an animation to the fraction of the change
+ * that should be applied, see Easing for the predefined functions.
+ */
+public interface EasingFunction {
+
+    /**
+     * @param input elapsed fraction of the animation (0-1)
+     * @return the eased fraction, 0 at start and 1 at the end of the
+     *         animation, may overshoot in between
+     */
+    public float getInterpolation(float input);
+}
@@ -3,7 +3,6 @@ package com.talentpoc.charts;
 
 import android.annotation.SuppressLint;
 import android.content.Context;
-import android.graphics.Bitmap;
 import android.graphics.Canvas;
 import android.graphics.Color;
 import android.graphics.Paint;
@@ -41,6 +40,51 @@ public abstract class Chart<T extends ChartData<? extends DataSet<? extends Entr
 
     public static final String LOG_TAG = "TalentPOC";
 
+    /**
+     * The stages of the pipeline that prepares the data for drawing, in the
+     * order they are computed. Invalidating a stage invalidates the stages
+     * that depend on it, see invalidateStage(...).
+     */
+    public enum Stage {
+        /** min and max of the data, the default formatters */
+        DATA_STATS,
+        /** the entries of the y-axis */
+        AXIS_TICKS,
+        /** the x-axis labels and their size */
+        LABEL_METRICS,
+        /** the offsets of the content rect, depend on the size of the view */
+        OFFSETS,
+        /** size independent caches derived from the data and the y-axis */
+        GEOMETRY
+    }
+
+    private static final Stage[] STAGES = Stage.values();
+
+    /** bit mask of each stage and the stages that depend on it */
+    private static final int[] DOWNSTREAM = new int[STAGES.length];
+
+    static {
+        DOWNSTREAM[Stage.GEOMETRY.ordinal()] = bit(Stage.GEOMETRY);
+        DOWNSTREAM[Stage.OFFSETS.ordinal()] = bit(Stage.OFFSETS);
+        DOWNSTREAM[Stage.LABEL_METRICS.ordinal()] = bit(Stage.LABEL_METRICS)
+                | DOWNSTREAM[Stage.OFFSETS.ordinal()];
+        DOWNSTREAM[Stage.AXIS_TICKS.ordinal()] = bit(Stage.AXIS_TICKS)
+                | DOWNSTREAM[Stage.GEOMETRY.ordinal()];
+        DOWNSTREAM[Stage.DATA_STATS.ordinal()] = bit(Stage.DATA_STATS)
+                | DOWNSTREAM[Stage.AXIS_TICKS.ordinal()]
+                | DOWNSTREAM[Stage.LABEL_METRICS.ordinal()];
+    }
+
+    private static int bit(Stage stage) {
+        return 1 << stage.ordinal();
+    }
+
+    /** bit mask of the stages that need to be computed */
+    private int mDirtyStages = DOWNSTREAM[Stage.DATA_STATS.ordinal()];
+
+    /** how often each stage was computed */
+    private final int[] mStageRunCounts = new int[STAGES.length];
+
     /**
      * flag that indicates if logging is enabled or not
      */
@@ -59,13 +103,13 @@ public abstract class Chart<T extends ChartData<? extends DataSet<? extends Entr
 
     /**
      * paint object used for drawing the description text in the bottom right
-     * corner of the chart
+     * corner of the chart, created on first use
      */
     protected Paint mDescPaint;
 
     /**
      * paint object for drawing the information text when there are no values in
-     * the chart
+     * the chart, created on first use
      */
     protected Paint mInfoPaint;
 
@@ -158,18 +202,6 @@ public abstract class Chart<T extends ChartData<? extends DataSet<? extends Entr
 
         mViewPortHandler = new ViewPortHandler();
 
-        mDescPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
-        mDescPaint.setColor(Color.BLACK);
-        mDescPaint.setTextAlign(Align.RIGHT);
-        mDescPaint.setTextSize(Utils.convertDpToPixel(9f));
-
-        mInfoPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
-        mInfoPaint.setColor(Color.rgb(247, 189, 51)); // orange
-        mInfoPaint.setTextAlign(Align.CENTER);
-        mInfoPaint.setTextSize(Utils.convertDpToPixel(12f));
-
-        mDrawPaint = new Paint(Paint.DITHER_FLAG);
-
         if (mLogEnabled)
             Log.i("", "Chart.init()");
     }
@@ -191,7 +223,6 @@ public abstract class Chart<T extends ChartData<? extends DataSet<? extends Entr
 
         // LET THE CHART KNOW THERE IS DATA
         mDataNotSet = false;
-        mOffsetsCalculated = false;
         mData = data;
 
         // calculate how many digits are needed
@@ -215,6 +246,100 @@ public abstract class Chart<T extends ChartData<? extends DataSet<? extends Entr
      */
     public abstract void notifyDataSetChanged();
 
+    /**
+     * Marks the given stage and all stages that depend on it as invalid. They
+     * are computed again with the next updateStages() or when the chart is
+     * drawn, e.g. invalidate LABEL_METRICS after changing the text size of the
+     * x-axis.
+     *
+     * @param stage
+     */
+    public void invalidateStage(Stage stage) {
+        mDirtyStages |= DOWNSTREAM[stage.ordinal()];
+    }
+
+    /**
+     * Returns true if the given stage needs to be computed.
+     *
+     * @param stage
+     * @return
+     */
+    public boolean isStageDirty(Stage stage) {
+        return (mDirtyStages & bit(stage)) != 0;
+    }
+
+    /**
+     * Computes all invalid stages in order. Does nothing if no data is set.
+     */
+    public void updateStages() {
+
+        if (mDataNotSet)
+            return;
+
+        invalidateChangedStages();
+
+        if (mDirtyStages == 0)
+            return;
+
+        for (Stage stage : STAGES) {
+
+            if (!isStageDirty(stage))
+                continue;
+
+            mDirtyStages &= ~bit(stage);
+            mStageRunCounts[stage.ordinal()]++;
+
+            computeStage(stage);
+        }
+    }
+
+    /**
+     * Invalidates the stages that depend on properties which changed since
+     * the last updateStages(), e.g. properties of the axes that do not know
+     * the chart they belong to.
+     */
+    protected void invalidateChangedStages() {
+    }
+
+    /**
+     * Computes the given stage, the stages it depends on are already
+     * computed.
+     *
+     * @param stage
+     */
+    protected void computeStage(Stage stage) {
+
+        switch (stage) {
+            case DATA_STATS:
+                calcMinMax();
+                break;
+            case OFFSETS:
+                calculateOffsets();
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Returns how often the given stage was computed, to see which stages a
+     * change caused to run.
+     *
+     * @param stage
+     * @return
+     */
+    public int getStageRunCount(Stage stage) {
+        return mStageRunCounts[stage.ordinal()];
+    }
+
+    /**
+     * Sets the run counts of all stages to zero.
+     */
+    public void resetStageRunCounts() {
+        for (int i = 0; i < mStageRunCounts.length; i++)
+            mStageRunCounts[i] = 0;
+    }
+
     /**
      * calculates the offsets of the chart to the border depending on the
      * position of an eventual legend or depending on the length of the y-axis
@@ -243,25 +368,14 @@ public abstract class Chart<T extends ChartData<? extends DataSet<? extends Entr
         }
 
         int digits = Utils.getDecimals(reference);
-        mDefaultFormatter = new DefaultValueFormatter(digits);
-    }
 
-    /**
-     * flag that indicates if offsets calculation has already been done or not
-     */
-    private boolean mOffsetsCalculated = false;
-
-    /**
-     * Bitmap object used for drawing. This is necessary because hardware
-     * acceleration uses OpenGL which only allows a specific texture size to be
-     * drawn on the canvas directly.
-     */
-    protected Bitmap mDrawBitmap;
+        // keep the formatter the DataSets already use
+        if (mDefaultFormatter instanceof DefaultValueFormatter
+                && ((DefaultValueFormatter) mDefaultFormatter).getDecimals() == digits)
+            return;
 
-    /**
-     * paint object used for drawing the bitmap
-     */
-    protected Paint mDrawPaint;
+        mDefaultFormatter = new DefaultValueFormatter(digits);
+    }
 
     @Override
     protected void onDraw(Canvas canvas) {
@@ -274,21 +388,18 @@ public abstract class Chart<T extends ChartData<? extends DataSet<? extends Entr
             // data
 
             // if no data, inform the user
-            canvas.drawText(mNoDataText, getWidth() / 2, getHeight() / 2, mInfoPaint);
+            Paint infoPaint = getPaint(PAINT_INFO);
+            canvas.drawText(mNoDataText, getWidth() / 2, getHeight() / 2, infoPaint);
 
             if (!TextUtils.isEmpty(mNoDataTextDescription)) {
-                float textOffset = -mInfoPaint.ascent() + mInfoPaint.descent();
+                float textOffset = -infoPaint.ascent() + infoPaint.descent();
                 canvas.drawText(mNoDataTextDescription, getWidth() / 2, (getHeight() / 2)
-                        + textOffset, mInfoPaint);
+                        + textOffset, infoPaint);
             }
             return;
         }
 
-        if (!mOffsetsCalculated) {
-
-            calculateOffsets();
-            mOffsetsCalculated = true;
-        }
+        updateStages();
 
 
     }
@@ -557,8 +668,20 @@ public abstract class Chart<T extends ChartData<? extends DataSet<? extends Entr
     public Paint getPaint(int which) {
         switch (which) {
             case PAINT_INFO:
+                if (mInfoPaint == null) {
+                    mInfoPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+                    mInfoPaint.setColor(Color.rgb(247, 189, 51)); // orange
+                    mInfoPaint.setTextAlign(Align.CENTER);
+                    mInfoPaint.setTextSize(Utils.convertDpToPixel(12f));
+                }
                 return mInfoPaint;
             case PAINT_DESCRIPTION:
+                if (mDescPaint == null) {
+                    mDescPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+                    mDescPaint.setColor(Color.BLACK);
+                    mDescPaint.setTextAlign(Align.RIGHT);
+                    mDescPaint.setTextSize(Utils.convertDpToPixel(9f));
+                }
                 return mDescPaint;
         }
 
@@ -676,12 +799,6 @@ public abstract class Chart<T extends ChartData<? extends DataSet<? extends Entr
             Log.i(LOG_TAG, "OnSizeChanged()");
 
         if (w > 0 && h > 0 && w < 10000 && h < 10000) {
-            // create a new bitmap with the new dimensions
-
-            if (mDrawBitmap != null)
-                mDrawBitmap.recycle();
-
-            mDrawBitmap = Bitmap.createBitmap(w, h, Bitmap.Config.ARGB_4444);
             mViewPortHandler.setChartDimens(w, h);
 
             if (mLogEnabled)
@@ -689,7 +806,10 @@ public abstract class Chart<T extends ChartData<? extends DataSet<? extends Entr
 
         }
 
-        notifyDataSetChanged();
+        // a size change only moves the content rect, the first one computes
+        // everything since the axes are usually set up after setData(...)
+        invalidateStage(oldw == 0 && oldh == 0 ? Stage.DATA_STATS : Stage.OFFSETS);
+        updateStages();
 
         super.onSizeChanged(w, h, oldw, oldh);
     }
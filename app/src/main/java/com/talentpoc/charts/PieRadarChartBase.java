@@ -10,6 +10,9 @@ import com.talentpoc.components.XAxis;
 import com.talentpoc.data.ChartData;
 import com.talentpoc.data.DataSet;
 import com.talentpoc.data.Entry;
+import com.talentpoc.listener.RotationGestureDetector;
+import com.talentpoc.utils.FastTrig;
+import com.talentpoc.utils.RadarGeometry;
 import com.talentpoc.utils.Utils;
 
 /**
@@ -26,6 +29,23 @@ public abstract class PieRadarChartBase<T extends ChartData<? extends DataSet<?
     /** holds the raw version of the current rotation angle of the chart */
     private float mRawRotationAngle = 270f;
 
+    /**
+     * rotation in degrees applied on top of the rotation angle while the
+     * chart is rotated by a gesture, see setRotationOffset(...)
+     */
+    private float mRotationOffset = 0f;
+
+    /** flag that indicates if rotation by touch gestures is enabled */
+    private boolean mRotateEnabled = false;
+
+    /**
+     * flag that indicates if positions and touch angles are computed with the
+     * float approximations of FastTrig
+     */
+    private boolean mFastTrigEnabled = false;
+
+    /** detects the rotation gestures and flings */
+    protected RotationGestureDetector mRotationDetector;
 
     public PieRadarChartBase(Context context) {
         super(context);
@@ -42,6 +62,14 @@ public abstract class PieRadarChartBase<T extends ChartData<? extends DataSet<?
     @Override
     protected void init() {
         super.init();
+
+        mRotationDetector = new RotationGestureDetector(this);
+    }
+
+    @Override
+    public void computeScroll() {
+        if (mRotationDetector != null)
+            mRotationDetector.computeScroll();
     }
 
     @Override
@@ -55,8 +83,8 @@ public abstract class PieRadarChartBase<T extends ChartData<? extends DataSet<?
         if (mDataNotSet)
             return;
 
-        calcMinMax();
-        calculateOffsets();
+        invalidateStage(Stage.DATA_STATS);
+        updateStages();
     }
 
     @Override
@@ -81,8 +109,8 @@ public abstract class PieRadarChartBase<T extends ChartData<? extends DataSet<?
 
     /**
      * returns the angle relative to the chart center for the given point on the
-     * chart in degrees. The angle is always between 0 and 360°, 0° is NORTH,
-     * 90° is EAST, ...
+     * chart in degrees. The angle is always between 0 and 360°, 0° is EAST,
+     * 90° is SOUTH, ... (the orientation the rotation angle uses)
      * 
      * @param x
      * @param y
@@ -90,25 +118,10 @@ public abstract class PieRadarChartBase<T extends ChartData<? extends DataSet<?
      */
     public float getAngleForPoint(float x, float y) {
 
-        PointF c = getCenterOffsets();
-
-        double tx = x - c.x, ty = y - c.y;
-        double length = Math.sqrt(tx * tx + ty * ty);
-        double r = Math.acos(ty / length);
-
-        float angle = (float) Math.toDegrees(r);
-
-        if (x > c.x)
-            angle = 360f - angle;
-
-        // add 90° because chart starts EAST
-        angle = angle + 90f;
-
-        // neutralize overflow
-        if (angle > 360f)
-            angle = angle - 360f;
+        RectF content = mViewPortHandler.getContentRect();
 
-        return angle;
+        return RadarGeometry.getAngle(content.centerX(), content.centerY(), x, y,
+                mFastTrigEnabled);
     }
 
     /**
@@ -122,6 +135,10 @@ public abstract class PieRadarChartBase<T extends ChartData<? extends DataSet<?
      */
     protected PointF getPosition(PointF center, float dist, float angle) {
 
+        if (mFastTrigEnabled)
+            return new PointF(center.x + dist * FastTrig.cos(angle),
+                    center.y + dist * FastTrig.sin(angle));
+
         PointF p = new PointF((float) (center.x + dist * Math.cos(Math.toRadians(angle))),
                 (float) (center.y + dist * Math.sin(Math.toRadians(angle))));
         return p;
@@ -157,11 +174,32 @@ public abstract class PieRadarChartBase<T extends ChartData<? extends DataSet<?
         }
 
         // pythagoras
-        dist = (float) Math.sqrt(Math.pow(xDist, 2.0) + Math.pow(yDist, 2.0));
+        dist = (float) Math.sqrt(xDist * xDist + yDist * yDist);
 
         return dist;
     }
 
+    /**
+     * If set to true, positions and touch angles are computed with float
+     * approximations instead of java.lang.Math, with an error far below a
+     * pixel (see FastTrig). Default: false
+     *
+     * @param enabled
+     */
+    public void setFastTrigEnabled(boolean enabled) {
+        mFastTrigEnabled = enabled;
+    }
+
+    /**
+     * Returns true if positions and touch angles are computed with the float
+     * approximations of FastTrig.
+     *
+     * @return
+     */
+    public boolean isFastTrigEnabled() {
+        return mFastTrigEnabled;
+    }
+
     /**
      * Returns the xIndex for the given angle around the center of the chart.
      * Returns -1 if not found / outofbounds.
@@ -173,13 +211,15 @@ public abstract class PieRadarChartBase<T extends ChartData<? extends DataSet<?
 
     /**
      * Set an offset for the rotation of the RadarChart in degrees. Default 270f
-     * --> top (NORTH)
+     * --> top (NORTH). No stage depends on the angle, the caches are projected
+     * with it when the chart is drawn, so the chart is only redrawn.
      * 
      * @param angle
      */
     public void setRotationAngle(float angle) {
         mRawRotationAngle = angle;
         mRotationAngle = Utils.getNormalizedAngle(mRawRotationAngle);
+        invalidate();
     }
 
     /**
@@ -204,6 +244,63 @@ public abstract class PieRadarChartBase<T extends ChartData<? extends DataSet<?
         return mRotationAngle;
     }
 
+    /**
+     * Sets the rotation in degrees that is applied on top of the rotation
+     * angle while the chart is rotated by a gesture. The offset is drawn as a
+     * rotation of the whole canvas, the geometry of the chart is not
+     * recalculated until the offset is committed.
+     *
+     * @param offset
+     */
+    public void setRotationOffset(float offset) {
+        if (offset != mRotationOffset) {
+            mRotationOffset = offset;
+            invalidate();
+        }
+    }
+
+    public float getRotationOffset() {
+        return mRotationOffset;
+    }
+
+    /**
+     * Adds the current rotation offset to the rotation angle and resets the
+     * offset, so the chart is projected again with the new angle.
+     */
+    public void commitRotationOffset() {
+
+        if (mRotationOffset == 0f)
+            return;
+
+        setRotationAngle(mRawRotationAngle + mRotationOffset);
+        mRotationOffset = 0f;
+    }
+
+    /**
+     * Set this to true to enable the rotation / spinning of the chart by
+     * touch. Set it to false to disable it. With rotation enabled a label is
+     * selected when the tap is released, not when it is touched. Default:
+     * false
+     *
+     * @param enabled
+     */
+    public void setRotationEnabled(boolean enabled) {
+        mRotateEnabled = enabled;
+
+        if (!enabled && mRotationDetector != null)
+            mRotationDetector.stopFling();
+    }
+
+    /**
+     * Returns true if rotation of the chart by touch is enabled, false if
+     * not.
+     *
+     * @return
+     */
+    public boolean isRotationEnabled() {
+        return mRotateEnabled;
+    }
+
 
     /**
      * returns the diameter of the pie- or radar-chart
@@ -4,21 +4,36 @@ package com.talentpoc.charts;
 import android.content.Context;
 import android.graphics.Canvas;
 import android.graphics.Color;
-import android.graphics.PointF;
 import android.graphics.RectF;
 import android.util.AttributeSet;
 import android.view.MotionEvent;
 import android.view.View;
 
+import com.talentpoc.animation.ChartAnimator;
+import com.talentpoc.animation.EasingFunction;
 import com.talentpoc.components.XAxis;
 import com.talentpoc.components.YAxis;
 import com.talentpoc.data.RadarData;
+import com.talentpoc.data.RadarDataSet;
+import com.talentpoc.interfaces.DrawingSurface;
 import com.talentpoc.listener.ChartLabelSelectedListener;
+import com.talentpoc.listener.OnChartValueSelectedListener;
 import com.talentpoc.renderer.RadarChartRenderer;
 import com.talentpoc.renderer.XAxisRendererRadarChart;
 import com.talentpoc.renderer.YAxisRendererRadarChart;
+import com.talentpoc.utils.CanvasDrawingSurface;
+import com.talentpoc.utils.Highlight;
+import com.talentpoc.utils.RadarGeometry;
+import com.talentpoc.utils.RadarPolygonCache;
+import com.talentpoc.utils.RadarSharedResources;
+import com.talentpoc.utils.RadarUnitWeb;
+import com.talentpoc.utils.RadarVertexIndex;
+import com.talentpoc.utils.SvgDrawingSurface;
 import com.talentpoc.utils.Utils;
 
+import java.io.IOException;
+import java.io.Writer;
+
 /**
  * Implementation of the RadarChart, a "spidernet"-like chart. It works best
  * when displaying 5-10 entries per DataSet.
@@ -27,7 +42,27 @@ import com.talentpoc.utils.Utils;
  */
 public class RadarChart extends PieRadarChartBase<RadarData> implements View.OnTouchListener {
 
-    private static final int MAX_TOUCH_DISTANCE=50;
+    /**
+     * The layers of a frame in the order they are drawn, see
+     * renderLayer(...).
+     */
+    public enum Layer {
+        /** the x-labels around the web */
+        X_LABELS,
+        /** the rings and spokes of the web */
+        WEB,
+        /** the polygons of the DataSets */
+        DATA,
+        /** the lines through the highlighted vertices */
+        HIGHLIGHTS,
+        /** the values of the DataSets that draw them at their vertices */
+        VALUES,
+        /** the y-labels along the first spoke */
+        Y_LABELS
+    }
+
+    private static final Layer[] LAYERS = Layer.values();
+
 
     /**
      * width of the main web lines
@@ -71,9 +106,67 @@ public class RadarChart extends PieRadarChartBase<RadarData> implements View.OnT
 
     private ChartLabelSelectedListener mChartLabelSelectedListener;
 
+    /**
+     * squared distances in pixels within which a touch selects a label or a
+     * vertex of a DataSet
+     */
+    private float mLabelTouchRadiusSq;
+    private float mVertexTouchRadiusSq;
+
     protected YAxisRendererRadarChart mYAxisRenderer;
     protected XAxisRendererRadarChart mXAxisRenderer;
 
+    /**
+     * surface that forwards to the canvas provided in onDraw(...), created
+     * with the first frame unless a shared one is used
+     */
+    private CanvasDrawingSurface mCanvasSurface;
+
+    /** the directions of the web vertices, see getUnitWeb() */
+    private RadarUnitWeb mUnitWeb;
+
+    /**
+     * animates the polygons of the DataSets when the data changes, see
+     * animateDataChange(...)
+     */
+    private ChartAnimator mAnimator;
+
+    /**
+     * buffer for the vertices of a polygon before the data changes
+     */
+    private float[] mVertexBuffer = new float[0];
+
+    /** index of the DataSet vertices for finding the touched vertex */
+    private RadarVertexIndex mVertexIndex = new RadarVertexIndex();
+
+    /** DataSets that were added to the vertex index */
+    private boolean[] mIndexedDataSets = new boolean[0];
+
+    /** receives x-index and DataSet index of a vertex index query */
+    private final int[] mHitBuffer = new int[2];
+
+    /** change counts of the axes when the stages were last invalidated */
+    private int mYAxisRangeChangeCount;
+    private int mYAxisEntryChangeCount;
+    private int mXAxisChangeCount;
+
+    /**
+     * array of Highlight objects that reference the highlighted vertices in
+     * the chart, null if nothing is highlighted
+     */
+    private Highlight[] mIndicesToHighlight;
+
+    private OnChartValueSelectedListener mSelectionListener;
+
+    /** the style this chart shares its resources with, null if none */
+    private String mSharedStyle;
+
+    /**
+     * resources shared with charts of the same style, null if not shared or
+     * while the chart is detached
+     */
+    private RadarSharedResources mSharedResources;
+
     public RadarChart(Context context) {
         super(context);
         setOnTouchListener(this);
@@ -98,6 +191,16 @@ public class RadarChart extends PieRadarChartBase<RadarData> implements View.OnT
         this.mChartLabelSelectedListener = mChartLabelSelectedListener;
     }
 
+    /**
+     * set a selection listener for the chart, it is called when a vertex is
+     * highlighted by touch
+     *
+     * @param l
+     */
+    public void setOnChartValueSelectedListener(OnChartValueSelectedListener l) {
+        this.mSelectionListener = l;
+    }
+
     @Override
     protected void init() {
         super.init();
@@ -109,11 +212,213 @@ public class RadarChart extends PieRadarChartBase<RadarData> implements View.OnT
         mWebLineWidth = Utils.convertDpToPixel(1.5f);
         mInnerWebLineWidth = Utils.convertDpToPixel(0.75f);
 
+        setLabelTouchRadius(25f);
+        setVertexTouchRadius(16f);
+
+        mAnimator = new ChartAnimator(new ChartAnimator.AnimatorUpdateListener() {
+            @Override
+            public void onAnimationUpdate(ChartAnimator animator) {
+                invalidate();
+            }
+        });
+
         mRenderer = new RadarChartRenderer(this, mViewPortHandler);
         mYAxisRenderer = new YAxisRendererRadarChart(mViewPortHandler, mYAxis, this);
         mXAxisRenderer = new XAxisRendererRadarChart(mViewPortHandler, mXAxis, this);
     }
 
+    @Override
+    public void setData(RadarData data) {
+        mAnimator.cancel();
+        mIndicesToHighlight = null;
+        super.setData(data);
+    }
+
+    @Override
+    protected void onAttachedToWindow() {
+        super.onAttachedToWindow();
+        obtainSharedResources();
+    }
+
+    @Override
+    protected void onDetachedFromWindow() {
+        super.onDetachedFromWindow();
+
+        // a detached chart is not drawn, the animation would keep posting
+        // frames; the chart shows the new data when it is attached again
+        mAnimator.cancel();
+
+        // the registry drops the style once no attached chart uses it, the
+        // resources are obtained again on attach
+        if (mSharedResources != null) {
+            mSharedResources.release();
+            mSharedResources = null;
+        }
+    }
+
+    /**
+     * Sets the new data and animates the polygons of the DataSets from their
+     * current shape to the new values. The data is processed only once, the
+     * frames of the animation only interpolate the vertices. Works for
+     * different numbers of x-values and DataSets: the current polygons are
+     * resampled to the new number of x-values, new DataSets grow from the
+     * center. The web and the labels change immediately.
+     *
+     * @param data
+     * @param durationMillis
+     * @param easing
+     */
+    public void animateDataChange(RadarData data, int durationMillis, EasingFunction easing) {
+
+        if (data == null || data.getXValCount() == 0) {
+            setData(data);
+            return;
+        }
+
+        RadarChartRenderer renderer = (RadarChartRenderer) mRenderer;
+        boolean wasRunning = mAnimator.isRunning();
+        int oldSeriesCount = wasRunning ? mAnimator.getSeriesCount()
+                : mDataNotSet ? 0 : mData.getDataSetCount();
+
+        mAnimator.cancel();
+
+        int seriesCount = data.getDataSetCount();
+        mAnimator.setSeriesCount(seriesCount);
+
+        // the polygons as they are drawn right now, resampled to the new
+        // number of x-values
+        for (int i = 0; i < seriesCount; i++) {
+
+            int oldCount = 0;
+
+            if (i < oldSeriesCount) {
+
+                if (wasRunning) {
+                    oldCount = mAnimator.getValueCount(i);
+                    ensureVertexBuffer(oldCount);
+                    System.arraycopy(mAnimator.getValues(i), 0, mVertexBuffer, 0, oldCount);
+                } else {
+                    ensureVertexBuffer(mData.getDataSetByIndex(i).getEntryCount());
+                    oldCount = renderer.computeNormalizedVertices(mData.getDataSetByIndex(i),
+                            mVertexBuffer);
+                }
+            }
+
+            int count = data.getDataSetByIndex(i).getEntryCount();
+
+            RadarGeometry.resamplePolygon(mVertexBuffer, oldCount,
+                    mAnimator.getStartBuffer(i, count), count);
+        }
+
+        mIndicesToHighlight = null;
+        super.setData(data);
+
+        for (int i = 0; i < seriesCount; i++)
+            renderer.computeNormalizedVertices(data.getDataSetByIndex(i),
+                    mAnimator.getTargetBuffer(i));
+
+        mAnimator.start(durationMillis, easing);
+        invalidate();
+    }
+
+    private void ensureVertexBuffer(int size) {
+        if (mVertexBuffer.length < size)
+            mVertexBuffer = new float[size];
+    }
+
+    /**
+     * Lets this chart share the directions of its web vertices and its Paint
+     * objects with all other charts of the given style, see
+     * RadarSharedResources. Use it for many charts with the same styling,
+     * e.g. a grid of charts, right after creating them, so they never create
+     * Paints of their own. Null makes the chart use resources of its own
+     * again.
+     *
+     * @param key
+     */
+    public void setSharedStyle(String key) {
+
+        if (key == null ? mSharedStyle == null : key.equals(mSharedStyle))
+            return;
+
+        if (mSharedResources != null) {
+            mSharedResources.release();
+            mSharedResources = null;
+        }
+
+        mSharedStyle = key;
+        mUnitWeb = null;
+
+        if (key == null) {
+            // created again when they are needed
+            mCanvasSurface = null;
+            mXAxisRenderer.setPaintAxisLabels(null);
+            mYAxisRenderer.setPaintAxisLabels(null);
+        } else {
+            obtainSharedResources();
+        }
+
+        // other Paints, the data is unchanged
+        invalidateStage(Stage.LABEL_METRICS);
+        updateStages();
+        invalidate();
+    }
+
+    /**
+     * Returns the key of the style this chart shares its resources with, null
+     * if it does not share them.
+     *
+     * @return
+     */
+    public String getSharedStyle() {
+        return mSharedStyle;
+    }
+
+    /**
+     * Obtains the resources of the shared style from the registry, unless
+     * the chart does not share them or already holds them.
+     */
+    private void obtainSharedResources() {
+
+        if (mSharedStyle == null || mSharedResources != null)
+            return;
+
+        mSharedResources = RadarSharedResources.obtain(mSharedStyle);
+        mCanvasSurface = mSharedResources.getSurface();
+        mXAxisRenderer.setPaintAxisLabels(mSharedResources.getAxisLabelPaint());
+        mYAxisRenderer.setPaintAxisLabels(mSharedResources.getAxisLabelPaint());
+    }
+
+    /**
+     * Returns the directions of the web vertices for the current number of
+     * x-values and rotation angle. They are shared with the charts of the
+     * same style, the web and the labels of this chart are scaled from them.
+     *
+     * @return
+     */
+    public RadarUnitWeb getUnitWeb() {
+
+        int count = mData.getXValCount();
+        float rotation = getRotationAngle();
+
+        if (mUnitWeb == null || !mUnitWeb.matches(count, rotation)) {
+            mUnitWeb = mSharedResources != null
+                    ? mSharedResources.getUnitWeb(count, rotation)
+                    : new RadarUnitWeb(count, rotation);
+        }
+
+        return mUnitWeb;
+    }
+
+    /**
+     * Returns the animator that interpolates the polygons of the DataSets.
+     *
+     * @return
+     */
+    public ChartAnimator getAnimator() {
+        return mAnimator;
+    }
+
     @Override
     protected void calcMinMax() {
         super.calcMinMax();
@@ -146,20 +451,70 @@ public class RadarChart extends PieRadarChartBase<RadarData> implements View.OnT
 
 
     @Override
-    public void notifyDataSetChanged() {
-        if (mDataNotSet)
-            return;
+    protected void invalidateChangedStages() {
 
-        calcMinMax();
+        if (mYAxisRangeChangeCount != mYAxis.getRangeChangeCount()) {
+            mYAxisRangeChangeCount = mYAxis.getRangeChangeCount();
+            invalidateStage(Stage.DATA_STATS);
+        }
 
-        if (mYAxis.needsDefaultFormatter()) {
-            mYAxis.setValueFormatter(mDefaultFormatter);
+        if (mYAxisEntryChangeCount != mYAxis.getEntryChangeCount()) {
+            mYAxisEntryChangeCount = mYAxis.getEntryChangeCount();
+            invalidateStage(Stage.AXIS_TICKS);
         }
 
-        mYAxisRenderer.computeAxis(mYAxis.mAxisMinimum, mYAxis.mAxisMaximum);
-        mXAxisRenderer.computeAxis(mData.getXValAverageLength(), mData.getXVals());
+        if (mXAxisChangeCount != mXAxis.getChangeCount()) {
+            mXAxisChangeCount = mXAxis.getChangeCount();
+            invalidateStage(Stage.LABEL_METRICS);
+        }
+    }
 
-        calculateOffsets();
+    @Override
+    protected void computeStage(Stage stage) {
+
+        switch (stage) {
+            case DATA_STATS:
+                calcMinMax();
+
+                if (mYAxis.needsDefaultFormatter())
+                    mYAxis.setValueFormatter(mDefaultFormatter);
+                break;
+            case AXIS_TICKS:
+                mYAxisRenderer.computeAxis(mYAxis.mAxisMinimum, mYAxis.mAxisMaximum);
+                break;
+            case LABEL_METRICS:
+                mXAxisRenderer.computeAxis(mData.getXValAverageLength(), mData.getXVals());
+                break;
+            case OFFSETS:
+                calculateOffsets();
+                break;
+            case GEOMETRY:
+                mVertexIndex.invalidate();
+                ((RadarChartRenderer) mRenderer).invalidatePolygonCache();
+
+                // the targets are normalized to the value range, e.g. the
+                // axis minimum may change after the animation started
+                if (mAnimator.isRunning())
+                    updateAnimationTargets();
+                break;
+        }
+    }
+
+    /**
+     * Normalizes the target polygons of the running data animation again.
+     */
+    private void updateAnimationTargets() {
+
+        RadarChartRenderer renderer = (RadarChartRenderer) mRenderer;
+        int count = Math.min(mAnimator.getSeriesCount(), mData.getDataSetCount());
+
+        for (int i = 0; i < count; i++) {
+
+            RadarDataSet set = mData.getDataSetByIndex(i);
+
+            if (set.getEntryCount() == mAnimator.getValueCount(i))
+                renderer.computeNormalizedVertices(set, mAnimator.getTargetBuffer(i));
+        }
     }
 
     @Override
@@ -169,17 +524,113 @@ public class RadarChart extends PieRadarChartBase<RadarData> implements View.OnT
         if (mDataNotSet)
             return;
 
-        mXAxisRenderer.renderAxisLabels(canvas);
+        if (mCanvasSurface == null)
+            mCanvasSurface = new CanvasDrawingSurface();
 
-        if (mDrawWeb)
-            mRenderer.drawExtras(canvas);
+        mCanvasSurface.setCanvas(canvas);
 
-        mRenderer.drawData(canvas);
+        float offset = getRotationOffset();
 
-        mYAxisRenderer.renderAxisLabels(canvas);
+        if (offset == 0f) {
+            renderTo(mCanvasSurface);
+            return;
+        }
 
-      //  mRenderer.drawValues(canvas);
+        // while rotating by touch the web and the polygons are drawn as they
+        // are and turned as a whole, the texts stay upright and only move
+        // with the offset. The cached geometry is projected again when the
+        // rotation is committed
+        RectF content = mViewPortHandler.getContentRect();
+        float centerX = content.centerX();
+        float centerY = content.centerY();
+
+        for (Layer layer : LAYERS) {
+
+            if (isTextLayer(layer)) {
+                mCanvasSurface.setTextRotation(offset, centerX, centerY);
+                renderLayer(mCanvasSurface, layer);
+                mCanvasSurface.setTextRotation(0f, centerX, centerY);
+            } else {
+                int count = canvas.save();
+                canvas.rotate(offset, centerX, centerY);
+                renderLayer(mCanvasSurface, layer);
+                canvas.restoreToCount(count);
+            }
+        }
+    }
 
+    /**
+     * Returns true if the given layer only draws texts.
+     */
+    private static boolean isTextLayer(Layer layer) {
+        return layer == Layer.X_LABELS || layer == Layer.VALUES || layer == Layer.Y_LABELS;
+    }
+
+    /**
+     * Draws the whole chart (labels, web, data, values) onto the given
+     * surface. This is what onDraw(...) does with the canvas of the view.
+     *
+     * @param s
+     */
+    public void renderTo(DrawingSurface s) {
+
+        if (mDataNotSet)
+            return;
+
+        for (Layer layer : LAYERS)
+            renderLayer(s, layer);
+    }
+
+    /**
+     * Draws a single layer of the chart onto the given surface. Drawing all
+     * layers in the order of the Layer enum is what renderTo(...) does, e.g.
+     * to measure the layers of a frame separately.
+     *
+     * @param s
+     * @param layer
+     */
+    public void renderLayer(DrawingSurface s, Layer layer) {
+
+        if (mDataNotSet)
+            return;
+
+        switch (layer) {
+            case X_LABELS:
+                mXAxisRenderer.renderAxisLabels(s);
+                break;
+            case WEB:
+                if (mDrawWeb)
+                    mRenderer.drawExtras(s);
+                break;
+            case DATA:
+                mRenderer.drawData(s);
+                break;
+            case HIGHLIGHTS:
+                if (valuesToHighlight())
+                    ((RadarChartRenderer) mRenderer).drawHighlighted(s, mIndicesToHighlight);
+                break;
+            case VALUES:
+                mRenderer.drawValues(s);
+                break;
+            case Y_LABELS:
+                mYAxisRenderer.renderAxisLabels(s);
+                break;
+        }
+    }
+
+    /**
+     * Streams the chart as SVG document with the current size of the view to
+     * the given writer. The writer is flushed but not closed.
+     *
+     * @param writer
+     * @throws IOException
+     */
+    public void writeSvg(Writer writer) throws IOException {
+
+        SvgDrawingSurface s = new SvgDrawingSurface(writer);
+        s.startDocument(getWidth(), getHeight());
+        renderTo(s);
+        s.endDocument();
     }
 
     /**
@@ -189,8 +640,7 @@ public class RadarChart extends PieRadarChartBase<RadarData> implements View.OnT
      */
     public float getFactor() {
         RectF content = mViewPortHandler.getContentRect();
-        return (float) Math.min(content.width() / 2f, content.height() / 2f)
-                / mYAxis.mAxisRange;
+        return RadarGeometry.getFactor(content.width(), content.height(), mYAxis.mAxisRange);
     }
 
     /**
@@ -199,23 +649,256 @@ public class RadarChart extends PieRadarChartBase<RadarData> implements View.OnT
      * @return
      */
     public float getSliceAngle() {
-        return 360f / (float) mData.getXValCount();
+        return RadarGeometry.getSliceAngle(mData.getXValCount());
     }
 
     @Override
     public int getIndexForAngle(float angle) {
 
         // take the current angle of the chart into consideration
-        float a = Utils.getNormalizedAngle(angle - getRotationAngle());
+        return Math.max(0, RadarGeometry.getIndexForAngle(angle, getRotationAngle(),
+                mData.getXValCount()));
+    }
+
+    /**
+     * Sets the distance in dp within which a touch selects a label. Default:
+     * 25dp
+     *
+     * @param dp
+     */
+    public void setLabelTouchRadius(float dp) {
+        float px = Utils.convertDpToPixel(dp);
+        mLabelTouchRadiusSq = px * px;
+    }
+
+    /**
+     * Sets the distance in dp within which a touch hits a vertex of a
+     * DataSet, see getDataSetIndexAt(...). Default: 16dp
+     *
+     * @param dp
+     */
+    public void setVertexTouchRadius(float dp) {
+        float px = Utils.convertDpToPixel(dp);
+        mVertexTouchRadiusSq = px * px;
+    }
+
+    /**
+     * Returns the x-index of the label at the given touch position, -1 if no
+     * label is within the label touch radius. Only the label of the slice the
+     * position lies in is checked. The labels are hit-tested where they are
+     * shown, including a rotation offset that is not committed yet.
+     *
+     * @param x
+     * @param y
+     * @return
+     */
+    public int getLabelIndexAt(float x, float y) {
+
+        if (mDataNotSet)
+            return -1;
+
+        // the rotation angle may have changed since the last frame, e.g. a
+        // tap that stops a fling commits the rotation offset
+        updateStages();
 
-        float sliceangle = getSliceAngle();
+        float offset = getRotationOffset();
 
-        for (int i = 0; i < mData.getXValCount(); i++) {
-            if (sliceangle * (i + 1) - sliceangle / 2f > a)
-                return i;
+        if (offset != 0f) {
+
+            // the labels are shown rotated by the offset around the center,
+            // rotate the touch position back into the layout
+            RectF content = mViewPortHandler.getContentRect();
+            float dx = x - content.centerX();
+            float dy = y - content.centerY();
+            double rad = Math.toRadians(-offset);
+            float cos = (float) Math.cos(rad);
+            float sin = (float) Math.sin(rad);
+
+            x = content.centerX() + dx * cos - dy * sin;
+            y = content.centerY() + dx * sin + dy * cos;
         }
 
-        return 0;
+        return mXAxisRenderer.getLabelLayout().getLabelAt(x, y, mLabelTouchRadiusSq);
+    }
+
+    /**
+     * Returns the index of the DataSet with the vertex closest to the given
+     * touch position, -1 if no vertex is within the vertex touch radius.
+     *
+     * @param x
+     * @param y
+     * @return
+     */
+    public int getDataSetIndexAt(float x, float y) {
+
+        Highlight h = getHighlightByTouchPoint(x, y);
+
+        return h == null ? -1 : h.getDataSetIndex();
+    }
+
+    /**
+     * Returns the Highlight of the vertex closest to the given touch position
+     * among all visible DataSets that have highlighting enabled, null if no
+     * vertex is within the vertex touch radius. The vertices are looked up in
+     * a polar index that is only rebuilt when the data changes.
+     *
+     * @param x
+     * @param y
+     * @return
+     */
+    public Highlight getHighlightByTouchPoint(float x, float y) {
+
+        if (mDataNotSet)
+            return null;
+
+        if (!isVertexIndexValid())
+            buildVertexIndex();
+
+        RectF content = mViewPortHandler.getContentRect();
+
+        if (!mVertexIndex.findNearest(x, y, content.centerX(), content.centerY(),
+                getYRange() * getFactor(), getRotationAngle(), mVertexTouchRadiusSq,
+                mHitBuffer))
+            return null;
+
+        return new Highlight(mHitBuffer[0], mHitBuffer[1]);
+    }
+
+    /**
+     * Returns true if the vertex index was built for the current data and the
+     * DataSets that can be highlighted have not changed since.
+     */
+    private boolean isVertexIndexValid() {
+
+        if (!mVertexIndex.isValid() || mIndexedDataSets.length != mData.getDataSetCount())
+            return false;
+
+        for (int i = 0; i < mIndexedDataSets.length; i++) {
+            if (mIndexedDataSets[i] != isIndexable(mData.getDataSetByIndex(i)))
+                return false;
+        }
+
+        return true;
+    }
+
+    private boolean isIndexable(RadarDataSet set) {
+        return set.isVisible() && set.isHighlightEnabled();
+    }
+
+    /**
+     * Builds the vertex index from the normalized polygons the renderer
+     * caches for the DataSets.
+     */
+    private void buildVertexIndex() {
+
+        RadarChartRenderer renderer = (RadarChartRenderer) mRenderer;
+        renderer.updatePolygonCache();
+
+        RadarPolygonCache polygons = renderer.getPolygonCache();
+        int dataSetCount = mData.getDataSetCount();
+
+        if (mIndexedDataSets.length != dataSetCount)
+            mIndexedDataSets = new boolean[dataSetCount];
+
+        mVertexIndex.begin(mData.getXValCount(), dataSetCount);
+
+        for (int i = 0; i < dataSetCount; i++) {
+
+            mIndexedDataSets[i] = isIndexable(mData.getDataSetByIndex(i));
+
+            if (mIndexedDataSets[i])
+                mVertexIndex.add(i, polygons.getRadii(i), polygons.getCount(i));
+        }
+
+        mVertexIndex.finish();
+    }
+
+    /**
+     * Highlights the value at the given x-index in the given DataSet. Provide
+     * -1 as the x-index to undo all highlighting.
+     *
+     * @param xIndex
+     * @param dataSetIndex
+     */
+    public void highlightValue(int xIndex, int dataSetIndex) {
+
+        if (mDataNotSet || xIndex < 0 || dataSetIndex < 0
+                || xIndex >= mData.getXValCount()
+                || dataSetIndex >= mData.getDataSetCount()) {
+
+            highlightValues(null);
+        } else {
+            highlightValues(new Highlight[] {
+                    new Highlight(xIndex, dataSetIndex)
+            });
+        }
+    }
+
+    /**
+     * Highlights the values at the given indices in the given DataSets.
+     * Provide null or an empty array to undo all highlighting. This does not
+     * call the OnChartValueSelectedListener.
+     *
+     * @param highs
+     */
+    public void highlightValues(Highlight[] highs) {
+
+        mIndicesToHighlight = highs != null && highs.length > 0 ? highs : null;
+
+        invalidate();
+    }
+
+    /**
+     * Returns the array of currently highlighted values, null if nothing is
+     * highlighted.
+     *
+     * @return
+     */
+    public Highlight[] getHighlighted() {
+        return mIndicesToHighlight;
+    }
+
+    /**
+     * Returns true if there are values to highlight, false if there are no
+     * values to highlight.
+     *
+     * @return
+     */
+    public boolean valuesToHighlight() {
+        return mIndicesToHighlight != null && mIndicesToHighlight.length > 0
+                && mIndicesToHighlight[0] != null;
+    }
+
+    /**
+     * Highlights the vertex closest to the given touch position and notifies
+     * the OnChartValueSelectedListener. Touching the highlighted vertex again
+     * or touching next to all vertices undoes the highlight.
+     */
+    private void highlightTouch(float x, float y) {
+
+        Highlight h = getHighlightByTouchPoint(x, y);
+
+        if (h == null || (valuesToHighlight() && h.equalTo(mIndicesToHighlight[0]))) {
+
+            if (!valuesToHighlight())
+                return;
+
+            highlightValues(null);
+
+            if (mSelectionListener != null)
+                mSelectionListener.onNothingSelected();
+        } else {
+
+            highlightValues(new Highlight[] {
+                    h
+            });
+
+            if (mSelectionListener != null) {
+                RadarDataSet set = mData.getDataSetByIndex(h.getDataSetIndex());
+                mSelectionListener.onValueSelected(set.getYVals().get(h.getXIndex()),
+                        h.getDataSetIndex(), h);
+            }
+        }
     }
 
     /**
@@ -360,19 +1043,31 @@ public class RadarChart extends PieRadarChartBase<RadarData> implements View.OnT
 
     @Override
     public boolean onTouch(View v, MotionEvent event) {
-        switch (event.getAction()) {
-            case MotionEvent.ACTION_DOWN: {
-                for (int i = 0; i < mXAxis.getLabelPosition().size(); i++) {
-                    PointF startPoint = mXAxis.getLabelPosition().get(i);
-                    float dx = Utils.distance(event.getX(), startPoint.x, event.getY(), startPoint.y);
-                    if (dx <MAX_TOUCH_DISTANCE ) {
-                        mChartLabelSelectedListener.onLabelSelected(i);
-                        return true;
-                    }
 
-                }
+        if (mDataNotSet)
+            return false;
+
+        if (isRotationEnabled() && mRotationDetector.onTouchEvent(event))
+            return true;
+
+        // with rotation enabled a label is selected when a tap is released,
+        // otherwise as soon as it is touched
+        int action = isRotationEnabled() ? MotionEvent.ACTION_UP : MotionEvent.ACTION_DOWN;
+
+        if (event.getActionMasked() != action)
+            return false;
+
+        if (mChartLabelSelectedListener != null) {
+
+            int index = getLabelIndexAt(event.getX(), event.getY());
+
+            if (index >= 0) {
+                mChartLabelSelectedListener.onLabelSelected(index);
+                return true;
             }
         }
-        return false;
+
+        highlightTouch(event.getX(), event.getY());
+        return true;
     }
 }
@@ -0,0 +1,279 @@
+
+package com.talentpoc.charts;
+
+import android.content.Context;
+import android.graphics.Canvas;
+import android.graphics.Rect;
+import android.util.AttributeSet;
+import android.view.View;
+
+import com.talentpoc.data.RadarData;
+import com.talentpoc.renderer.RadarCellRenderer;
+import com.talentpoc.utils.CanvasDrawingSurface;
+import com.talentpoc.utils.RadarPolygonCache;
+import com.talentpoc.utils.Utils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Small multiples: renders a list of RadarData objects as a grid of square
+ * radar cells inside a single View, instead of one RadarChart view per
+ * profile. All cells share one value range, so the profiles are comparable
+ * and the web geometry is computed once for all cells, each cell is drawn by
+ * translating the canvas. Only the rows that intersect the visible clip
+ * bounds are drawn, and the polygons of a cell are only normalized when the
+ * cell becomes visible for the first time, so the view can hold thousands of
+ * profiles (e.g. inside a ScrollView). Cells do not draw labels.
+ */
+public class RadarGridChart extends View {
+
+    /** the profiles, one per cell */
+    private List<RadarData> mData = new ArrayList<>();
+
+    /** number of cells per row */
+    private int mColumnCount = 4;
+
+    /** size of a cell in pixels, computed in onMeasure(...) */
+    private int mCellSize = 0;
+
+    /** draws the cells, holds the value range and the web shared by all cells */
+    private RadarCellRenderer mCellRenderer;
+
+    /** normalized polygons per cell, created when a cell is first drawn */
+    private RadarPolygonCache[] mPolygons = new RadarPolygonCache[0];
+
+    private final CanvasDrawingSurface mSurface = new CanvasDrawingSurface();
+
+    /** the visible part of the view, queried every frame */
+    private final Rect mClipBounds = new Rect();
+
+    public RadarGridChart(Context context) {
+        super(context);
+        init();
+    }
+
+    public RadarGridChart(Context context, AttributeSet attrs) {
+        super(context, attrs);
+        init();
+    }
+
+    public RadarGridChart(Context context, AttributeSet attrs, int defStyle) {
+        super(context, attrs, defStyle);
+        init();
+    }
+
+    private void init() {
+
+        Utils.init(getContext());
+
+        mCellRenderer = new RadarCellRenderer();
+    }
+
+    /**
+     * Sets the profiles shown in the cells, one RadarData per cell.
+     *
+     * @param data
+     */
+    public void setData(List<RadarData> data) {
+
+        mData = data != null ? data : new ArrayList<RadarData>();
+        mPolygons = new RadarPolygonCache[mData.size()];
+
+        notifyDataSetChanged();
+        requestLayout();
+    }
+
+    public List<RadarData> getData() {
+        return mData;
+    }
+
+    /**
+     * Recomputes the value range shared by all cells, call it after values
+     * of the profiles changed.
+     */
+    public void notifyDataSetChanged() {
+
+        mCellRenderer.computeAxis(mData);
+
+        invalidate();
+    }
+
+    @Override
+    protected void onMeasure(int widthMeasureSpec, int heightMeasureSpec) {
+
+        int width = MeasureSpec.getSize(widthMeasureSpec);
+
+        mCellSize = width / mColumnCount;
+
+        int rows = (mData.size() + mColumnCount - 1) / mColumnCount;
+
+        setMeasuredDimension(width, resolveSize(rows * mCellSize, heightMeasureSpec));
+    }
+
+    @Override
+    protected void onDraw(Canvas canvas) {
+
+        if (mCellSize <= 0 || mData.isEmpty())
+            return;
+
+        // only the rows that are visible
+        if (!canvas.getClipBounds(mClipBounds))
+            return;
+
+        int rows = (mData.size() + mColumnCount - 1) / mColumnCount;
+        int firstRow = Math.max(0, mClipBounds.top / mCellSize);
+        int lastRow = Math.min(rows - 1, (mClipBounds.bottom - 1) / mCellSize);
+
+        int firstColumn = Math.max(0, mClipBounds.left / mCellSize);
+        int lastColumn = Math.min(mColumnCount - 1, (mClipBounds.right - 1) / mCellSize);
+
+        mSurface.setCanvas(canvas);
+
+        for (int row = firstRow; row <= lastRow; row++) {
+            for (int column = firstColumn; column <= lastColumn; column++) {
+
+                int index = row * mColumnCount + column;
+
+                if (index >= mData.size())
+                    break;
+
+                int count = canvas.save();
+                canvas.translate(column * mCellSize, row * mCellSize);
+                drawCell(index);
+                canvas.restoreToCount(count);
+            }
+        }
+    }
+
+    /**
+     * Draws the cell at the given index at the origin of the canvas.
+     */
+    private void drawCell(int index) {
+
+        RadarPolygonCache polygons = mPolygons[index];
+
+        if (polygons == null) {
+            polygons = new RadarPolygonCache();
+            mPolygons[index] = polygons;
+        }
+
+        // the cells share the center, the web is only computed again for a
+        // different number of x-values
+        mCellRenderer.draw(mSurface, mData.get(index), polygons, mCellSize, mCellSize);
+    }
+
+    /**
+     * Returns the index of the cell at the given position in the view, -1 if
+     * there is no cell.
+     *
+     * @param x
+     * @param y
+     * @return
+     */
+    public int getCellIndexAt(float x, float y) {
+
+        if (mCellSize <= 0 || x < 0 || y < 0)
+            return -1;
+
+        int column = (int) (x / mCellSize);
+        int index = (int) (y / mCellSize) * mColumnCount + column;
+
+        return column < mColumnCount && index < mData.size() ? index : -1;
+    }
+
+    /**
+     * Frees the normalized polygons of all cells, they are computed again
+     * when the cells are drawn.
+     */
+    public void trimCaches() {
+        mPolygons = new RadarPolygonCache[mData.size()];
+    }
+
+    /**
+     * Sets the number of cells per row. Default: 4
+     *
+     * @param count
+     */
+    public void setColumnCount(int count) {
+        mColumnCount = Math.max(1, count);
+        requestLayout();
+    }
+
+    public int getColumnCount() {
+        return mColumnCount;
+    }
+
+    /**
+     * Sets the space around the web of each cell in dp. Default: 6dp
+     *
+     * @param dp
+     */
+    public void setCellPadding(float dp) {
+        mCellRenderer.setPadding(dp);
+        invalidate();
+    }
+
+    /**
+     * Sets the number of rings of the webs, min = 2, max = 25, default: 6
+     *
+     * @param count
+     */
+    public void setRingCount(int count) {
+        mCellRenderer.setRingCount(count);
+        notifyDataSetChanged();
+    }
+
+    public void setRotationAngle(float angle) {
+        mCellRenderer.setRotationAngle(angle);
+        invalidate();
+    }
+
+    public float getRotationAngle() {
+        return mCellRenderer.getRotationAngle();
+    }
+
+    /**
+     * Sets the width of the web lines that come from the center in dp.
+     *
+     * @param width
+     */
+    public void setWebLineWidth(float width) {
+        mCellRenderer.setWebLineWidth(width);
+    }
+
+    /**
+     * Sets the width of the rings of the web in dp.
+     *
+     * @param width
+     */
+    public void setWebLineWidthInner(float width) {
+        mCellRenderer.setWebLineWidthInner(width);
+    }
+
+    public void setWebColor(int color) {
+        mCellRenderer.setWebColor(color);
+    }
+
+    public void setWebColorInner(int color) {
+        mCellRenderer.setWebColorInner(color);
+    }
+
+    /**
+     * Sets the transparency (alpha) value for all web lines, default: 150
+     *
+     * @param alpha
+     */
+    public void setWebAlpha(int alpha) {
+        mCellRenderer.setWebAlpha(alpha);
+    }
+
+    /**
+     * Returns the renderer that draws the cells.
+     *
+     * @return
+     */
+    public RadarCellRenderer getCellRenderer() {
+        return mCellRenderer;
+    }
+}
@@ -0,0 +1,222 @@
+
+package com.talentpoc.listener;
+
+import android.view.MotionEvent;
+import android.view.ViewConfiguration;
+import android.widget.OverScroller;
+
+import com.talentpoc.charts.PieRadarChartBase;
+
+/**
+ * Rotates a PieRadarChartBase by dragging around its center, and keeps it
+ * spinning with a decelerating fling when released. While the gesture and the
+ * fling are running only the rotation offset of the chart is changed, which
+ * the chart applies as a single canvas rotation to its cached geometry. The
+ * offset is committed to the rotation angle (and the geometry projected
+ * again) once the chart comes to rest.
+ */
+public class RotationGestureDetector {
+
+    /** number of angle samples kept for the velocity */
+    private static final int SAMPLE_COUNT = 8;
+
+    /** only samples of the last milliseconds count for the velocity */
+    private static final long VELOCITY_WINDOW = 100;
+
+    /** minimum and maximum fling velocity in degrees per second */
+    private static final float MIN_FLING_VELOCITY = 50f;
+    private static final float MAX_FLING_VELOCITY = 3600f;
+
+    /** the scroller works with ints, angles are scaled to 1/100 degree */
+    private static final float SCROLLER_SCALE = 100f;
+
+    private final PieRadarChartBase<?> mChart;
+
+    private final OverScroller mScroller;
+
+    /** distance in pixels a touch needs to move before it rotates */
+    private final int mTouchSlop;
+
+    private float mDownX;
+    private float mDownY;
+
+    /** angle of the touch point when the gesture started */
+    private float mTouchStartAngle;
+
+    /** rotation offset of the chart when the gesture started */
+    private float mOffsetAtDown;
+
+    /** true once the touch moved further than the touch slop */
+    private boolean mDragging = false;
+
+    /** ring buffer of the event times and rotation offsets */
+    private final long[] mSampleTimes = new long[SAMPLE_COUNT];
+    private final float[] mSampleAngles = new float[SAMPLE_COUNT];
+    private int mSampleCount = 0;
+    private int mSampleIndex = 0;
+
+    public RotationGestureDetector(PieRadarChartBase<?> chart) {
+        mChart = chart;
+        mScroller = new OverScroller(chart.getContext());
+        mTouchSlop = ViewConfiguration.get(chart.getContext()).getScaledTouchSlop();
+    }
+
+    /**
+     * Processes the given touch event. Returns true if the event is part of a
+     * rotation (or may become one), false for a tap that has been released
+     * without dragging.
+     *
+     * @param event
+     * @return
+     */
+    public boolean onTouchEvent(MotionEvent event) {
+
+        float x = event.getX();
+        float y = event.getY();
+
+        switch (event.getActionMasked()) {
+
+            case MotionEvent.ACTION_DOWN:
+
+                // catch a running fling, the chart stays where it is
+                mScroller.forceFinished(true);
+
+                mDownX = x;
+                mDownY = y;
+                mDragging = false;
+                mTouchStartAngle = mChart.getAngleForPoint(x, y);
+                mOffsetAtDown = mChart.getRotationOffset();
+
+                mSampleCount = 0;
+                addSample(event.getEventTime(), mOffsetAtDown);
+                return true;
+
+            case MotionEvent.ACTION_MOVE:
+
+                if (!mDragging) {
+                    float dx = x - mDownX;
+                    float dy = y - mDownY;
+
+                    if (dx * dx + dy * dy < mTouchSlop * mTouchSlop)
+                        return true;
+
+                    mDragging = true;
+                }
+
+                float offset = mOffsetAtDown + mChart.getAngleForPoint(x, y) - mTouchStartAngle;
+                float previous = mChart.getRotationOffset();
+
+                // the touch angle wraps at 360, keep the offset continuous
+                while (offset - previous > 180f)
+                    offset -= 360f;
+                while (offset - previous < -180f)
+                    offset += 360f;
+
+                mChart.setRotationOffset(offset);
+                addSample(event.getEventTime(), offset);
+                return true;
+
+            case MotionEvent.ACTION_UP:
+
+                if (!mDragging) {
+                    mChart.commitRotationOffset();
+                    return false;
+                }
+
+                mDragging = false;
+                addSample(event.getEventTime(), mChart.getRotationOffset());
+
+                float velocity = getVelocity();
+
+                if (Math.abs(velocity) >= MIN_FLING_VELOCITY) {
+                    mScroller.fling(Math.round(mChart.getRotationOffset() * SCROLLER_SCALE), 0,
+                            Math.round(velocity * SCROLLER_SCALE), 0, Integer.MIN_VALUE,
+                            Integer.MAX_VALUE, 0, 0);
+                    mChart.postInvalidateOnAnimation();
+                } else {
+                    mChart.commitRotationOffset();
+                }
+                return true;
+
+            case MotionEvent.ACTION_CANCEL:
+
+                mDragging = false;
+                mChart.commitRotationOffset();
+                return false;
+        }
+
+        return false;
+    }
+
+    /**
+     * Advances a running fling, call from View.computeScroll().
+     */
+    public void computeScroll() {
+
+        if (!mScroller.computeScrollOffset())
+            return;
+
+        mChart.setRotationOffset(mScroller.getCurrX() / SCROLLER_SCALE);
+
+        if (mScroller.isFinished())
+            mChart.commitRotationOffset();
+        else
+            mChart.postInvalidateOnAnimation();
+    }
+
+    /**
+     * Stops a running fling and commits the rotation.
+     */
+    public void stopFling() {
+        mScroller.forceFinished(true);
+        mChart.commitRotationOffset();
+    }
+
+    /**
+     * Returns true if the chart is being dragged or flung.
+     *
+     * @return
+     */
+    public boolean isRotating() {
+        return mDragging || !mScroller.isFinished();
+    }
+
+    private void addSample(long time, float angle) {
+        mSampleTimes[mSampleIndex] = time;
+        mSampleAngles[mSampleIndex] = angle;
+        mSampleIndex = (mSampleIndex + 1) % SAMPLE_COUNT;
+        mSampleCount = Math.min(mSampleCount + 1, SAMPLE_COUNT);
+    }
+
+    /**
+     * Returns the angular velocity in degrees per second over the samples of
+     * the velocity window.
+     */
+    private float getVelocity() {
+
+        if (mSampleCount < 2)
+            return 0f;
+
+        int newest = (mSampleIndex + SAMPLE_COUNT - 1) % SAMPLE_COUNT;
+        int oldest = newest;
+
+        for (int i = 1; i < mSampleCount; i++) {
+
+            int index = (newest + SAMPLE_COUNT - i) % SAMPLE_COUNT;
+
+            if (mSampleTimes[newest] - mSampleTimes[index] > VELOCITY_WINDOW)
+                break;
+
+            oldest = index;
+        }
+
+        long duration = mSampleTimes[newest] - mSampleTimes[oldest];
+
+        if (duration <= 0)
+            return 0f;
+
+        float velocity = (mSampleAngles[newest] - mSampleAngles[oldest]) / duration * 1000f;
+
+        return Math.max(-MAX_FLING_VELOCITY, Math.min(velocity, MAX_FLING_VELOCITY));
+    }
+}
@@ -2,10 +2,9 @@
 package com.talentpoc.renderer;
 
 import android.graphics.Canvas;
-import android.graphics.Color;
 import android.graphics.Paint;
-import android.graphics.Paint.Style;
 
+import com.talentpoc.interfaces.DrawingSurface;
 import com.talentpoc.utils.Transformer;
 import com.talentpoc.utils.ViewPortHandler;
 
@@ -22,43 +21,43 @@ public abstract class AxisRenderer extends Renderer {
     /** paint object for the grid lines */
     protected Paint mGridPaint;
 
-    /** paint for the x-label values */
+    /**
+     * paint for measuring the label values, created on first use unless one
+     * is set, see getPaintAxisLabels()
+     */
     protected Paint mAxisLabelPaint;
 
-    /** paint for the line surrounding the chart */
-    protected Paint mAxisLinePaint;
-
 
 
 	public AxisRenderer(ViewPortHandler viewPortHandler, Transformer trans) {
         super(viewPortHandler);
 
         this.mTrans = trans;
-
-        mAxisLabelPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
-        mAxisLinePaint = new Paint();
-        mAxisLinePaint.setColor(Color.BLACK);
-        mAxisLinePaint.setStrokeWidth(1f);
-        mAxisLinePaint.setStyle(Style.STROKE);
 	}
 
     /**
-     * Returns the Paint object used for drawing the axis (labels).
+     * Returns the Paint object used for measuring the axis labels, creates
+     * it if none was set.
      * 
      * @return
      */
     public Paint getPaintAxisLabels() {
+
+        if (mAxisLabelPaint == null)
+            mAxisLabelPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+
         return mAxisLabelPaint;
     }
 
     /**
-     * Returns the Paint object that is used for drawing the axis-line that goes
-     * alongside the axis.
-     * 
-     * @return
+     * Sets the Paint object used for measuring the axis labels, e.g. one that
+     * is shared by several charts. The typeface and text size are set before
+     * each measurement. Null creates a new one when it is needed.
+     *
+     * @param p
      */
-    public Paint getPaintAxisLine() {
-        return mAxisLinePaint;
+    public void setPaintAxisLabels(Paint p) {
+        mAxisLabelPaint = p;
     }
 
     /**
@@ -75,15 +74,33 @@ public abstract class AxisRenderer extends Renderer {
      * 
      * @param c
      */
-    public abstract void renderAxisLabels(Canvas c);
-
+    public void renderAxisLabels(Canvas c) {
+        renderAxisLabels(wrap(c));
+    }
 
     /**
      * Draws the line that goes alongside the axis.
      *
      * @param c
      */
-    public abstract void renderAxisLine(Canvas c);
+    public void renderAxisLine(Canvas c) {
+        renderAxisLine(wrap(c));
+    }
+
+    /**
+     * Draws the axis labels onto the given surface.
+     *
+     * @param s
+     */
+    public abstract void renderAxisLabels(DrawingSurface s);
+
+
+    /**
+     * Draws the line that goes alongside the axis onto the given surface.
+     *
+     * @param s
+     */
+    public abstract void renderAxisLine(DrawingSurface s);
 
 
 
@@ -2,72 +2,31 @@
 package com.talentpoc.renderer;
 
 import android.graphics.Canvas;
-import android.graphics.Color;
-import android.graphics.Paint;
-import android.graphics.Paint.Align;
-import android.graphics.Paint.Style;
 
 import com.talentpoc.data.DataSet;
-import com.talentpoc.utils.Utils;
+import com.talentpoc.interfaces.DrawingSurface;
 import com.talentpoc.utils.ViewPortHandler;
 
 public abstract class DataRenderer extends Renderer {
 
-    /** main paint object used for rendering */
-    protected Paint mRenderPaint;
-
-    protected Paint mDrawPaint;
-
-    /**
-     * paint object for drawing values (text representing values of chart
-     * entries)
-     */
-    protected Paint mValuePaint;
-
     public DataRenderer(ViewPortHandler viewPortHandler) {
         super(viewPortHandler);
-        mRenderPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
-        mRenderPaint.setStyle(Style.FILL);
-
-        mDrawPaint = new Paint(Paint.DITHER_FLAG);
-
-        mValuePaint = new Paint(Paint.ANTI_ALIAS_FLAG);
-        mValuePaint.setColor(Color.rgb(63, 63, 63));
-        mValuePaint.setTextAlign(Align.CENTER);
-        mValuePaint.setTextSize(Utils.convertDpToPixel(9f));
-
-    }
-
-    /**
-     * Returns the Paint object this renderer uses for drawing the values
-     * (value-text).
-     * 
-     * @return
-     */
-    public Paint getPaintValues() {
-        return mValuePaint;
-    }
-
-    /**
-     * Returns the Paint object used for rendering.
-     * 
-     * @return
-     */
-    public Paint getPaintRender() {
-        return mRenderPaint;
     }
 
     /**
-     * Applies the required styling (provided by the DataSet) to the value-paint
-     * object.
+     * Applies the required styling (provided by the DataSet) to the surface
+     * the values are drawn on.
      * 
+     * @param s
      * @param set
      */
-    protected void applyValueTextStyle(DataSet<?> set) {
+    protected void applyValueTextStyle(DrawingSurface s, DataSet<?> set) {
 
-        mValuePaint.setColor(set.getValueTextColor());
-        mValuePaint.setTypeface(set.getValueTypeface());
-        mValuePaint.setTextSize(set.getValueTextSize());
+        s.setColor(set.getValueTextColor());
+        s.setStyle(DrawingSurface.Style.FILL);
+        s.setTypeface(set.getValueTypeface());
+        s.setTextSize(set.getValueTextSize());
+        s.setTextAlign(DrawingSurface.TextAlign.CENTER);
     }
 
     /**
@@ -77,11 +36,23 @@ public abstract class DataRenderer extends Renderer {
      */
     public abstract void initBuffers();
 
-    public abstract void drawData(Canvas c);
+    public void drawData(Canvas c) {
+        drawData(wrap(c));
+    }
+
+    public void drawValues(Canvas c) {
+        drawValues(wrap(c));
+    }
+
+    public void drawExtras(Canvas c) {
+        drawExtras(wrap(c));
+    }
+
+    public abstract void drawData(DrawingSurface s);
 
-    public abstract void drawValues(Canvas c);
+    public abstract void drawValues(DrawingSurface s);
 
-    public abstract void drawExtras(Canvas c);
+    public abstract void drawExtras(DrawingSurface s);
 
 
 }
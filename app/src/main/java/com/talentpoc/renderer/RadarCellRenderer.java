@@ -0,0 +1,253 @@
+package com.talentpoc.renderer;
+
+import android.graphics.Color;
+
+import com.talentpoc.data.RadarData;
+import com.talentpoc.data.RadarDataSet;
+import com.talentpoc.interfaces.DrawingSurface;
+import com.talentpoc.utils.RadarAxisValues;
+import com.talentpoc.utils.RadarGeometry;
+import com.talentpoc.utils.RadarPolygonCache;
+import com.talentpoc.utils.RadarUnitWeb;
+import com.talentpoc.utils.RadarWebCache;
+import com.talentpoc.utils.Utils;
+
+import java.util.List;
+
+/**
+ * Draws RadarData objects as compact radar cells (web and polygons, no
+ * labels) without a RadarChart view, e.g. the cells of a RadarGridChart or
+ * thumbnails. The value range is set with computeAxis(...) and can be shared
+ * by many cells, the web is then computed once for all cells of the same
+ * size. A renderer is not thread safe, use one per thread.
+ */
+public class RadarCellRenderer {
+
+    private float mRotationAngle = 270f;
+
+    /** space around the web in pixels */
+    private float mPadding;
+
+    private float mWebLineWidth;
+    private float mInnerWebLineWidth;
+    private int mWebColor = Color.rgb(122, 122, 122);
+    private int mWebColorInner = Color.rgb(122, 122, 122);
+    private int mWebAlpha = 150;
+
+    /** number of rings of the web */
+    private int mRingCount = 6;
+
+    /** the rings of the web */
+    private final RadarAxisValues mAxisValues = new RadarAxisValues();
+
+    /** the value range of the cells */
+    private float mAxisMinimum = 0f;
+    private float mAxisMaximum = 0f;
+    private float mAxisRange = 0f;
+
+    /** the directions of the vertices, null until the first cell is drawn */
+    private RadarUnitWeb mUnitWeb;
+
+    /** the web, valid for all cells of the same size and number of x-values */
+    private final RadarWebCache mWebCache = new RadarWebCache();
+
+    /** buffer for the projected vertices of a polygon */
+    private float[] mPolygonBuffer = new float[0];
+
+    public RadarCellRenderer() {
+        mPadding = Utils.convertDpToPixel(6f);
+        mWebLineWidth = Utils.convertDpToPixel(0.75f);
+        mInnerWebLineWidth = Utils.convertDpToPixel(0.5f);
+    }
+
+    /**
+     * Computes the value range that holds all values of the given profiles.
+     *
+     * @param data
+     */
+    public void computeAxis(List<RadarData> data) {
+
+        float max = -Float.MAX_VALUE;
+
+        for (int i = 0; i < data.size(); i++) {
+            if (data.get(i).getDataSetCount() > 0)
+                max = Math.max(max, data.get(i).getYMax());
+        }
+
+        computeAxis(max == -Float.MAX_VALUE ? 0f : max);
+    }
+
+    /**
+     * Computes the value range for the given maximum value, like
+     * RadarChart.calcMinMax() does with the default YAxis settings: the range
+     * starts at zero and has 10% space on top.
+     *
+     * @param max
+     */
+    public void computeAxis(float max) {
+
+        mAxisMinimum = 0f;
+        mAxisMaximum = max + Math.abs(max) / 100f * 10f;
+
+        if (mAxisValues.compute(mAxisMinimum, mAxisMaximum, mRingCount, false))
+            mAxisMaximum = mAxisValues.getLastEntry();
+
+        mAxisRange = Math.abs(mAxisMaximum - mAxisMinimum);
+    }
+
+    /**
+     * Draws the given profile centered into the area from (0, 0) to (width,
+     * height) of the given surface. The normalized polygons are taken from
+     * (and updated in) the given cache.
+     *
+     * @param s
+     * @param data
+     * @param polygons
+     * @param width
+     * @param height
+     */
+    public void draw(DrawingSurface s, RadarData data, RadarPolygonCache polygons, float width,
+            float height) {
+
+        int xValCount = data.getXValCount();
+
+        if (xValCount == 0 || mAxisRange <= 0f)
+            return;
+
+        float centerX = width / 2f;
+        float centerY = height / 2f;
+        float radius = Math.min(centerX, centerY) - mPadding;
+        float factor = radius / mAxisRange;
+
+        // all cells of a grid have the same directions, only computed once
+        if (mUnitWeb == null || !mUnitWeb.matches(xValCount, mRotationAngle))
+            mUnitWeb = new RadarUnitWeb(xValCount, mRotationAngle);
+
+        if (!mWebCache.isValid(centerX, centerY, factor, mUnitWeb, mAxisMinimum,
+                mAxisMaximum, mAxisValues.mEntries, mAxisValues.mEntryCount)) {
+
+            mWebCache.compute(centerX, centerY, factor, mUnitWeb, mAxisMinimum,
+                    mAxisMaximum, mAxisValues.mEntries, mAxisValues.mEntryCount);
+        }
+
+        RadarChartRenderer.drawWeb(s, mWebCache, mWebLineWidth, mWebColor, mInnerWebLineWidth,
+                mWebColorInner, mWebAlpha);
+
+        RadarChartRenderer.updatePolygonCache(polygons, data, mAxisMinimum, mAxisRange,
+                RadarGeometry.getBaseRadius(mAxisValues.mEntries, mAxisValues.mEntryCount,
+                        mAxisMinimum, 1f));
+
+        for (int i = 0; i < data.getDataSetCount(); i++) {
+
+            RadarDataSet set = data.getDataSetByIndex(i);
+
+            if (!set.isVisible())
+                continue;
+
+            int count = polygons.getCount(i);
+
+            if (mPolygonBuffer.length < count * 2)
+                mPolygonBuffer = new float[count * 2];
+
+            polygons.project(i, centerX, centerY, radius, mRotationAngle, mPolygonBuffer);
+
+            RadarChartRenderer.drawPolygon(s, set, mPolygonBuffer, count);
+        }
+    }
+
+    /**
+     * Copies the styling (not the value range) of the given renderer.
+     *
+     * @param other
+     */
+    public void copyStyle(RadarCellRenderer other) {
+        mRotationAngle = other.mRotationAngle;
+        mPadding = other.mPadding;
+        mWebLineWidth = other.mWebLineWidth;
+        mInnerWebLineWidth = other.mInnerWebLineWidth;
+        mWebColor = other.mWebColor;
+        mWebColorInner = other.mWebColorInner;
+        mWebAlpha = other.mWebAlpha;
+        mRingCount = other.mRingCount;
+    }
+
+    /**
+     * Returns a hash of the styling, cells drawn with styles of equal hashes
+     * look the same.
+     *
+     * @return
+     */
+    public int getStyleHash() {
+        int result = Float.floatToIntBits(mRotationAngle);
+        result = 31 * result + Float.floatToIntBits(mPadding);
+        result = 31 * result + Float.floatToIntBits(mWebLineWidth);
+        result = 31 * result + Float.floatToIntBits(mInnerWebLineWidth);
+        result = 31 * result + mWebColor;
+        result = 31 * result + mWebColorInner;
+        result = 31 * result + mWebAlpha;
+        result = 31 * result + mRingCount;
+        return result;
+    }
+
+    /**
+     * Sets the space around the web in dp. Default: 6dp
+     *
+     * @param dp
+     */
+    public void setPadding(float dp) {
+        mPadding = Utils.convertDpToPixel(dp);
+    }
+
+    /**
+     * Sets the number of rings of the web, min = 2, max = 25, default: 6.
+     * Call computeAxis(...) afterwards.
+     *
+     * @param count
+     */
+    public void setRingCount(int count) {
+        mRingCount = Math.max(2, Math.min(count, 25));
+    }
+
+    public void setRotationAngle(float angle) {
+        mRotationAngle = Utils.getNormalizedAngle(angle);
+    }
+
+    public float getRotationAngle() {
+        return mRotationAngle;
+    }
+
+    /**
+     * Sets the width of the web lines that come from the center in dp.
+     *
+     * @param width
+     */
+    public void setWebLineWidth(float width) {
+        mWebLineWidth = Utils.convertDpToPixel(width);
+    }
+
+    /**
+     * Sets the width of the rings of the web in dp.
+     *
+     * @param width
+     */
+    public void setWebLineWidthInner(float width) {
+        mInnerWebLineWidth = Utils.convertDpToPixel(width);
+    }
+
+    public void setWebColor(int color) {
+        mWebColor = color;
+    }
+
+    public void setWebColorInner(int color) {
+        mWebColorInner = color;
+    }
+
+    /**
+     * Sets the transparency (alpha) value for all web lines, default: 150
+     *
+     * @param alpha
+     */
+    public void setWebAlpha(int alpha) {
+        mWebAlpha = alpha;
+    }
+}
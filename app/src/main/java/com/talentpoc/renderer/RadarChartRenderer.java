@@ -1,129 +1,278 @@
-
 package com.talentpoc.renderer;
 
-import android.graphics.Canvas;
-import android.graphics.Paint;
-import android.graphics.Path;
-import android.graphics.PointF;
+import android.graphics.RectF;
 
+import com.talentpoc.animation.ChartAnimator;
 import com.talentpoc.charts.RadarChart;
+import com.talentpoc.components.YAxis;
 import com.talentpoc.data.Entry;
 import com.talentpoc.data.RadarData;
 import com.talentpoc.data.RadarDataSet;
+import com.talentpoc.interfaces.DrawingSurface;
+import com.talentpoc.interfaces.PathBuilder;
+import com.talentpoc.utils.Highlight;
+import com.talentpoc.utils.RadarGeometry;
+import com.talentpoc.utils.RadarPolygonCache;
+import com.talentpoc.utils.RadarUnitWeb;
+import com.talentpoc.utils.RadarWebCache;
 import com.talentpoc.utils.Utils;
 import com.talentpoc.utils.ViewPortHandler;
 
-import java.util.ArrayList;
 import java.util.List;
 
-;
-
 public class RadarChartRenderer extends DataRenderer {
 
     protected RadarChart mChart;
 
-    /**
-     * paint for drawing the web
-     */
-    protected Paint mWebPaint;
-    ArrayList<PointF> centerPoints = new ArrayList<>();
+    /** the cached rings and spokes of the web */
+    protected final RadarWebCache mWebCache = new RadarWebCache();
+
+    /** buffer for a single projected position */
+    protected float[] mPositionBuffer = new float[2];
+
+    /** the polygons of the DataSets in normalized unit-circle space */
+    protected RadarPolygonCache mPolygonCache = new RadarPolygonCache();
+
+    /** buffer for the projected vertices of a polygon */
+    protected float[] mPolygonBuffer = new float[0];
 
     public RadarChartRenderer(RadarChart chart,
                               ViewPortHandler viewPortHandler) {
         super(viewPortHandler);
         mChart = chart;
-        mWebPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
-        mWebPaint.setStyle(Paint.Style.STROKE);
-    }
-
-    public Paint getWebPaint() {
-        return mWebPaint;
     }
 
     @Override
     public void initBuffers() {
-        // TODO Auto-generated method stub
+        // the web buffers are sized by the web cache, the polygon buffers by
+        // the polygon cache
+    }
 
+    public RadarWebCache getWebCache() {
+        return mWebCache;
     }
 
     @Override
-    public void drawData(Canvas c) {
+    public void drawData(DrawingSurface c) {
+
+        updatePolygonCache();
 
         RadarData radarData = mChart.getData();
 
-        for (RadarDataSet set : radarData.getDataSets()) {
+        for (int i = 0; i < radarData.getDataSetCount(); i++) {
+
+            RadarDataSet set = radarData.getDataSetByIndex(i);
 
             if (set.isVisible())
-                drawDataSet(c, set);
+                drawDataSet(c, set, i);
         }
     }
 
-    protected void drawDataSet(Canvas c, RadarDataSet dataSet) {
+    /**
+     * Writes the distance of each vertex of the given DataSet from the center
+     * into the given array, relative to the radius of the web (the value range
+     * of the y-axis). Returns the number of vertices.
+     *
+     * @param dataSet
+     * @param out must hold at least dataSet.getEntryCount() values
+     * @return
+     */
+    public int computeNormalizedVertices(RadarDataSet dataSet, float[] out) {
 
-        float sliceangle = mChart.getSliceAngle();
+        float yRange = mChart.getYRange();
+        float base = getBaseRadius(1f);
 
-        // calculate the factor that is needed for transforming the value to
-        // pixels
-        float factor = mChart.getFactor();
+        List<Entry> entries = dataSet.getYVals();
 
-        PointF center = mChart.getCenterOffsets();
+        for (int j = 0; j < entries.size(); j++) {
 
-        List<Entry> entries = dataSet.getYVals();
+            out[j] = yRange > 0f
+                    ? (base + entries.get(j).getVal() - mChart.getYChartMin()) / yRange
+                    : 0f;
+        }
 
-        Path surface = new Path();
+        return entries.size();
+    }
 
-        boolean hasMovedToPoint = false;
+    /**
+     * Brings the normalized polygons of all DataSets up to date. Only
+     * polygons of DataSets that changed are computed again, unless the value
+     * range of the chart changed.
+     */
+    public void updatePolygonCache() {
+        updatePolygonCache(mPolygonCache, mChart.getData(), mChart.getYChartMin(),
+                mChart.getYRange(), getBaseRadius(1f));
+    }
 
-        for (int j = 0; j < entries.size(); j++) {
+    /**
+     * Brings the normalized polygons of the DataSets of the given data up to
+     * date for the given value range.
+     *
+     * @param cache
+     * @param data
+     * @param yMin
+     * @param yRange
+     * @param baseOffset the radius of the innermost ring in value units
+     */
+    public static void updatePolygonCache(RadarPolygonCache cache, RadarData data, float yMin,
+            float yRange, float baseOffset) {
+
+        int dataSetCount = data.getDataSetCount();
+
+        cache.setNormalization(data.getXValCount(), yMin, yRange, baseOffset, dataSetCount);
+
+        for (int i = 0; i < dataSetCount; i++) {
+
+            RadarDataSet set = data.getDataSetByIndex(i);
+
+            if (cache.isValid(i, set, set.getChangeCount()))
+                continue;
+
+            List<Entry> entries = set.getYVals();
+            float[] values = cache.getValueBuffer(i, entries.size());
+
+            for (int j = 0; j < entries.size(); j++)
+                values[j] = entries.get(j).getVal();
+
+            cache.setPolygon(i, set, set.getChangeCount(), entries.size());
+        }
+    }
+
+    /**
+     * Marks the normalized polygons of all DataSets as outdated, e.g. because
+     * entry values were changed in place.
+     */
+    public void invalidatePolygonCache() {
+        mPolygonCache.invalidate();
+    }
+
+    /**
+     * Returns the cache of the normalized polygons, call updatePolygonCache()
+     * before reading it.
+     *
+     * @return
+     */
+    public RadarPolygonCache getPolygonCache() {
+        return mPolygonCache;
+    }
+
+    /**
+     * Returns the distance from the center at which the values start. Values
+     * are drawn outwards beginning at the innermost ring of the web.
+     *
+     * @param factor
+     * @return
+     */
+    protected float getBaseRadius(float factor) {
+        return RadarGeometry.getBaseRadius(mChart.getYAxis().mEntries,
+                mChart.getYAxis().mEntryCount, mChart.getYChartMin(), factor);
+    }
+
+    protected void drawDataSet(DrawingSurface c, RadarDataSet dataSet, int index) {
+
+        RectF content = mViewPortHandler.getContentRect();
+        float centerX = content.centerX();
+        float centerY = content.centerY();
+
+        // the pixel radius of the outermost ring, normalized vertices are
+        // scaled by it
+        float radius = mChart.getYRange() * mChart.getFactor();
+
+        // while animating, the vertices come from the animator
+        ChartAnimator animator = mChart.getAnimator();
+        boolean animated = animator.isRunning() && index < animator.getSeriesCount();
+
+        int count = animated ? animator.getValueCount(index) : mPolygonCache.getCount(index);
+
+        if (mPolygonBuffer.length < count * 2)
+            mPolygonBuffer = new float[count * 2];
+
+        if (animated) {
+
+            float sliceangle = mChart.getSliceAngle();
+            float[] radii = animator.getValues(index);
+            boolean fastTrig = mChart.isFastTrigEnabled();
+
+            for (int j = 0; j < count; j++) {
+                RadarGeometry.getPosition(centerX, centerY, radii[j] * radius,
+                        sliceangle * j + mChart.getRotationAngle(), mPolygonBuffer, j * 2,
+                        fastTrig);
+            }
+
+        } else {
+            mPolygonCache.project(index, centerX, centerY, radius, mChart.getRotationAngle(),
+                    mPolygonBuffer);
+        }
 
-            mRenderPaint.setColor(dataSet.getColor(j));
+        drawPolygon(c, dataSet, mPolygonBuffer, count);
+    }
 
-            Entry e = entries.get(j);
+    /**
+     * Draws the polygon of the given DataSet through the given projected
+     * vertices (x/y pairs), filled and / or outlined as the DataSet defines
+     * it. Vertices with NaN coordinates are skipped.
+     *
+     * @param c
+     * @param dataSet
+     * @param points
+     * @param count number of vertices
+     */
+    public static void drawPolygon(DrawingSurface c, RadarDataSet dataSet, float[] points,
+            int count) {
+
+        PathBuilder surface = c.beginPath();
+
+        boolean hasMovedToPoint = false;
 
-            PointF p = Utils.getPosition(centerPoints.get(j), (e.getVal() - mChart.getYChartMin()) * factor,
-                    sliceangle * j + mChart.getRotationAngle());
+        for (int j = 0; j < count * 2; j += 2) {
 
-            if (Float.isNaN(p.x))
+            c.setColor(dataSet.getColor(j / 2));
+
+            if (Float.isNaN(points[j]))
                 continue;
 
             if (!hasMovedToPoint) {
-                surface.moveTo(p.x, p.y);
+                surface.moveTo(points[j], points[j + 1]);
                 hasMovedToPoint = true;
             } else
-                surface.lineTo(p.x, p.y);
+                surface.lineTo(points[j], points[j + 1]);
         }
 
         surface.close();
 
         // draw filled
         if (dataSet.isDrawFilledEnabled()) {
-            mRenderPaint.setStyle(Paint.Style.FILL);
-            mRenderPaint.setAlpha(dataSet.getFillAlpha());
-            c.drawPath(surface, mRenderPaint);
-            mRenderPaint.setAlpha(255);
+            c.setStyle(DrawingSurface.Style.FILL);
+            c.setAlpha(dataSet.getFillAlpha());
+            c.drawPath(surface);
+            c.setAlpha(255);
         }
 
-        mRenderPaint.setStrokeWidth(dataSet.getLineWidth());
-        mRenderPaint.setStyle(Paint.Style.STROKE);
+        c.setStrokeWidth(dataSet.getLineWidth());
+        c.setStyle(DrawingSurface.Style.STROKE);
 
         // draw the line (only if filled is disabled or alpha is below 255)
         if (!dataSet.isDrawFilledEnabled() || dataSet.getFillAlpha() < 255) {
-             c.drawPath(surface, mRenderPaint);
+            c.drawPath(surface);
         }
     }
 
     @Override
-    public void drawValues(Canvas c) {
+    public void drawValues(DrawingSurface c) {
 
         float sliceangle = mChart.getSliceAngle();
 
         // calculate the factor that is needed for transforming the value to
         // pixels
         float factor = mChart.getFactor();
+        float baseRadius = getBaseRadius(factor);
 
-        PointF center = mChart.getCenterOffsets();
+        RectF content = mViewPortHandler.getContentRect();
+        float centerX = content.centerX();
+        float centerY = content.centerY();
 
         float yoffset = Utils.convertDpToPixel(5f);
+        float[] p = mPositionBuffer;
 
         for (int i = 0; i < mChart.getData().getDataSetCount(); i++) {
 
@@ -133,7 +282,7 @@ public class RadarChartRenderer extends DataRenderer {
                 continue;
 
             // apply the text-styling defined by the DataSet
-            applyValueTextStyle(dataSet);
+            applyValueTextStyle(c, dataSet);
 
             List<Entry> entries = dataSet.getYVals();
 
@@ -141,70 +290,116 @@ public class RadarChartRenderer extends DataRenderer {
 
                 Entry e = entries.get(j);
 
-                PointF p = Utils.getPosition(center, (e.getVal() - mChart.getYChartMin()) * factor,
-                        sliceangle * j + mChart.getRotationAngle());
+                RadarGeometry.getPosition(centerX, centerY,
+                        baseRadius + (e.getVal() - mChart.getYChartMin()) * factor,
+                        sliceangle * j + mChart.getRotationAngle(), p, 0,
+                        mChart.isFastTrigEnabled());
 
-                c.drawText(dataSet.getValueFormatter().getFormattedValue(e.getVal()),
-                        p.x, p.y - yoffset, mValuePaint);
+                if (!drawFormattedValue(c, dataSet.getValueFormatter(), e.getVal(), p[0],
+                        p[1] - yoffset))
+                    c.drawText(dataSet.getFormattedValue(j), p[0], p[1] - yoffset);
             }
         }
     }
 
-    @Override
-    public void drawExtras(Canvas c) {
-        drawWeb(c);
-    }
-
-    protected void drawWeb(Canvas c) {
+    /**
+     * Draws horizontal and vertical lines through the highlighted vertices.
+     *
+     * @param c
+     * @param indices
+     */
+    public void drawHighlighted(DrawingSurface c, Highlight[] indices) {
 
         float sliceangle = mChart.getSliceAngle();
-
-        // calculate the factor that is needed for transforming the value to
-        // pixels
         float factor = mChart.getFactor();
-        float rotationangle = mChart.getRotationAngle();
+        float baseRadius = getBaseRadius(factor);
 
-        PointF center = mChart.getCenterOffsets();
+        RectF content = mViewPortHandler.getContentRect();
+        float[] p = mPositionBuffer;
 
-        // draw the inner-web
-        mWebPaint.setStrokeWidth(mChart.getWebLineWidthInner());
-        mWebPaint.setColor(mChart.getWebColorInner());
-        mWebPaint.setAlpha(mChart.getWebAlpha());
+        c.setStyle(DrawingSurface.Style.STROKE);
 
-        int labelCount = mChart.getYAxis().mEntryCount;
+        for (int i = 0; i < indices.length; i++) {
 
-        for (int j = 0; j < labelCount; j++) {
+            RadarDataSet set = mChart.getData().getDataSetByIndex(indices[i].getDataSetIndex());
+            int xIndex = indices[i].getXIndex();
 
+            if (set == null || !set.isHighlightEnabled() || xIndex >= set.getEntryCount())
+                continue;
 
-            for (int i = 0; i < mChart.getData().getXValCount(); i++) {
+            float r = baseRadius
+                    + (set.getYVals().get(xIndex).getVal() - mChart.getYChartMin()) * factor;
 
-                float r = (mChart.getYAxis().mEntries[j] - mChart.getYChartMin()) * factor;
+            RadarGeometry.getPosition(content.centerX(), content.centerY(), r,
+                    sliceangle * xIndex + mChart.getRotationAngle(), p, 0,
+                    mChart.isFastTrigEnabled());
 
-                PointF p1 = Utils.getPosition(center, r, sliceangle * i + rotationangle);
-                PointF p2 = Utils.getPosition(center, r, sliceangle * (i + 1) + rotationangle);
+            if (Float.isNaN(p[0]))
+                continue;
 
-                if (j == 0) {
-                    centerPoints.add(i, p1);
-                }
-                c.drawLine(p1.x, p1.y, p2.x, p2.y, mWebPaint);
-            }
+            c.setColor(set.getHighLightColor());
+            c.setStrokeWidth(set.getHighlightLineWidth());
+
+            c.drawLine(p[0], content.top, p[0], content.bottom);
+            c.drawLine(content.left, p[1], content.right, p[1]);
         }
+    }
 
-        // draw the web lines that come from the center
-        mWebPaint.setStrokeWidth(mChart.getWebLineWidth());
-        mWebPaint.setColor(mChart.getWebColor());
-        mWebPaint.setAlpha(mChart.getWebAlpha());
+    @Override
+    public void drawExtras(DrawingSurface c) {
+        drawWeb(c);
+    }
 
-        for (int i = 0; i < mChart.getData().getXValCount(); i++) {
+    protected void drawWeb(DrawingSurface c) {
 
-            PointF p = Utils.getPosition(centerPoints.get(i), (mChart.getYAxis().mAxisMaximum - mChart.getYAxis().mEntries[0]) * factor, sliceangle * i
-                    + rotationangle);
+        RectF content = mViewPortHandler.getContentRect();
+        YAxis yAxis = mChart.getYAxis();
 
-            c.drawLine(centerPoints.get(i).x, centerPoints.get(i).y, p.x, p.y, mWebPaint);
+        float centerX = content.centerX();
+        float centerY = content.centerY();
+        float factor = mChart.getFactor();
+        RadarUnitWeb unitWeb = mChart.getUnitWeb();
+
+        if (!mWebCache.isValid(centerX, centerY, factor, unitWeb, mChart.getYChartMin(),
+                yAxis.mAxisMaximum, yAxis.mEntries, yAxis.mEntryCount)) {
+
+            mWebCache.compute(centerX, centerY, factor, unitWeb, mChart.getYChartMin(),
+                    yAxis.mAxisMaximum, yAxis.mEntries, yAxis.mEntryCount);
         }
 
+        drawWeb(c, mWebCache, mChart.getWebLineWidth(), mChart.getWebColor(),
+                mChart.getWebLineWidthInner(), mChart.getWebColorInner(), mChart.getWebAlpha());
+    }
+
+    /**
+     * Draws the rings and spokes of the given web cache.
+     *
+     * @param c
+     * @param web
+     * @param lineWidth width of the spokes
+     * @param color color of the spokes
+     * @param innerLineWidth width of the rings
+     * @param innerColor color of the rings
+     * @param alpha
+     */
+    public static void drawWeb(DrawingSurface c, RadarWebCache web, float lineWidth, int color,
+            float innerLineWidth, int innerColor, int alpha) {
+
+        // draw the inner-web
+        c.setStyle(DrawingSurface.Style.STROKE);
+        c.setStrokeWidth(innerLineWidth);
+        c.setColor(innerColor);
+        c.setAlpha(alpha);
+
+        c.drawLines(web.getRings(), 0, web.getRingCount());
+
+        // draw the web lines that come from the center, starting at the
+        // innermost ring
+        c.setStrokeWidth(lineWidth);
+        c.setColor(color);
+        c.setAlpha(alpha);
 
+        c.drawLines(web.getSpokes(), 0, web.getSpokeCount());
     }
 
 }
-
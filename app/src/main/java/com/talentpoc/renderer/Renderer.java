@@ -2,6 +2,12 @@
 package com.talentpoc.renderer;
 
 
+import android.graphics.Canvas;
+
+import com.talentpoc.interfaces.DrawingSurface;
+import com.talentpoc.utils.CanvasDrawingSurface;
+import com.talentpoc.utils.CharValueFormatter;
+import com.talentpoc.utils.ValueFormatter;
 import com.talentpoc.utils.ViewPortHandler;
 
 /**
@@ -22,10 +28,64 @@ public abstract class Renderer {
     /** the maximum value on the x-axis that should be plotted */
     protected int mMaxX = 0;
 
+    /**
+     * surface that forwards to the canvas provided by the chart, created on
+     * first use and reused for every frame
+     */
+    private CanvasDrawingSurface mCanvasSurface;
+
+    /** buffer values are formatted into by CharValueFormatters */
+    private char[] mFormatBuffer = new char[64];
+
     public Renderer(ViewPortHandler viewPortHandler) {
         this.mViewPortHandler = viewPortHandler;
     }
 
+    /**
+     * Returns a DrawingSurface that forwards all draw calls to the given
+     * Canvas.
+     *
+     * @param c
+     * @return
+     */
+    protected DrawingSurface wrap(Canvas c) {
+
+        if (mCanvasSurface == null)
+            mCanvasSurface = new CanvasDrawingSurface();
+
+        mCanvasSurface.setCanvas(c);
+        return mCanvasSurface;
+    }
+
+    /**
+     * Formats the given value into a char buffer and draws it, if the given
+     * formatter is a CharValueFormatter. Returns false without drawing
+     * anything otherwise, the caller then needs to draw the value as String.
+     *
+     * @param c
+     * @param formatter
+     * @param value
+     * @param x
+     * @param y
+     * @return
+     */
+    protected boolean drawFormattedValue(DrawingSurface c, ValueFormatter formatter, float value,
+            float x, float y) {
+
+        if (!(formatter instanceof CharValueFormatter))
+            return false;
+
+        CharValueFormatter f = (CharValueFormatter) formatter;
+
+        if (mFormatBuffer.length < f.getMaxLength())
+            mFormatBuffer = new char[f.getMaxLength()];
+
+        int count = f.formatValue(value, mFormatBuffer, 0);
+        c.drawText(mFormatBuffer, 0, count, x, y);
+
+        return true;
+    }
+
     /**
      * Returns true if the specified value fits in between the provided min
      * and max bounds, false if not.
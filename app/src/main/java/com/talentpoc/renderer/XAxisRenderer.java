@@ -1,12 +1,11 @@
 
 package com.talentpoc.renderer;
 
-import android.graphics.Canvas;
-import android.graphics.Color;
-import android.graphics.Paint.Align;
+import android.graphics.Paint;
 
 import com.talentpoc.components.XAxis;
 import com.talentpoc.components.XAxis.XAxisPosition;
+import com.talentpoc.interfaces.DrawingSurface;
 import com.talentpoc.utils.Transformer;
 import com.talentpoc.utils.Utils;
 import com.talentpoc.utils.ViewPortHandler;
@@ -17,46 +16,62 @@ public class XAxisRenderer extends AxisRenderer {
 
     protected XAxis mXAxis;
 
+    /** builder for the demo text the label width is measured with */
+    private final StringBuilder mDemoText = new StringBuilder();
+
+    /** buffer for the position of the label that is drawn */
+    private final float[] mLabelPosition = new float[2];
+
     public XAxisRenderer(ViewPortHandler viewPortHandler, XAxis xAxis, Transformer trans) {
         super(viewPortHandler, trans);
 
         this.mXAxis = xAxis;
-
-        mAxisLabelPaint.setColor(Color.BLACK);
-        mAxisLabelPaint.setTextAlign(Align.CENTER);
-        mAxisLabelPaint.setTextSize(Utils.convertDpToPixel(10f));
     }
 
     public void computeAxis(float xValAverageLength, List<String> xValues) {
 
-        mAxisLabelPaint.setTypeface(mXAxis.getTypeface());
-        mAxisLabelPaint.setTextSize(mXAxis.getTextSize());
+        computeLabelSize(xValAverageLength);
+        mXAxis.setValues(xValues);
+    }
+
+    /**
+     * Calculates the width and height of the x-labels, the width from a demo
+     * text of average label length (plus the space between labels).
+     *
+     * @param xValAverageLength
+     */
+    protected void computeLabelSize(float xValAverageLength) {
 
-        StringBuffer a = new StringBuffer();
+        Paint paint = getPaintAxisLabels();
+        paint.setTypeface(Utils.toTypeface(mXAxis.getTypeface()));
+        paint.setTextSize(mXAxis.getTextSize());
+
+        mDemoText.setLength(0);
 
         int max = (int) Math.round(xValAverageLength
                 + mXAxis.getSpaceBetweenLabels());
 
         for (int i = 0; i < max; i++) {
-            a.append("h");
+            mDemoText.append('h');
         }
 
-        mXAxis.mLabelWidth = Utils.calcTextWidth(mAxisLabelPaint, a.toString());
-        mXAxis.mLabelHeight = Utils.calcTextHeight(mAxisLabelPaint, "Q");
-        mXAxis.setValues(xValues);
+        mXAxis.mLabelWidth = Utils.calcTextWidth(paint, mDemoText);
+        mXAxis.mLabelHeight = Utils.calcTextHeight(paint, "Q");
     }
 
     @Override
-    public void renderAxisLabels(Canvas c) {
+    public void renderAxisLabels(DrawingSurface c) {
 
         if (!mXAxis.isEnabled() || !mXAxis.isDrawLabelsEnabled())
             return;
 
         float yoffset = Utils.convertDpToPixel(4f);
 
-        mAxisLabelPaint.setTypeface(mXAxis.getTypeface());
-        mAxisLabelPaint.setTextSize(mXAxis.getTextSize());
-        mAxisLabelPaint.setColor(mXAxis.getTextColor());
+        c.setStyle(DrawingSurface.Style.FILL);
+        c.setTypeface(mXAxis.getTypeface());
+        c.setTextSize(mXAxis.getTextSize());
+        c.setColor(mXAxis.getTextColor());
+        c.setTextAlign(DrawingSurface.TextAlign.CENTER);
 
         if (mXAxis.getPosition() == XAxis.XAxisPosition.TOP) {
 
@@ -82,20 +97,20 @@ public class XAxisRenderer extends AxisRenderer {
     }
 
     @Override
-    public void renderAxisLine(Canvas c) {
+    public void renderAxisLine(DrawingSurface c) {
 
         if (!mXAxis.isDrawAxisLineEnabled() || !mXAxis.isEnabled())
             return;
 
-        mAxisLinePaint.setColor(mXAxis.getAxisLineColor());
-        mAxisLinePaint.setStrokeWidth(mXAxis.getAxisLineWidth());
+        c.setColor(mXAxis.getAxisLineColor());
+        c.setStrokeWidth(mXAxis.getAxisLineWidth());
 
         if (mXAxis.getPosition() == XAxis.XAxisPosition.TOP
                 || mXAxis.getPosition() == XAxis.XAxisPosition.TOP_INSIDE
                 || mXAxis.getPosition() == XAxisPosition.BOTH_SIDED) {
             c.drawLine(mViewPortHandler.contentLeft(),
                     mViewPortHandler.contentTop(), mViewPortHandler.contentRight(),
-                    mViewPortHandler.contentTop(), mAxisLinePaint);
+                    mViewPortHandler.contentTop());
         }
 
         if (mXAxis.getPosition() == XAxisPosition.BOTTOM
@@ -103,7 +118,7 @@ public class XAxisRenderer extends AxisRenderer {
                 || mXAxis.getPosition() == XAxisPosition.BOTH_SIDED) {
             c.drawLine(mViewPortHandler.contentLeft(),
                     mViewPortHandler.contentBottom(), mViewPortHandler.contentRight(),
-                    mViewPortHandler.contentBottom(), mAxisLinePaint);
+                    mViewPortHandler.contentBottom());
         }
     }
 
@@ -112,12 +127,10 @@ public class XAxisRenderer extends AxisRenderer {
      * 
      * @param pos
      */
-    protected void drawLabels(Canvas c, float pos) {
+    protected void drawLabels(DrawingSurface c, float pos) {
 
-        // pre allocate to save performance (dont allocate in loop)
-        float[] position = new float[] {
-                0f, 0f
-        };
+        float[] position = mLabelPosition;
+        position[1] = 0f;
 
         for (int i = mMinX; i <= mMaxX; i += mXAxis.mAxisLabelModulus) {
 
@@ -133,7 +146,7 @@ public class XAxisRenderer extends AxisRenderer {
 
                     // avoid clipping of the last
                     if (i == mXAxis.getValues().size() - 1 && mXAxis.getValues().size() > 1) {
-                        float width = Utils.calcTextWidth(mAxisLabelPaint, label);
+                        float width = c.measureText(label);
 
                         if (width > mViewPortHandler.offsetRight() * 2
                                 && position[0] + width > mViewPortHandler.getChartWidth())
@@ -142,14 +155,13 @@ public class XAxisRenderer extends AxisRenderer {
                         // avoid clipping of the first
                     } else if (i == 0) {
 
-                        float width = Utils.calcTextWidth(mAxisLabelPaint, label);
+                        float width = c.measureText(label);
                         position[0] += width / 2;
                     }
                 }
 
                 c.drawText(label, position[0],
-                        pos,
-                        mAxisLabelPaint);
+                        pos);
             }
         }
     }
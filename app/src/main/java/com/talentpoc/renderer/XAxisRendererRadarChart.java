@@ -1,15 +1,15 @@
 
 package com.talentpoc.renderer;
 
-import android.graphics.Canvas;
-import android.graphics.PointF;
+import android.graphics.RectF;
 
 import com.talentpoc.charts.RadarChart;
 import com.talentpoc.components.XAxis;
-import com.talentpoc.utils.Utils;
+import com.talentpoc.interfaces.DrawingSurface;
+import com.talentpoc.utils.RadarLabelLayout;
+import com.talentpoc.utils.RadarUnitWeb;
 import com.talentpoc.utils.ViewPortHandler;
 
-import java.util.ArrayList;
 import java.util.List;
 
 public class XAxisRendererRadarChart extends XAxisRenderer {
@@ -23,64 +23,58 @@ public class XAxisRendererRadarChart extends XAxisRenderer {
     }
 
     @Override
-    public void renderAxisLabels(Canvas c) {
+    public void renderAxisLabels(DrawingSurface c) {
 
         if (!mXAxis.isEnabled() || !mXAxis.isDrawLabelsEnabled())
             return;
 
-        mAxisLabelPaint.setTypeface(mXAxis.getTypeface());
-        mAxisLabelPaint.setTextSize(mXAxis.getTextSize());
-        mAxisLabelPaint.setColor(mXAxis.getTextColor());
+        c.setStyle(DrawingSurface.Style.FILL);
+        c.setTypeface(mXAxis.getTypeface());
+        c.setTextSize(mXAxis.getTextSize());
+        c.setColor(mXAxis.getTextColor());
+        c.setTextAlign(DrawingSurface.TextAlign.CENTER);
 
-        float sliceangle = mChart.getSliceAngle();
+        RadarLabelLayout layout = getLabelLayout();
 
-        // calculate the factor that is needed for transforming the value to
-        // pixels
-        float factor = mChart.getFactor();
-
-        PointF center = mChart.getCenterOffsets();
-        List<PointF> labelPositions = new ArrayList<>();
-
-        for (int i = 0; i < mXAxis.getValues().size(); i++) {
-
-            String text = mXAxis.getValues().get(i);
-
-            float angle = (sliceangle * i + mChart.getRotationAngle()) % 360f;
-
-            PointF p = Utils.getPosition(center, mChart.getYRange() * factor
-                    + mXAxis.mLabelWidth / 2f, angle);
+        for (int i = 0; i < layout.getCount(); i++)
+            c.drawText(mXAxis.getValues().get(i), layout.getX(i), layout.getBaseline(i));
+    }
 
-            c.drawText(text, p.x, p.y + mXAxis.mLabelHeight / 2f, mAxisLabelPaint);
-            labelPositions.add(i, p);
+    /**
+     * Returns the layout of the labels around the web for the current
+     * geometry of the chart, used for drawing and hit-testing the labels.
+     * Computes it only if the geometry or the label height changed since the
+     * last call.
+     *
+     * @return
+     */
+    public RadarLabelLayout getLabelLayout() {
+
+        RadarLabelLayout layout = mXAxis.getLabelLayout();
+        RectF content = mViewPortHandler.getContentRect();
+
+        float centerX = content.centerX();
+        float centerY = content.centerY();
+        float distance = mChart.getYRange() * mChart.getFactor() + mXAxis.mLabelWidth / 2f;
+        RadarUnitWeb unitWeb = mChart.getUnitWeb();
+
+        if (!layout.isValid(mXAxis.getValues(), centerX, centerY, distance, unitWeb,
+                mXAxis.mLabelHeight)) {
+
+            layout.compute(mXAxis.getValues(), centerX, centerY, distance, unitWeb,
+                    mXAxis.mLabelHeight);
         }
-        mXAxis.setLabelPosition(labelPositions);
-    }
 
+        return layout;
+    }
 
+    @Override
     public void computeAxis(float xValAverageLength, List<String> xValues) {
 
-        mAxisLabelPaint.setTypeface(mXAxis.getTypeface());
-        mAxisLabelPaint.setTextSize(mXAxis.getTextSize());
-
-        StringBuffer a = new StringBuffer();
-
-        int max = (int) Math.round(xValAverageLength
-                + mXAxis.getSpaceBetweenLabels());
+        computeLabelSize(xValAverageLength);
 
-        for (int i = 0; i < max; i++) {
-            a.append("h");
-        }
-
-       /* TextView textView= new TextView(mChart.getContext());
-        textView.setTypeface(mXAxis.getTypeface());
-        textView.setTextSize(TypedValue.COMPLEX_UNIT_PX,mXAxis.getTextSize());
-        textView.setText(a.toString());
-        mXAxis.mLabelWidth= textView.getMeasuredWidth();
-        mXAxis.mLabelHeight= textView.getMeasuredHeight();*/
-        mXAxis.mLabelWidth = Utils.calcTextWidth(mAxisLabelPaint, a.toString());
-        mXAxis.mLabelHeight = Utils.calcTextHeight(mAxisLabelPaint, "Q");
         mXAxis.setValues(xValues);
+        mXAxis.getLabelLayout().invalidate();
     }
 
-
 }
@@ -1,11 +1,11 @@
 
 package com.talentpoc.renderer;
 
-import android.graphics.Canvas;
-import android.graphics.Color;
-import android.graphics.Paint.Align;
+import android.graphics.Paint;
 
 import com.talentpoc.components.YAxis;
+import com.talentpoc.interfaces.DrawingSurface;
+import com.talentpoc.utils.AxisTicks;
 import com.talentpoc.utils.PointD;
 import com.talentpoc.utils.Transformer;
 import com.talentpoc.utils.Utils;
@@ -15,13 +15,19 @@ public class YAxisRenderer extends AxisRenderer {
 
 	protected YAxis mYAxis;
 
+    /** computes the entries, memoizes the range */
+    private final AxisTicks mTicks = new AxisTicks();
+
+    /** showOnlyMinMax of the last computation */
+    private boolean mShowOnlyMinMax;
+
+    /** buffer for the label positions, grows with the number of entries */
+    private float[] mPositionBuffer = new float[0];
+
     public YAxisRenderer(ViewPortHandler viewPortHandler, YAxis yAxis, Transformer trans) {
         super(viewPortHandler, trans);
 
         this.mYAxis = yAxis;
-
-        mAxisLabelPaint.setColor(Color.BLACK);
-        mAxisLabelPaint.setTextSize(Utils.convertDpToPixel(10f));
     }
 
     /**
@@ -63,93 +69,78 @@ public class YAxisRenderer extends AxisRenderer {
      */
     protected void computeAxisValues(float min, float max) {
 
-        float yMin = min;
-        float yMax = max;
+        // unchanged range, the entries are still valid
+        if (!mTicks.compute(min, max, mYAxis.getLabelCount(), AxisTicks.Mode.INSIDE)
+                && mYAxis.isShowOnlyMinMaxEnabled() == mShowOnlyMinMax)
+            return;
 
-        int labelCount = mYAxis.getLabelCount();
-        double range = Math.abs(yMax - yMin);
+        mShowOnlyMinMax = mYAxis.isShowOnlyMinMaxEnabled();
 
-        if (labelCount == 0 || range <= 0) {
+        if (mTicks.getCount() == 0) {
             mYAxis.mEntries = new float[] {};
             mYAxis.mEntryCount = 0;
             return;
         }
 
-        double rawInterval = range / labelCount;
-        double interval = Utils.roundToNextSignificant(rawInterval);
-        double intervalMagnitude = Math.pow(10, (int) Math.log10(interval));
-        int intervalSigDigit = (int) (interval / intervalMagnitude);
-        if (intervalSigDigit > 5) {
-            // Use one order of magnitude higher, to avoid intervals like 0.9 or
-            // 90
-            interval = Math.floor(10 * intervalMagnitude);
-        }
-
         // if the labels should only show min and max
-        if (mYAxis.isShowOnlyMinMaxEnabled()) {
+        if (mShowOnlyMinMax) {
 
             mYAxis.mEntryCount = 2;
             mYAxis.mEntries = new float[2];
-            mYAxis.mEntries[0] = yMin;
-            mYAxis.mEntries[1] = yMax;
+            mYAxis.mEntries[0] = min;
+            mYAxis.mEntries[1] = max;
 
         } else {
 
-            double first = Math.ceil(yMin / interval) * interval;
-            double last = Utils.nextUp(Math.floor(yMax / interval) * interval);
-
-            double f;
-            int i;
-            int n = 0;
-            for (f = first; f <= last; f += interval) {
-                ++n;
-            }
-
-            mYAxis.mEntryCount = n;
+            int n = mTicks.getCount();
 
             if (mYAxis.mEntries.length < n) {
                 // Ensure stops contains at least numStops elements.
                 mYAxis.mEntries = new float[n];
             }
 
-            for (f = first, i = 0; i < n; f += interval, ++i) {
-                mYAxis.mEntries[i] = (float) f;
-            }
+            mYAxis.mEntryCount = mTicks.fill(mYAxis.mEntries);
         }
 
-        if (interval < 1) {
-            mYAxis.mDecimals = (int) Math.ceil(-Math.log10(interval));
-        } else {
-            mYAxis.mDecimals = 0;
-        }
+        mYAxis.mDecimals = mTicks.getDecimals();
     }
 
     /**
      * draws the y-axis labels to the screen
      */
     @Override
-    public void renderAxisLabels(Canvas c) {
+    public void renderAxisLabels(DrawingSurface c) {
 
         if (!mYAxis.isEnabled() || !mYAxis.isDrawLabelsEnabled())
             return;
 
-        float[] positions = new float[mYAxis.mEntryCount * 2];
+        if (mPositionBuffer.length < mYAxis.mEntryCount * 2)
+            mPositionBuffer = new float[mYAxis.mEntryCount * 2];
+
+        float[] positions = mPositionBuffer;
 
-        for (int i = 0; i < positions.length; i += 2) {
+        for (int i = 0; i < mYAxis.mEntryCount * 2; i += 2) {
             // only fill y values, x values are not needed since the y-labels
             // are
-            // static on the x-axis
+            // static on the x-axis (reset, the buffer holds pixels of the
+            // last frame)
+            positions[i] = 0f;
             positions[i + 1] = mYAxis.mEntries[i / 2];
         }
 
         mTrans.pointValuesToPixel(positions);
 
-        mAxisLabelPaint.setTypeface(mYAxis.getTypeface());
-        mAxisLabelPaint.setTextSize(mYAxis.getTextSize());
-        mAxisLabelPaint.setColor(mYAxis.getTextColor());
+        c.setStyle(DrawingSurface.Style.FILL);
+        c.setTypeface(mYAxis.getTypeface());
+        c.setTextSize(mYAxis.getTextSize());
+        c.setColor(mYAxis.getTextColor());
+
+        Paint paint = getPaintAxisLabels();
+        paint.setTypeface(Utils.toTypeface(mYAxis.getTypeface()));
+        paint.setTextSize(mYAxis.getTextSize());
 
         float xoffset = mYAxis.getXOffset();
-        float yoffset = Utils.calcTextHeight(mAxisLabelPaint, "A") / 2.5f + mYAxis.getYOffset();
+        float yoffset = Utils.calcTextHeight(paint, "A") / 2.5f + mYAxis.getYOffset();
 
         YAxis.AxisDependency dependency = mYAxis.getAxisDependency();
         YAxis.YAxisLabelPosition labelPosition = mYAxis.getLabelPosition();
@@ -159,20 +150,20 @@ public class YAxisRenderer extends AxisRenderer {
         if (dependency == YAxis.AxisDependency.LEFT) {
 
             if (labelPosition == YAxis.YAxisLabelPosition.OUTSIDE_CHART) {
-                mAxisLabelPaint.setTextAlign(Align.RIGHT);
+                c.setTextAlign(DrawingSurface.TextAlign.RIGHT);
                 xPos = mViewPortHandler.offsetLeft() - xoffset;
             } else {
-                mAxisLabelPaint.setTextAlign(Align.LEFT);
+                c.setTextAlign(DrawingSurface.TextAlign.LEFT);
                 xPos = mViewPortHandler.offsetLeft() + xoffset;
             }
 
         } else {
 
             if (labelPosition == YAxis.YAxisLabelPosition.OUTSIDE_CHART) {
-                mAxisLabelPaint.setTextAlign(Align.LEFT);
+                c.setTextAlign(DrawingSurface.TextAlign.LEFT);
                 xPos = mViewPortHandler.contentRight() + xoffset;
             } else {
-                mAxisLabelPaint.setTextAlign(Align.RIGHT);
+                c.setTextAlign(DrawingSurface.TextAlign.RIGHT);
                 xPos = mViewPortHandler.contentRight() - xoffset;
             }
         }
@@ -181,22 +172,23 @@ public class YAxisRenderer extends AxisRenderer {
     }
 
 
-    public void renderAxisLine(Canvas c) {
+    @Override
+    public void renderAxisLine(DrawingSurface c) {
 
         if (!mYAxis.isEnabled() || !mYAxis.isDrawAxisLineEnabled())
             return;
 
-        mAxisLinePaint.setColor(mYAxis.getAxisLineColor());
-        mAxisLinePaint.setStrokeWidth(mYAxis.getAxisLineWidth());
+        c.setColor(mYAxis.getAxisLineColor());
+        c.setStrokeWidth(mYAxis.getAxisLineWidth());
 
         if (mYAxis.getAxisDependency() == YAxis.AxisDependency.LEFT) {
             c.drawLine(mViewPortHandler.contentLeft(),
                     mViewPortHandler.contentTop(), mViewPortHandler.contentLeft(),
-                    mViewPortHandler.contentBottom(), mAxisLinePaint);
+                    mViewPortHandler.contentBottom());
         } else {
             c.drawLine(mViewPortHandler.contentRight(),
                     mViewPortHandler.contentTop(), mViewPortHandler.contentRight(),
-                    mViewPortHandler.contentBottom(), mAxisLinePaint);
+                    mViewPortHandler.contentBottom());
         }
     }
 
@@ -206,7 +198,7 @@ public class YAxisRenderer extends AxisRenderer {
      * @param fixedPosition
      * @param positions
      */
-    protected void drawYLabels(Canvas c, float fixedPosition, float[] positions, float offset) {
+    protected void drawYLabels(DrawingSurface c, float fixedPosition, float[] positions, float offset) {
 
         // draw
         for (int i = 0; i < mYAxis.mEntryCount; i++) {
@@ -216,7 +208,7 @@ public class YAxisRenderer extends AxisRenderer {
             if (!mYAxis.isDrawTopYLabelEntryEnabled() && i >= mYAxis.mEntryCount - 1)
                 return;
 
-            c.drawText(text, fixedPosition, positions[i * 2 + 1] + offset, mAxisLabelPaint);
+            c.drawText(text, fixedPosition, positions[i * 2 + 1] + offset);
         }
     }
 
@@ -1,17 +1,25 @@
 
 package com.talentpoc.renderer;
 
-import android.graphics.Canvas;
-import android.graphics.PointF;
+import android.graphics.RectF;
 
 import com.talentpoc.charts.RadarChart;
 import com.talentpoc.components.YAxis;
-import com.talentpoc.utils.Utils;
+import com.talentpoc.interfaces.DrawingSurface;
+import com.talentpoc.utils.RadarAxisValues;
+import com.talentpoc.utils.RadarGeometry;
 import com.talentpoc.utils.ViewPortHandler;
 
 public class YAxisRendererRadarChart extends YAxisRenderer {
 
     private RadarChart mChart;
+
+    /** computes the entries of the axis, shared with headless renderers */
+    private RadarAxisValues mAxisValues = new RadarAxisValues();
+
+    /** buffer for the position of the label that is drawn */
+    private float[] mLabelPosition = new float[2];
+
     public YAxisRendererRadarChart(ViewPortHandler viewPortHandler, YAxis yAxis, RadarChart chart) {
         super(viewPortHandler,yAxis,null);
         this.mChart = chart;
@@ -24,90 +32,39 @@ public class YAxisRendererRadarChart extends YAxisRenderer {
 
 
     protected void computeAxisValues(float min, float max) {
-        float yMin = min;
-        float yMax = max;
-
-        int labelCount = mYAxis.getLabelCount();
-        double range = Math.abs(yMax - yMin);
-
-        if (labelCount == 0 || range <= 0) {
-            mYAxis.mEntries = new float[] {};
-            mYAxis.mEntryCount = 0;
-            return;
-        }
-
-        double rawInterval = range / labelCount;
-        double interval = Utils.roundToNextSignificant(rawInterval);
-        double intervalMagnitude = Math.pow(10, (int) Math.log10(interval));
-        int intervalSigDigit = (int) (interval / intervalMagnitude);
-        if (intervalSigDigit > 5) {
-            // Use one order of magnitude higher, to avoid intervals like 0.9 or
-            // 90
-            interval = Math.floor(10 * intervalMagnitude);
-        }
-
-        // if the labels should only show min and max
-        if (mYAxis.isShowOnlyMinMaxEnabled()) {
-
-            mYAxis.mEntryCount = 2;
-            mYAxis.mEntries = new float[2];
-            mYAxis.mEntries[0] = yMin;
-            mYAxis.mEntries[1] = yMax;
-
-        } else {
-
-            double first = Math.ceil(yMin / interval) * interval;
 
-            if (first == 0.0) // Fix for IEEE negative zero case (Where value == -0.0, and 0.0 == -0.0)
-                first = 0.0;
+        boolean computed = mAxisValues.compute(min, max, mYAxis.getLabelCount(),
+                mYAxis.isShowOnlyMinMaxEnabled());
 
-            double last = Utils.nextUp(Math.floor(yMax / interval) * interval);
+        mYAxis.mEntries = mAxisValues.mEntries;
+        mYAxis.mEntryCount = mAxisValues.mEntryCount;
 
-            double f;
-            int i;
-            int n = 0;
-            for (f = first; f <= last; f += interval) {
-                ++n;
-            }
-
-            if (Float.isNaN(mYAxis.getAxisMaxValue()))
-                n += 1;
-
-            mYAxis.mEntryCount = mYAxis.getLabelCount();
-
-            if (mYAxis.mEntries.length < mYAxis.mEntryCount) {
-                // Ensure stops contains at least numStops elements.
-                mYAxis.mEntries = new float[mYAxis.mEntryCount];
-            }
-
-            for (f = interval+200, i = 0; i < mYAxis.getLabelCount(); f += interval, ++i) {
-                mYAxis.mEntries[i] = (float) f;
-            }
-        }
-
-        if (interval < 1) {
-            mYAxis.mDecimals = (int) Math.ceil(-Math.log10(interval));
-        } else {
-            mYAxis.mDecimals = 0;
-        }
+        if (!computed)
+            return;
 
+        mYAxis.mDecimals = mAxisValues.mDecimals;
 
-        mYAxis.mAxisMaximum = mYAxis.mEntries[mYAxis.mEntryCount - 1];
+        mYAxis.mAxisMaximum = mAxisValues.getLastEntry();
         mYAxis.mAxisRange = Math.abs(mYAxis.mAxisMaximum - mYAxis.mAxisMinimum);
     }
 
     @Override
-    public void renderAxisLabels(Canvas c) {
+    public void renderAxisLabels(DrawingSurface c) {
 
         if (!mYAxis.isEnabled() || !mYAxis.isDrawLabelsEnabled())
             return;
 
-        mAxisLabelPaint.setTypeface(mYAxis.getTypeface());
-        mAxisLabelPaint.setTextSize(mYAxis.getTextSize());
-        mAxisLabelPaint.setColor(mYAxis.getTextColor());
+        c.setStyle(DrawingSurface.Style.FILL);
+        c.setTypeface(mYAxis.getTypeface());
+        c.setTextSize(mYAxis.getTextSize());
+        c.setColor(mYAxis.getTextColor());
+        c.setTextAlign(DrawingSurface.TextAlign.LEFT);
 
-        PointF center = mChart.getCenterOffsets();
+        RectF content = mViewPortHandler.getContentRect();
+        float centerX = content.centerX();
+        float centerY = content.centerY();
         float factor = mChart.getFactor();
+        float[] p = mLabelPosition;
 
         int labelCount = mYAxis.mEntryCount;
 
@@ -118,15 +75,12 @@ public class YAxisRendererRadarChart extends YAxisRenderer {
 
             float r = (mYAxis.mEntries[j] - mYAxis.mAxisMinimum) * factor;
 
-            PointF p = Utils.getPosition(center, r, mChart.getRotationAngle());
+            RadarGeometry.getPosition(centerX, centerY, r, mChart.getRotationAngle(), p, 0,
+                    mChart.isFastTrigEnabled());
 
             String label = mYAxis.getFormattedLabel(j);
 
-            c.drawText(label, p.x + 10, p.y, mAxisLabelPaint);
+            c.drawText(label, p[0] + 10, p[1]);
         }
     }
-
-
-
-
 }
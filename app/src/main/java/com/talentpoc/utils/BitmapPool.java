@@ -0,0 +1,252 @@
+package com.talentpoc.utils;
+
+import android.graphics.Bitmap;
+import android.graphics.Color;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+
+/**
+ * Process-wide pool of bitmaps, so bitmaps that are rendered into again and
+ * again in the same few sizes (e.g. the thumbnails of RadarThumbnailCache)
+ * are reused instead of allocated. Bitmaps are pooled by width, height and
+ * config. The pooled bitmaps stay below a memory budget; when it is
+ * exceeded, the bitmaps that were returned the longest time ago are recycled
+ * first. Hits and misses are counted to tune the budget.
+ */
+public class BitmapPool {
+
+    private static BitmapPool mInstance;
+
+    /**
+     * pooled bitmaps per size and config, the most recently returned last,
+     * empty buckets are removed
+     */
+    private final HashMap<Key, ArrayDeque<Bitmap>> mBuckets = new HashMap<>();
+
+    /** all pooled bitmaps, the least recently returned first */
+    private final ArrayDeque<Bitmap> mLru = new ArrayDeque<>();
+
+    /** key reused for lookups */
+    private final Key mLookupKey = new Key();
+
+    /** the memory budget in bytes and the bytes currently pooled */
+    private long mMaxSize;
+    private long mSize = 0;
+
+    private long mHitCount = 0;
+    private long mMissCount = 0;
+    private long mEvictionCount = 0;
+
+    /**
+     * Returns the pool shared by the whole process. Its budget is 1/16 of the
+     * maximum heap size by default.
+     *
+     * @return
+     */
+    public static synchronized BitmapPool getInstance() {
+
+        if (mInstance == null)
+            mInstance = new BitmapPool(Runtime.getRuntime().maxMemory() / 16);
+
+        return mInstance;
+    }
+
+    /**
+     * @param maxSize the memory budget of the pooled bitmaps in bytes
+     */
+    public BitmapPool(long maxSize) {
+        mMaxSize = maxSize;
+    }
+
+    /**
+     * Returns a cleared (transparent) bitmap with the given size and config,
+     * taken from the pool if possible.
+     *
+     * @param width
+     * @param height
+     * @param config
+     * @return
+     */
+    public synchronized Bitmap get(int width, int height, Bitmap.Config config) {
+
+        ArrayDeque<Bitmap> bucket = mBuckets.get(mLookupKey.set(width, height, config));
+
+        if (bucket == null) {
+            mMissCount++;
+            return Bitmap.createBitmap(width, height, config);
+        }
+
+        Bitmap bitmap = bucket.pollLast();
+
+        if (bucket.isEmpty())
+            mBuckets.remove(mLookupKey);
+
+        mHitCount++;
+        mLru.removeLastOccurrence(bitmap);
+        mSize -= getSize(bitmap);
+
+        bitmap.eraseColor(Color.TRANSPARENT);
+        return bitmap;
+    }
+
+    /**
+     * Returns the given bitmap to the pool. The bitmap must not be used by
+     * the caller afterwards. Bitmaps that are recycled, immutable or larger
+     * than the budget are recycled instead.
+     *
+     * @param bitmap
+     */
+    public synchronized void put(Bitmap bitmap) {
+
+        if (bitmap == null || bitmap.isRecycled())
+            return;
+
+        long size = getSize(bitmap);
+
+        if (!bitmap.isMutable() || size > mMaxSize) {
+            bitmap.recycle();
+            return;
+        }
+
+        Key key = new Key().set(bitmap.getWidth(), bitmap.getHeight(), bitmap.getConfig());
+        ArrayDeque<Bitmap> bucket = mBuckets.get(key);
+
+        if (bucket == null) {
+            bucket = new ArrayDeque<>();
+            mBuckets.put(key, bucket);
+        }
+
+        bucket.addLast(bitmap);
+        mLru.addLast(bitmap);
+        mSize += size;
+
+        trimToSize(mMaxSize);
+    }
+
+    /**
+     * Recycles the least recently returned bitmaps until the pooled bitmaps
+     * take at most the given number of bytes.
+     *
+     * @param maxSize
+     */
+    public synchronized void trimToSize(long maxSize) {
+
+        while (mSize > maxSize && !mLru.isEmpty()) {
+
+            Bitmap bitmap = mLru.pollFirst();
+
+            ArrayDeque<Bitmap> bucket = mBuckets.get(
+                    mLookupKey.set(bitmap.getWidth(), bitmap.getHeight(), bitmap.getConfig()));
+            bucket.removeFirstOccurrence(bitmap);
+
+            if (bucket.isEmpty())
+                mBuckets.remove(mLookupKey);
+
+            mSize -= getSize(bitmap);
+            mEvictionCount++;
+            bitmap.recycle();
+        }
+    }
+
+    /**
+     * Recycles all pooled bitmaps, e.g. when the system is low on memory.
+     */
+    public synchronized void clear() {
+        trimToSize(0);
+    }
+
+    /**
+     * Sets the memory budget of the pooled bitmaps in bytes.
+     *
+     * @param maxSize
+     */
+    public synchronized void setMaxSize(long maxSize) {
+        mMaxSize = maxSize;
+        trimToSize(maxSize);
+    }
+
+    public synchronized long getMaxSize() {
+        return mMaxSize;
+    }
+
+    /**
+     * Returns the number of bytes the pooled bitmaps take.
+     *
+     * @return
+     */
+    public synchronized long getSize() {
+        return mSize;
+    }
+
+    public synchronized long getHitCount() {
+        return mHitCount;
+    }
+
+    public synchronized long getMissCount() {
+        return mMissCount;
+    }
+
+    public synchronized long getEvictionCount() {
+        return mEvictionCount;
+    }
+
+    /**
+     * Returns the number of sizes and configs bitmaps are pooled for.
+     *
+     * @return
+     */
+    public synchronized int getBucketCount() {
+        return mBuckets.size();
+    }
+
+    /**
+     * Returns the share of get(...) calls that were served from the pool,
+     * between 0 and 1.
+     *
+     * @return
+     */
+    public synchronized float getHitRate() {
+        long total = mHitCount + mMissCount;
+        return total == 0 ? 0f : mHitCount / (float) total;
+    }
+
+    private static long getSize(Bitmap bitmap) {
+        return bitmap.getAllocationByteCount();
+    }
+
+    /**
+     * Size and config of a pooled bitmap.
+     */
+    private static class Key {
+
+        private int mWidth;
+        private int mHeight;
+        private Bitmap.Config mConfig;
+
+        private Key set(int width, int height, Bitmap.Config config) {
+            mWidth = width;
+            mHeight = height;
+            mConfig = config;
+            return this;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+
+            if (!(o instanceof Key))
+                return false;
+
+            Key k = (Key) o;
+            return mWidth == k.mWidth && mHeight == k.mHeight && mConfig == k.mConfig;
+        }
+
+        @Override
+        public int hashCode() {
+            int result = mWidth;
+            result = 31 * result + mHeight;
+            result = 31 * result + (mConfig != null ? mConfig.hashCode() : 0);
+            return result;
+        }
+    }
+}
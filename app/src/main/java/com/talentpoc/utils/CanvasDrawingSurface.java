@@ -0,0 +1,216 @@
+
+package com.talentpoc.utils;
+
+import android.graphics.Canvas;
+import android.graphics.Paint;
+import android.graphics.Path;
+
+import com.talentpoc.interfaces.DrawingSurface;
+import com.talentpoc.interfaces.PathBuilder;
+
+/**
+ * DrawingSurface that forwards all draw calls to an android Canvas. The
+ * drawing state is kept in a single Paint object. One instance is meant to be
+ * reused for every frame, only the Canvas is exchanged via setCanvas(...).
+ */
+public class CanvasDrawingSurface implements DrawingSurface {
+
+    /** the canvas all calls are forwarded to */
+    private Canvas mCanvas;
+
+    /** paint object holding the current drawing state */
+    private Paint mPaint;
+
+    /** path reused for every beginPath() call */
+    private CanvasPath mPath = new CanvasPath();
+
+    /** rotation of the text positions, see setTextRotation(...) */
+    private boolean mTextRotated = false;
+    private float mTextCos = 1f;
+    private float mTextSin = 0f;
+    private float mTextCenterX;
+    private float mTextCenterY;
+
+    public CanvasDrawingSurface() {
+        mPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+    }
+
+    /**
+     * Sets the canvas the following draw calls are forwarded to.
+     *
+     * @param c
+     */
+    public void setCanvas(Canvas c) {
+        mCanvas = c;
+    }
+
+    public Canvas getCanvas() {
+        return mCanvas;
+    }
+
+    /**
+     * Rotates the positions of the texts drawn after this call by the given
+     * degrees around the given point, the texts themselves stay upright. 0
+     * draws the texts at the positions they are drawn with.
+     *
+     * @param degrees
+     * @param centerX
+     * @param centerY
+     */
+    public void setTextRotation(float degrees, float centerX, float centerY) {
+
+        double rad = Math.toRadians(degrees);
+
+        mTextRotated = degrees != 0f;
+        mTextCos = (float) Math.cos(rad);
+        mTextSin = (float) Math.sin(rad);
+        mTextCenterX = centerX;
+        mTextCenterY = centerY;
+    }
+
+    /**
+     * Returns the Paint object that holds the drawing state of this surface.
+     *
+     * @return
+     */
+    public Paint getPaint() {
+        return mPaint;
+    }
+
+    @Override
+    public void setColor(int color) {
+        mPaint.setColor(color);
+    }
+
+    @Override
+    public void setAlpha(int alpha) {
+        mPaint.setAlpha(alpha);
+    }
+
+    @Override
+    public void setStyle(Style style) {
+        mPaint.setStyle(style == Style.FILL ? Paint.Style.FILL : Paint.Style.STROKE);
+    }
+
+    @Override
+    public void setStrokeWidth(float width) {
+        mPaint.setStrokeWidth(width);
+    }
+
+    @Override
+    public void setTypeface(TypefaceHolder<?> typeface) {
+        mPaint.setTypeface(Utils.toTypeface(typeface));
+    }
+
+    @Override
+    public void setTextSize(float size) {
+        mPaint.setTextSize(size);
+    }
+
+    @Override
+    public void setTextAlign(TextAlign align) {
+
+        switch (align) {
+            case LEFT:
+                mPaint.setTextAlign(Paint.Align.LEFT);
+                break;
+            case CENTER:
+                mPaint.setTextAlign(Paint.Align.CENTER);
+                break;
+            case RIGHT:
+                mPaint.setTextAlign(Paint.Align.RIGHT);
+                break;
+        }
+    }
+
+    @Override
+    public float measureText(String text) {
+        return Utils.getTextMetricsCache().getWidth(mPaint, text);
+    }
+
+    @Override
+    public void drawLine(float startX, float startY, float stopX, float stopY) {
+        mCanvas.drawLine(startX, startY, stopX, stopY, mPaint);
+    }
+
+    @Override
+    public void drawLines(float[] pts, int offset, int count) {
+        mCanvas.drawLines(pts, offset, count, mPaint);
+    }
+
+    @Override
+    public PathBuilder beginPath() {
+        mPath.reset();
+        return mPath;
+    }
+
+    @Override
+    public void drawPath(PathBuilder path) {
+        mCanvas.drawPath(((CanvasPath) path).mPath, mPaint);
+    }
+
+    @Override
+    public void drawText(String text, float x, float y) {
+
+        if (mTextRotated) {
+            float dx = x - mTextCenterX;
+            float dy = y - mTextCenterY;
+            x = mTextCenterX + dx * mTextCos - dy * mTextSin;
+            y = mTextCenterY + dx * mTextSin + dy * mTextCos;
+        }
+
+        mCanvas.drawText(text, x, y, mPaint);
+    }
+
+    @Override
+    public void drawText(char[] text, int index, int count, float x, float y) {
+
+        if (mTextRotated) {
+            float dx = x - mTextCenterX;
+            float dy = y - mTextCenterY;
+            x = mTextCenterX + dx * mTextCos - dy * mTextSin;
+            y = mTextCenterY + dx * mTextSin + dy * mTextCos;
+        }
+
+        mCanvas.drawText(text, index, count, x, y, mPaint);
+    }
+
+    /**
+     * PathBuilder backed by an android Path.
+     */
+    private static class CanvasPath implements PathBuilder {
+
+        private final Path mPath = new Path();
+
+        private boolean mEmpty = true;
+
+        @Override
+        public void reset() {
+            // rewind keeps the internal allocations of the path
+            mPath.rewind();
+            mEmpty = true;
+        }
+
+        @Override
+        public void moveTo(float x, float y) {
+            mPath.moveTo(x, y);
+            mEmpty = false;
+        }
+
+        @Override
+        public void lineTo(float x, float y) {
+            mPath.lineTo(x, y);
+            mEmpty = false;
+        }
+
+        @Override
+        public void close() {
+            mPath.close();
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return mEmpty;
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.talentpoc.utils;
+
+import android.graphics.Paint;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Resources that RadarCharts of the same style can share instead of holding
+ * their own copies: the directions of the web vertices (RadarUnitWeb), the
+ * surface (and Paint) the charts are drawn with and the Paint the axis labels
+ * are measured with. Charts obtain the resources of a style by a key from a
+ * process-wide registry, see RadarChart.setSharedStyle(...), e.g. all charts
+ * of a grid that compares candidates. Only what does not depend on the size,
+ * the data or the value range of a chart is shared and none of it is
+ * modified by drawing, so charts of different sizes and data draw from the
+ * same resources without invalidating each other. Each chart scales the unit
+ * web into its own web cache and label layout.
+ * <p>
+ * The resources are only meant to be used from the main thread.
+ */
+public class RadarSharedResources {
+
+    private static final HashMap<String, RadarSharedResources> mRegistry = new HashMap<>();
+
+    /** the key the resources are registered with */
+    private final String mKey;
+
+    /** number of charts that use these resources */
+    private int mReferenceCount = 0;
+
+    /** the number of unit webs kept, e.g. for charts with other rotations */
+    private static final int MAX_UNIT_WEBS = 8;
+
+    /** the unit webs by vertex count and rotation angle, the most recent last */
+    private final LinkedHashMap<Long, RadarUnitWeb> mUnitWebs =
+            new LinkedHashMap<Long, RadarUnitWeb>(MAX_UNIT_WEBS, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Long, RadarUnitWeb> eldest) {
+                    return size() > MAX_UNIT_WEBS;
+                }
+            };
+
+    private final CanvasDrawingSurface mSurface = new CanvasDrawingSurface();
+
+    private final Paint mAxisLabelPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+
+    private RadarSharedResources(String key) {
+        mKey = key;
+    }
+
+    /**
+     * Returns the resources of the given style, creates them on first use.
+     * Every call must be balanced by a call of release().
+     *
+     * @param key
+     * @return
+     */
+    public static synchronized RadarSharedResources obtain(String key) {
+
+        RadarSharedResources resources = mRegistry.get(key);
+
+        if (resources == null) {
+            resources = new RadarSharedResources(key);
+            mRegistry.put(key, resources);
+        }
+
+        resources.mReferenceCount++;
+        return resources;
+    }
+
+    /**
+     * Releases the resources, they are removed from the registry when the
+     * last chart released them.
+     */
+    public void release() {
+
+        synchronized (RadarSharedResources.class) {
+
+            if (--mReferenceCount <= 0)
+                mRegistry.remove(mKey);
+        }
+    }
+
+    /**
+     * Returns the number of styles that are currently registered.
+     *
+     * @return
+     */
+    public static synchronized int getStyleCount() {
+        return mRegistry.size();
+    }
+
+    public String getKey() {
+        return mKey;
+    }
+
+    public int getReferenceCount() {
+        return mReferenceCount;
+    }
+
+    /**
+     * Returns the unit web with the given number of vertices and rotation
+     * angle, creates it if no chart of this style used it recently.
+     *
+     * @param count
+     * @param rotationAngle
+     * @return
+     */
+    public RadarUnitWeb getUnitWeb(int count, float rotationAngle) {
+
+        Long key = ((long) count << 32) | (Float.floatToIntBits(rotationAngle) & 0xffffffffL);
+        RadarUnitWeb web = mUnitWebs.get(key);
+
+        if (web == null) {
+            web = new RadarUnitWeb(count, rotationAngle);
+            mUnitWebs.put(key, web);
+        }
+
+        return web;
+    }
+
+    public CanvasDrawingSurface getSurface() {
+        return mSurface;
+    }
+
+    /**
+     * Returns the Paint the axis labels are measured with. The axis renderers
+     * set the typeface and text size before every measurement.
+     *
+     * @return
+     */
+    public Paint getAxisLabelPaint() {
+        return mAxisLabelPaint;
+    }
+}
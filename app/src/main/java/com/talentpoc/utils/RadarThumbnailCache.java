@@ -0,0 +1,570 @@
+package com.talentpoc.utils;
+
+import android.content.Context;
+import android.graphics.Bitmap;
+import android.graphics.BitmapFactory;
+import android.graphics.Canvas;
+import android.os.Handler;
+import android.os.Looper;
+import android.util.Log;
+import android.util.LruCache;
+
+import com.talentpoc.charts.Chart;
+import com.talentpoc.data.Entry;
+import com.talentpoc.data.RadarData;
+import com.talentpoc.data.RadarDataSet;
+import com.talentpoc.renderer.RadarCellRenderer;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Renders RadarData objects as small thumbnails (web and polygons, see
+ * RadarCellRenderer) and caches them, so lists that show a radar per row do
+ * not run the radar pipeline again for profiles that were already shown.
+ * Thumbnails are keyed by a hash of the values and the styling of the data,
+ * the style of the cells and the size. They are kept in a memory LRU cache
+ * and written as compressed images into a disk cache, which outlives the
+ * process. Thumbnails that are not in memory are loaded (or rendered) on
+ * background threads, requests for a thumbnail that is already being loaded
+ * are only added to the pending request. Callbacks are invoked on the main
+ * thread.
+ * <p>
+ * The data of a request is read on a background thread, it must not be
+ * modified until the callback of the request was invoked.
+ * <p>
+ * The bitmaps of the thumbnails are taken from the BitmapPool and returned
+ * to it when they are evicted from memory, so a thumbnail must not be shown
+ * anymore once it was evicted: get(...) it again when a row is bound.
+ */
+public class RadarThumbnailCache {
+
+    /**
+     * Callback of a thumbnail request.
+     */
+    public interface Callback {
+
+        /**
+         * Called on the main thread when the requested thumbnail is ready.
+         *
+         * @param key the key of the thumbnail, as returned by load(...)
+         * @param bitmap null if the thumbnail could not be loaded or rendered
+         */
+        void onThumbnailLoaded(String key, Bitmap bitmap);
+    }
+
+    private static final String DIRECTORY = "radar-thumbnails";
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    /** thumbnails in memory, sized in kilobytes */
+    private final LruCache<String, Bitmap> mMemoryCache;
+
+    /** the directory of the disk cache */
+    private final File mDirectory;
+
+    /** the budget of the disk cache and the bytes used, -1 if not known yet */
+    private final long mMaxDiskSize;
+    private long mDiskSize = -1;
+
+    /** guards the disk cache */
+    private final Object mDiskLock = new Object();
+
+    private Bitmap.CompressFormat mCompressFormat = Bitmap.CompressFormat.PNG;
+
+    /** the config of the thumbnails, replaced by setBitmapConfig(...) */
+    private volatile Bitmap.Config mBitmapConfig = Bitmap.Config.ARGB_8888;
+
+    /** the callbacks of the requests that are being loaded, per key */
+    private final HashMap<String, List<Callback>> mPending = new HashMap<>();
+
+    private final ExecutorService mExecutor;
+
+    private final Handler mHandler = new Handler(Looper.getMainLooper());
+
+    /** the cell style, replaced (never modified) by setStyle(...) */
+    private volatile RadarCellRenderer mStyle;
+
+    /** renderer and buffers of each background thread */
+    private final ThreadLocal<Worker> mWorkers = new ThreadLocal<Worker>() {
+        @Override
+        protected Worker initialValue() {
+            return new Worker();
+        }
+    };
+
+    /**
+     * Creates a cache with 1/32 of the maximum heap size as memory budget and
+     * 16 MB on disk.
+     *
+     * @param context
+     */
+    public RadarThumbnailCache(Context context) {
+        this(context, (int) (Runtime.getRuntime().maxMemory() / 32), 16 * 1024 * 1024, 2);
+    }
+
+    /**
+     * @param context
+     * @param maxMemorySize the memory budget of the thumbnails in bytes
+     * @param maxDiskSize the budget of the disk cache in bytes
+     * @param threadCount number of background threads
+     */
+    public RadarThumbnailCache(Context context, int maxMemorySize, long maxDiskSize,
+            int threadCount) {
+
+        Utils.init(context);
+
+        mMemoryCache = new LruCache<String, Bitmap>(Math.max(1, maxMemorySize / 1024)) {
+            @Override
+            protected int sizeOf(String key, Bitmap bitmap) {
+                return Math.max(1, bitmap.getByteCount() / 1024);
+            }
+
+            @Override
+            protected void entryRemoved(boolean evicted, String key, Bitmap oldValue,
+                    Bitmap newValue) {
+
+                // the next thumbnail of the same size is rendered into it
+                if (oldValue != newValue)
+                    BitmapPool.getInstance().put(oldValue);
+            }
+        };
+
+        mDirectory = new File(context.getCacheDir(), DIRECTORY);
+        mMaxDiskSize = maxDiskSize;
+        mExecutor = Executors.newFixedThreadPool(Math.max(1, threadCount));
+        mStyle = new RadarCellRenderer();
+    }
+
+    /**
+     * Requests the thumbnail of the given data with the given size in pixels.
+     * If the thumbnail is in memory, the callback is invoked immediately,
+     * otherwise it is invoked on the main thread once the thumbnail was
+     * loaded from disk or rendered (with null if that failed, a later request
+     * tries again). Must be called on the main thread.
+     * Returns the key of the thumbnail, to cancel the request.
+     *
+     * @param data
+     * @param width
+     * @param height
+     * @param callback
+     * @return
+     */
+    public String load(final RadarData data, final int width, final int height,
+            Callback callback) {
+
+        final RadarCellRenderer style = mStyle;
+        final Bitmap.Config config = mBitmapConfig;
+        final String key = getKey(data, style, config, width, height);
+
+        Bitmap bitmap = mMemoryCache.get(key);
+
+        if (bitmap != null) {
+            callback.onThumbnailLoaded(key, bitmap);
+            return key;
+        }
+
+        List<Callback> pending = mPending.get(key);
+
+        // already being loaded
+        if (pending != null) {
+            pending.add(callback);
+            return key;
+        }
+
+        pending = new ArrayList<>(1);
+        pending.add(callback);
+        mPending.put(key, pending);
+
+        mExecutor.execute(new Runnable() {
+            @Override
+            public void run() {
+
+                Bitmap bitmap = null;
+
+                try {
+                    bitmap = readFromDisk(key, config);
+
+                    if (bitmap == null) {
+                        bitmap = mWorkers.get().render(data, style, config, width, height);
+                        writeToDisk(key, bitmap);
+                    }
+                } catch (RuntimeException | OutOfMemoryError e) {
+                    // e.g. invalid data or no memory for the bitmap
+                    Log.e(Chart.LOG_TAG, "Loading thumbnail " + key + " failed.", e);
+                } finally {
+                    // the pending request must end, later requests load again
+                    deliver(key, bitmap);
+                }
+            }
+        });
+
+        return key;
+    }
+
+    /**
+     * Returns the thumbnail with the given key if it is in memory, null if
+     * not.
+     *
+     * @param key
+     * @return
+     */
+    public Bitmap get(String key) {
+        return mMemoryCache.get(key);
+    }
+
+    /**
+     * Removes the given callback from the pending request with the given key,
+     * e.g. when a list row is bound to another profile. The thumbnail is
+     * still loaded and cached.
+     *
+     * @param key
+     * @param callback
+     */
+    public void cancel(String key, Callback callback) {
+
+        List<Callback> pending = mPending.get(key);
+
+        if (pending != null)
+            pending.remove(callback);
+    }
+
+    /**
+     * Puts the thumbnail into memory and invokes the callbacks of its
+     * request on the main thread. A null thumbnail (failed request) is not
+     * cached.
+     */
+    private void deliver(final String key, final Bitmap bitmap) {
+
+        mHandler.post(new Runnable() {
+            @Override
+            public void run() {
+
+                if (bitmap != null)
+                    mMemoryCache.put(key, bitmap);
+
+                List<Callback> pending = mPending.remove(key);
+
+                if (pending == null)
+                    return;
+
+                for (int i = 0; i < pending.size(); i++)
+                    pending.get(i).onThumbnailLoaded(key, bitmap);
+            }
+        });
+    }
+
+    /**
+     * Decodes the thumbnail with the given key from the disk cache, returns
+     * null if it is not on disk.
+     */
+    private Bitmap readFromDisk(String key, Bitmap.Config config) {
+
+        synchronized (mDiskLock) {
+
+            File file = getFile(key);
+
+            if (!file.exists())
+                return null;
+
+            // mutable, so it can be pooled when it is evicted
+            BitmapFactory.Options options = new BitmapFactory.Options();
+            options.inPreferredConfig = config;
+            options.inMutable = true;
+
+            Bitmap bitmap = BitmapFactory.decodeFile(file.getPath(), options);
+
+            if (bitmap == null) {
+                // corrupt, render it again
+                mDiskSize -= file.length();
+                file.delete();
+                return null;
+            }
+
+            // the least recently used files are evicted first
+            file.setLastModified(System.currentTimeMillis());
+            return bitmap;
+        }
+    }
+
+    /**
+     * Writes the given thumbnail into the disk cache and evicts the least
+     * recently used files if the budget is exceeded.
+     */
+    private void writeToDisk(String key, Bitmap bitmap) {
+
+        synchronized (mDiskLock) {
+
+            if (!mDirectory.exists() && !mDirectory.mkdirs())
+                return;
+
+            if (mDiskSize < 0)
+                mDiskSize = computeDiskSize();
+
+            File file = getFile(key);
+            File tmp = new File(mDirectory, key + ".tmp");
+
+            OutputStream out = null;
+            boolean written = false;
+
+            try {
+                out = new FileOutputStream(tmp);
+                written = bitmap.compress(mCompressFormat, 100, out);
+            } catch (IOException e) {
+                written = false;
+            } finally {
+                if (out != null) {
+                    try {
+                        out.close();
+                    } catch (IOException e) {
+                        written = false;
+                    }
+                }
+            }
+
+            // readers never see half written files
+            if (!written || !tmp.renameTo(file)) {
+                tmp.delete();
+                return;
+            }
+
+            mDiskSize += file.length();
+
+            if (mDiskSize > mMaxDiskSize)
+                trimDisk(mMaxDiskSize * 9 / 10);
+        }
+    }
+
+    /**
+     * Deletes the least recently used files until the disk cache takes at
+     * most the given number of bytes. Must hold the disk lock.
+     */
+    private void trimDisk(long maxSize) {
+
+        File[] files = mDirectory.listFiles();
+
+        if (files == null)
+            return;
+
+        Arrays.sort(files, new Comparator<File>() {
+            @Override
+            public int compare(File f1, File f2) {
+                long m1 = f1.lastModified();
+                long m2 = f2.lastModified();
+                return m1 < m2 ? -1 : (m1 == m2 ? 0 : 1);
+            }
+        });
+
+        for (int i = 0; i < files.length && mDiskSize > maxSize; i++) {
+
+            long length = files[i].length();
+
+            if (files[i].delete())
+                mDiskSize -= length;
+        }
+    }
+
+    private long computeDiskSize() {
+
+        File[] files = mDirectory.listFiles();
+        long size = 0;
+
+        if (files != null) {
+            for (File file : files)
+                size += file.length();
+        }
+
+        return size;
+    }
+
+    private File getFile(String key) {
+        return new File(mDirectory, key + "." + mCompressFormat.name().toLowerCase(Locale.US));
+    }
+
+    /**
+     * Returns the key of the thumbnail of the given data: a 64 bit FNV-1a hash
+     * of everything that changes how the thumbnail looks.
+     *
+     * @param data
+     * @param style
+     * @param config
+     * @param width
+     * @param height
+     * @return
+     */
+    private static String getKey(RadarData data, RadarCellRenderer style,
+            Bitmap.Config config, int width, int height) {
+
+        long h = FNV_OFFSET;
+
+        h = hash(h, style.getStyleHash());
+        h = hash(h, config.ordinal());
+        h = hash(h, width);
+        h = hash(h, height);
+        h = hash(h, data.getXValCount());
+
+        List<RadarDataSet> sets = data.getDataSets();
+        h = hash(h, sets.size());
+
+        for (int i = 0; i < sets.size(); i++) {
+
+            RadarDataSet set = sets.get(i);
+
+            h = hash(h, set.isVisible() ? 1 : 0);
+            h = hash(h, set.isDrawFilledEnabled() ? 1 : 0);
+            h = hash(h, set.getFillAlpha());
+            h = hash(h, Float.floatToIntBits(set.getLineWidth()));
+
+            List<Integer> colors = set.getColors();
+            h = hash(h, colors.size());
+
+            for (int j = 0; j < colors.size(); j++)
+                h = hash(h, colors.get(j));
+
+            List<Entry> entries = set.getYVals();
+            h = hash(h, entries.size());
+
+            for (int j = 0; j < entries.size(); j++) {
+                h = hash(h, entries.get(j).getXIndex());
+                h = hash(h, Float.floatToIntBits(entries.get(j).getVal()));
+            }
+        }
+
+        return Long.toHexString(h);
+    }
+
+    private static long hash(long h, int value) {
+        for (int i = 0; i < 4; i++) {
+            h ^= (value >>> (i * 8)) & 0xff;
+            h *= FNV_PRIME;
+        }
+        return h;
+    }
+
+    /**
+     * Sets the style of the thumbnails, the given renderer is copied.
+     * Thumbnails that were cached with another style are not used anymore.
+     *
+     * @param style
+     */
+    public void setStyle(RadarCellRenderer style) {
+        RadarCellRenderer copy = new RadarCellRenderer();
+        copy.copyStyle(style);
+        mStyle = copy;
+    }
+
+    /**
+     * Sets the format of the images in the disk cache, call it before the
+     * first request. Default: PNG
+     *
+     * @param format
+     */
+    public void setCompressFormat(Bitmap.CompressFormat format) {
+        mCompressFormat = format;
+    }
+
+    /**
+     * Sets the config of the thumbnail bitmaps, e.g. RGB_565 for half the
+     * memory of thumbnails that need no transparency. Thumbnails that were
+     * cached with another config are not used anymore. Default: ARGB_8888
+     *
+     * @param config
+     */
+    public void setBitmapConfig(Bitmap.Config config) {
+
+        if (config == null)
+            throw new IllegalArgumentException("The bitmap config must not be null.");
+
+        mBitmapConfig = config;
+    }
+
+    public Bitmap.Config getBitmapConfig() {
+        return mBitmapConfig;
+    }
+
+    /**
+     * Removes all thumbnails from memory, e.g. when the system is low on
+     * memory. The disk cache is kept.
+     */
+    public void clearMemory() {
+        mMemoryCache.evictAll();
+    }
+
+    /**
+     * Deletes all thumbnails, in memory and on disk.
+     */
+    public void clear() {
+
+        clearMemory();
+
+        mExecutor.execute(new Runnable() {
+            @Override
+            public void run() {
+                synchronized (mDiskLock) {
+                    mDiskSize = computeDiskSize();
+                    trimDisk(0);
+                }
+            }
+        });
+    }
+
+    /**
+     * Stops the background threads, the cache must not be used afterwards.
+     */
+    public void shutdown() {
+        mExecutor.shutdown();
+    }
+
+    /**
+     * Renderer and polygon buffers of a background thread.
+     */
+    private static class Worker {
+
+        private final RadarCellRenderer mRenderer = new RadarCellRenderer();
+        private final RadarPolygonCache mPolygons = new RadarPolygonCache();
+        private final CanvasDrawingSurface mSurface = new CanvasDrawingSurface();
+
+        /** the style the renderer was last copied from */
+        private RadarCellRenderer mStyle;
+
+        private Bitmap render(RadarData data, RadarCellRenderer style, Bitmap.Config config,
+                int width, int height) {
+
+            if (style != mStyle) {
+                mRenderer.copyStyle(style);
+                mStyle = style;
+            }
+
+            // each thumbnail uses the value range of its own data
+            mRenderer.computeAxis(data.getDataSetCount() > 0 ? data.getYMax() : 0f);
+
+            Bitmap bitmap = BitmapPool.getInstance().get(width, height, config);
+            boolean drawn = false;
+
+            try {
+                mSurface.setCanvas(new Canvas(bitmap));
+                mRenderer.draw(mSurface, data, mPolygons, width, height);
+                drawn = true;
+            } finally {
+                mSurface.setCanvas(null);
+                mPolygons.invalidate();
+
+                if (!drawn)
+                    BitmapPool.getInstance().put(bitmap);
+            }
+
+            return bitmap;
+        }
+    }
+}
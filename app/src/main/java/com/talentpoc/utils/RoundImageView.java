@@ -2,11 +2,12 @@ package com.talentpoc.utils;
 
 import android.content.Context;
 import android.graphics.Bitmap;
+import android.graphics.BitmapFactory;
+import android.graphics.BitmapShader;
 import android.graphics.Canvas;
+import android.graphics.Matrix;
 import android.graphics.Paint;
-import android.graphics.PorterDuff;
-import android.graphics.PorterDuffXfermode;
-import android.graphics.Rect;
+import android.graphics.Shader;
 import android.graphics.drawable.BitmapDrawable;
 import android.graphics.drawable.Drawable;
 import android.util.AttributeSet;
@@ -14,9 +15,45 @@ import android.widget.ImageView;
 
 /**
  * Created by LACA on 10/03/2015.
+ * <p>
+ * ImageView that draws its bitmap as a circle (center crop). The circle is
+ * drawn with a BitmapShader that is only created again when the drawable or
+ * the size of the view changes, drawing allocates nothing. Images set with
+ * setImageResource(...) or setImageFile(...) are decoded downsampled to the
+ * size of the view.
  */
 public class RoundImageView extends ImageView {
 
+    /** paint with the shader of the current bitmap */
+    private final Paint mBitmapPaint = new Paint(Paint.ANTI_ALIAS_FLAG
+            | Paint.FILTER_BITMAP_FLAG);
+
+    /** maps the bitmap onto the circle */
+    private final Matrix mShaderMatrix = new Matrix();
+
+    private BitmapShader mShader;
+
+    /** the bitmap the shader was created for */
+    private Bitmap mShaderBitmap;
+
+    /** the circle */
+    private float mCenterX;
+    private float mCenterY;
+    private float mRadius;
+
+    /**
+     * true if the shader needs to be updated, no initializer: it is set by the
+     * ImageView constructor (android:src)
+     */
+    private boolean mShaderDirty;
+
+    /** the image that is decoded once the size of the view is known */
+    private int mResource;
+    private String mPath;
+
+    /** true while a decoded image is set */
+    private boolean mDecoding;
+
     public RoundImageView(Context context) {
         super(context);
     }
@@ -30,39 +67,155 @@ public class RoundImageView extends ImageView {
     }
 
     @Override
-    protected void onDraw( Canvas canvas) {
+    public void setImageDrawable(Drawable drawable) {
+        super.setImageDrawable(drawable);
+
+        if (!mDecoding) {
+            mResource = 0;
+            mPath = null;
+        }
+
+        mShaderDirty = true;
+    }
+
+    /**
+     * Sets the image from the given resource, decoded downsampled to the size
+     * of the view.
+     *
+     * @param resId
+     */
+    @Override
+    public void setImageResource(int resId) {
+        mResource = resId;
+        mPath = null;
+        decodeImage();
+    }
+
+    /**
+     * Sets the image from the given file, decoded downsampled to the size of
+     * the view.
+     *
+     * @param path
+     */
+    public void setImageFile(String path) {
+        mResource = 0;
+        mPath = path;
+        decodeImage();
+    }
+
+    @Override
+    protected void onSizeChanged(int w, int h, int oldw, int oldh) {
+        super.onSizeChanged(w, h, oldw, oldh);
+
+        mShaderDirty = true;
+
+        if (mResource != 0 || mPath != null)
+            decodeImage();
+    }
+
+    /**
+     * Decodes the image resource or file with the largest power of two sample
+     * size that keeps it at least as large as the view. Waits until the view
+     * has a size.
+     */
+    private void decodeImage() {
+
+        int size = Math.min(getWidth(), getHeight());
+
+        if (size <= 0)
+            return;
+
+        BitmapFactory.Options options = new BitmapFactory.Options();
+        options.inJustDecodeBounds = true;
+        decode(options);
+
+        options.inSampleSize = getSampleSize(options.outWidth, options.outHeight, size);
+        options.inJustDecodeBounds = false;
+
+        Bitmap bitmap = decode(options);
+
+        if (bitmap == null)
+            return;
+
+        mDecoding = true;
+        setImageBitmap(bitmap);
+        mDecoding = false;
+    }
+
+    private Bitmap decode(BitmapFactory.Options options) {
+        if (mPath != null)
+            return BitmapFactory.decodeFile(mPath, options);
+        else
+            return BitmapFactory.decodeResource(getContext().getResources(), mResource, options);
+    }
+
+    /**
+     * Returns the largest power of two sample size that keeps the smaller
+     * side of an image of the given size at least as large as the given size.
+     *
+     * @param width
+     * @param height
+     * @param size
+     * @return
+     */
+    private static int getSampleSize(int width, int height, int size) {
+
+        int sampleSize = 1;
+        int side = Math.min(width, height);
+
+        while (side / (sampleSize * 2) >= size)
+            sampleSize *= 2;
+
+        return sampleSize;
+    }
+
+    @Override
+    protected void onDraw(Canvas canvas) {
+
+        if (mShaderDirty)
+            updateShader();
+
+        if (mShader == null)
+            return;
+
+        canvas.drawCircle(mCenterX, mCenterY, mRadius, mBitmapPaint);
+    }
+
+    /**
+     * Creates the shader for the current bitmap and size: the bitmap is
+     * scaled so that its smaller side fills the circle, and centered.
+     */
+    private void updateShader() {
+
+        mShaderDirty = false;
+
         Drawable drawable = getDrawable();
-        if (drawable == null) {
+        Bitmap bitmap = drawable instanceof BitmapDrawable
+                ? ((BitmapDrawable) drawable).getBitmap() : null;
+
+        if (bitmap == null || getWidth() == 0 || getHeight() == 0) {
+            mShader = null;
+            mShaderBitmap = null;
+            mBitmapPaint.setShader(null);
             return;
         }
-        if (getWidth() == 0 || getHeight() == 0) {
-            return;
+
+        if (bitmap != mShaderBitmap) {
+            mShader = new BitmapShader(bitmap, Shader.TileMode.CLAMP, Shader.TileMode.CLAMP);
+            mShaderBitmap = bitmap;
         }
-        Bitmap b = ((BitmapDrawable) drawable).getBitmap();
-        int w = Math.min(b.getHeight(), b.getWidth());
-        Bitmap bitmap = Bitmap.createBitmap(b, 0, 0, w, w);
-        Bitmap roundBitmap = getCroppedBitmap(bitmap);
-        canvas.drawBitmap(roundBitmap, 0, 0, null);
-    }
 
+        mCenterX = getWidth() / 2f;
+        mCenterY = getHeight() / 2f;
+        mRadius = Math.min(mCenterX, mCenterY);
+
+        float scale = mRadius * 2f / Math.min(bitmap.getWidth(), bitmap.getHeight());
+
+        mShaderMatrix.setScale(scale, scale);
+        mShaderMatrix.postTranslate(mCenterX - bitmap.getWidth() * scale / 2f,
+                mCenterY - bitmap.getHeight() * scale / 2f);
 
-    private Bitmap getCroppedBitmap(Bitmap bitmap) {
-        Bitmap output = Bitmap.createBitmap(bitmap.getWidth(),
-                bitmap.getHeight(), Bitmap.Config.ARGB_8888);
-        Canvas canvas = new Canvas(output);
-        final Paint paint = new Paint();
-        final Rect rect = new Rect(0, 0, bitmap.getWidth(),
-                bitmap.getHeight());
-        paint.setAntiAlias(true);
-        canvas.drawARGB(0, 0, 0, 0);
-        int radius = bitmap.getWidth() / 2;
-        canvas.drawCircle(radius, radius, radius, paint);
-        paint.setXfermode(new PorterDuffXfermode(PorterDuff.Mode.SRC_IN));
-        canvas.drawBitmap(bitmap, rect, rect, paint);
-
-        /**
-         * Warning width and height of current view (DO NOT USE parameter bitmap)
-         */
-        return Bitmap.createScaledBitmap(output, getWidth(), getHeight(), false);
+        mShader.setLocalMatrix(mShaderMatrix);
+        mBitmapPaint.setShader(mShader);
     }
-}
\ No newline at end of file
+}
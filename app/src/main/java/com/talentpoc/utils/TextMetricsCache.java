@@ -0,0 +1,218 @@
+
+package com.talentpoc.utils;
+
+import android.graphics.Paint;
+import android.graphics.Rect;
+import android.graphics.Typeface;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bounded least-recently-used cache for the width and height of texts,
+ * keyed by the text and the properties of the Paint the size of a text
+ * depends on: typeface, text size, text scale, letter spacing and fake bold. Measuring text with a Paint is
+ * expensive and the charts keep measuring the same few labels, so all text
+ * measurement of the library goes through the instance returned by
+ * Utils.getTextMetricsCache(). Lookups do not allocate, only a miss creates a
+ * new entry. Hit and miss counters allow to verify the cache is effective.
+ */
+public class TextMetricsCache {
+
+    /** the maximum number of entries */
+    private final int mMaxSize;
+
+    /** entries in access order, the eldest entry is evicted first */
+    private final LinkedHashMap<Key, Metrics> mEntries;
+
+    /** key reused for lookups */
+    private final Key mLookupKey = new Key();
+
+    /** rect reused for measuring the text bounds */
+    private final Rect mBounds = new Rect();
+
+    private long mHitCount = 0;
+    private long mMissCount = 0;
+
+    /**
+     * @param maxSize the maximum number of texts the cache holds
+     */
+    public TextMetricsCache(final int maxSize) {
+
+        mMaxSize = maxSize;
+        mEntries = new LinkedHashMap<Key, Metrics>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Metrics> eldest) {
+                return size() > mMaxSize;
+            }
+        };
+    }
+
+    /**
+     * Returns the width of the given text when drawn with the given paint.
+     *
+     * @param paint
+     * @param text
+     * @return
+     */
+    public synchronized float getWidth(Paint paint, CharSequence text) {
+
+        Metrics m = get(paint, text);
+
+        if (Float.isNaN(m.width))
+            m.width = paint.measureText(text, 0, text.length());
+
+        return m.width;
+    }
+
+    /**
+     * Returns the height of the bounds of the given text when drawn with the
+     * given paint.
+     *
+     * @param paint
+     * @param text
+     * @return
+     */
+    public synchronized int getHeight(Paint paint, CharSequence text) {
+
+        Metrics m = get(paint, text);
+
+        if (m.height < 0) {
+            String s = text.toString();
+            paint.getTextBounds(s, 0, s.length(), mBounds);
+            m.height = mBounds.height();
+        }
+
+        return m.height;
+    }
+
+    /**
+     * Returns the cached metrics for the text and paint, creates an empty
+     * entry on a miss.
+     */
+    private Metrics get(Paint paint, CharSequence text) {
+
+        mLookupKey.set(paint, text);
+
+        Metrics m = mEntries.get(mLookupKey);
+
+        if (m != null) {
+            mHitCount++;
+            return m;
+        }
+
+        mMissCount++;
+
+        Key key = new Key();
+        key.set(paint, text.toString());
+
+        m = new Metrics();
+        mEntries.put(key, m);
+
+        return m;
+    }
+
+    /**
+     * Removes all entries, e.g. when the fonts are changed. The counters are
+     * kept.
+     */
+    public synchronized void clear() {
+        mEntries.clear();
+    }
+
+    /**
+     * Resets the hit and miss counters.
+     */
+    public synchronized void resetCounters() {
+        mHitCount = 0;
+        mMissCount = 0;
+    }
+
+    public synchronized long getHitCount() {
+        return mHitCount;
+    }
+
+    public synchronized long getMissCount() {
+        return mMissCount;
+    }
+
+    public synchronized int size() {
+        return mEntries.size();
+    }
+
+    public int getMaxSize() {
+        return mMaxSize;
+    }
+
+    /**
+     * Width and height of a text, NaN and -1 until measured.
+     */
+    private static final class Metrics {
+        float width = Float.NaN;
+        int height = -1;
+    }
+
+    /**
+     * Text and the text properties of the Paint. The text is compared by its
+     * characters so that reused builders can be used for lookups.
+     */
+    private static final class Key {
+
+        private Typeface mTypeface;
+        private float mTextSize;
+        private float mTextScaleX;
+        private float mLetterSpacing;
+        private boolean mFakeBold;
+        private CharSequence mText;
+        private int mHash;
+
+        void set(Paint paint, CharSequence text) {
+            mTypeface = paint.getTypeface();
+            mTextSize = paint.getTextSize();
+            mTextScaleX = paint.getTextScaleX();
+            mLetterSpacing = paint.getLetterSpacing();
+            mFakeBold = paint.isFakeBoldText();
+            mText = text;
+
+            int h = mTypeface == null ? 0 : mTypeface.hashCode();
+            h = 31 * h + Float.floatToIntBits(mTextSize);
+            h = 31 * h + Float.floatToIntBits(mTextScaleX);
+            h = 31 * h + Float.floatToIntBits(mLetterSpacing);
+            h = 31 * h + (mFakeBold ? 1 : 0);
+
+            for (int i = 0; i < text.length(); i++)
+                h = 31 * h + text.charAt(i);
+
+            mHash = h;
+        }
+
+        @Override
+        public int hashCode() {
+            return mHash;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+
+            if (!(o instanceof Key))
+                return false;
+
+            Key k = (Key) o;
+
+            if (mHash != k.mHash || mTextSize != k.mTextSize || mTextScaleX != k.mTextScaleX
+                    || mLetterSpacing != k.mLetterSpacing || mFakeBold != k.mFakeBold
+                    || mText.length() != k.mText.length())
+                return false;
+
+            if (mTypeface == null ? k.mTypeface != null : !mTypeface.equals(k.mTypeface))
+                return false;
+
+            for (int i = 0; i < mText.length(); i++) {
+                if (mText.charAt(i) != k.mText.charAt(i))
+                    return false;
+            }
+
+            return true;
+        }
+    }
+}
@@ -5,8 +5,7 @@ import android.content.Context;
 import android.content.res.Resources;
 import android.graphics.Paint;
 import android.graphics.PointF;
-import android.graphics.Rect;
-import android.util.DisplayMetrics;
+import android.graphics.Typeface;
 import android.util.Log;
 
 /**
@@ -19,10 +18,21 @@ import android.util.Log;
  */
 public abstract class Utils {
 
-    private static DisplayMetrics mMetrics;
     private static int mMinimumFlingVelocity = 50;
     private static int mMaximumFlingVelocity = 8000;
 
+    /** writes the messages of the chart core to the android log */
+    private static final ChartLog.Logger ANDROID_LOGGER = new ChartLog.Logger() {
+
+        @Override
+        public void e(String tag, String msg) {
+            Log.e(tag, msg);
+        }
+    };
+
+    /** cache for the width and height of measured texts */
+    private static final TextMetricsCache mTextMetricsCache = new TextMetricsCache(256);
+
     /**
      * initialize method, called inside the Chart.init() method.
      */
@@ -31,8 +41,7 @@ public abstract class Utils {
 
         if (null != context) {
             Resources res = context.getResources();
-            mMetrics = res.getDisplayMetrics();
-
+            init(res);
         }
     }
 
@@ -44,8 +53,9 @@ public abstract class Utils {
      */
     @Deprecated
     public static void init(Resources res) {
-        mMetrics = res.getDisplayMetrics();
-
+        // the chart core converts dp and logs through platform neutral adapters
+        DisplayDensity.setDensityDpi(res.getDisplayMetrics().densityDpi);
+        ChartLog.setLogger(ANDROID_LOGGER);
     }
 
 
@@ -59,47 +69,52 @@ public abstract class Utils {
      * device density
      */
     public static float convertDpToPixel(float dp) {
+        return DisplayDensity.convertDpToPixel(dp);
+    }
 
-        if (mMetrics == null) {
-
-            Log.e("MPChartLib-Utils",
-                    "Utils NOT INITIALIZED. You need to call Utils.init(...) at least once before calling Utils.convertDpToPixel(...). Otherwise conversion does not take place.");
-            return dp;
-            // throw new IllegalStateException(
-            // "Utils NOT INITIALIZED. You need to call Utils.init(...) at least once before calling Utils.convertDpToPixel(...).");
-        }
 
-        DisplayMetrics metrics = mMetrics;
-        float px = dp * (metrics.densityDpi / 160f);
-        return px;
+    /**
+     * Returns the android Typeface of the given holder of the chart core (set
+     * by e.g. AxisBase.setTypeface(...)), null if it holds none.
+     *
+     * @param typeface
+     * @return
+     */
+    public static Typeface toTypeface(TypefaceHolder<?> typeface) {
+        return typeface != null ? typeface.get(Typeface.class) : null;
     }
 
-
     /**
-     * calculates the approximate width of a text, depending on a demo text
-     * avoid repeated calls (e.g. inside drawing methods)
+     * calculates the approximate width of a text, depending on a demo text.
+     * The result is cached, see getTextMetricsCache().
      *
      * @param paint
      * @param demoText
      * @return
      */
-    public static int calcTextWidth(Paint paint, String demoText) {
-        return (int) paint.measureText(demoText);
+    public static int calcTextWidth(Paint paint, CharSequence demoText) {
+        return (int) mTextMetricsCache.getWidth(paint, demoText);
     }
 
     /**
-     * calculates the approximate height of a text, depending on a demo text
-     * avoid repeated calls (e.g. inside drawing methods)
+     * calculates the approximate height of a text, depending on a demo text.
+     * The result is cached, see getTextMetricsCache().
      *
      * @param paint
      * @param demoText
      * @return
      */
-    public static int calcTextHeight(Paint paint, String demoText) {
+    public static int calcTextHeight(Paint paint, CharSequence demoText) {
+        return mTextMetricsCache.getHeight(paint, demoText);
+    }
 
-        Rect r = new Rect();
-        paint.getTextBounds(demoText, 0, demoText.length(), r);
-        return r.height();
+    /**
+     * Returns the cache all text measurement of the charts goes through.
+     *
+     * @return
+     */
+    public static TextMetricsCache getTextMetricsCache() {
+        return mTextMetricsCache;
     }
 
 
@@ -110,11 +125,7 @@ public abstract class Utils {
      * @return
      */
     public static float roundToNextSignificant(double number) {
-        final float d = (float) Math.ceil((float) Math.log10(number < 0 ? -number : number));
-        final int pw = 1 - (int) d;
-        final float magnitude = (float) Math.pow(10, pw);
-        final long shifted = Math.round(number * magnitude);
-        return shifted / magnitude;
+        return MathUtils.roundToNextSignificant(number);
     }
 
     /**
@@ -125,9 +136,7 @@ public abstract class Utils {
      * @return
      */
     public static int getDecimals(float number) {
-
-        float i = roundToNextSignificant(number);
-        return (int) Math.ceil(-Math.log10(i)) + 2;
+        return MathUtils.getDecimals(number);
     }
 
 
@@ -139,13 +148,7 @@ public abstract class Utils {
      * @return
      */
     public static double nextUp(double d) {
-        if (d == Double.POSITIVE_INFINITY)
-            return d;
-        else {
-            d += 0.0d;
-            return Double.longBitsToDouble(Double.doubleToRawLongBits(d) +
-                    ((d >= 0.0d) ? +1L : -1L));
-        }
+        return MathUtils.nextUp(d);
     }
 
     /**
@@ -168,10 +171,7 @@ public abstract class Utils {
      * returns an angle between 0.f < 360.f (not less than zero, less than 360)
      */
     public static float getNormalizedAngle(float angle) {
-        while (angle < 0.f)
-            angle += 360.f;
-
-        return angle % 360.f;
+        return MathUtils.getNormalizedAngle(angle);
     }
 
     public static float distance(float eventX, float startX, float eventY, float startY) {
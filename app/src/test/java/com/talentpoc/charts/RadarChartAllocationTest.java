@@ -0,0 +1,129 @@
+package com.talentpoc.charts;
+
+import com.talentpoc.BuildConfig;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricGradleTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.util.Locale;
+
+import static org.junit.Assert.fail;
+
+/**
+ * Guards the steady state of RadarChart: once the first frame is drawn,
+ * frames of unchanged data and geometry must not allocate (see
+ * RadarFrameProfiler for how the bytes are measured).
+ * <p>
+ * After the warm-up every run of frames must be allocation free. The JIT
+ * may allocate a few hundred bytes on the drawing thread once when it
+ * replaces compiled code, so a shape may repeat one run that allocated, a
+ * second run that allocates fails it.
+ * <p>
+ * The frames are drawn onto a RecordingDrawingSurface. CanvasDrawingSurface
+ * and CanvasPath are not covered: under Robolectric the shadow Canvas
+ * allocates for every call it records, so their bytes are not those of a
+ * device.
+ */
+@RunWith(RobolectricGradleTestRunner.class)
+@Config(constants = BuildConfig.class, sdk = 21)
+public class RadarChartAllocationTest {
+
+    private static final String[] SHAPES = new String[] {
+            "3x1", "6x1", "12x3", "36x10", "100x50"
+    };
+
+    /** long enough for the JIT to compile the draw path */
+    private static final int WARMUP_FRAME_COUNT = 2000;
+
+    /** the frames of a run that must not allocate */
+    private static final int RUN_FRAME_COUNT = 100;
+
+    private static final int RUN_COUNT = 3;
+
+    @Test
+    public void steadyStateFramesDoNotAllocate() {
+
+        for (String shape : SHAPES)
+            assertSteadyState(shape, new RadarFrameProfiler(RadarChartFrameBenchmark
+                    .createChart(shape)));
+    }
+
+    @Test
+    public void framesAfterRotationDoNotAllocate() {
+
+        for (String shape : SHAPES) {
+
+            RadarChart chart = RadarChartFrameBenchmark.createChart(shape);
+            RadarFrameProfiler profiler = new RadarFrameProfiler(chart);
+
+            profiler.drawFrame();
+
+            // new geometry, the caches are computed again into their buffers
+            chart.setRotationAngle(chart.getRotationAngle() + 45f);
+
+            assertSteadyState(shape + " rotated", profiler);
+        }
+    }
+
+    /**
+     * Draws warm-up frames, then the runs of frames, none of which may
+     * allocate. A single run that allocated is repeated.
+     */
+    private static void assertSteadyState(String name, RadarFrameProfiler profiler) {
+
+        for (int i = 0; i < WARMUP_FRAME_COUNT; i++)
+            profiler.drawFrame();
+
+        String retried = null;
+
+        for (int run = 0; run < RUN_COUNT; run++) {
+
+            String allocation = drawRun(profiler);
+
+            if (allocation == null)
+                continue;
+
+            if (retried != null)
+                fail(name + ": frames allocate in two runs, " + retried + " and "
+                        + allocation);
+
+            retried = allocation;
+            run--;
+        }
+    }
+
+    /**
+     * Draws a run of frames and returns null if none of them allocated, else
+     * the bytes per row of the first frame that did.
+     */
+    private static String drawRun(RadarFrameProfiler profiler) {
+
+        for (int i = 0; i < RUN_FRAME_COUNT; i++) {
+
+            profiler.drawFrame();
+
+            if (profiler.getFrameCost(RadarFrameProfiler.COST_ALLOCATED_BYTES) > 0)
+                return format(profiler);
+        }
+
+        return null;
+    }
+
+    private static String format(RadarFrameProfiler profiler) {
+
+        StringBuilder b = new StringBuilder();
+
+        for (int row = 0; row < RadarFrameProfiler.ROW_COUNT; row++) {
+
+            long bytes = profiler.getCost(row, RadarFrameProfiler.COST_ALLOCATED_BYTES);
+
+            if (bytes > 0)
+                b.append(String.format(Locale.US, "%s%s: %d bytes", b.length() > 0 ? ", "
+                        : "", RadarFrameProfiler.getRowName(row), bytes));
+        }
+
+        return b.toString();
+    }
+}
@@ -0,0 +1,55 @@
+package com.talentpoc.charts;
+
+import com.talentpoc.BuildConfig;
+import com.talentpoc.renderer.RadarChartRenderer;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricGradleTestRunner;
+import org.robolectric.annotation.Config;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(RobolectricGradleTestRunner.class)
+@Config(constants = BuildConfig.class, sdk = 21)
+public class RadarChartAnimationTest {
+
+    @Test
+    public void detachCancelsDataAnimation() {
+
+        RadarChart chart = RadarChartFrameBenchmark.createChart("6x1");
+        chart.animateDataChange(RadarTestData.create("12x3"), 1000, null);
+
+        assertTrue(chart.getAnimator().isRunning());
+
+        chart.onDetachedFromWindow();
+
+        assertFalse(chart.getAnimator().isRunning());
+    }
+
+    @Test
+    public void rangeChangeUpdatesAnimationTargets() {
+
+        RadarChart chart = RadarChartFrameBenchmark.createChart("6x1");
+        chart.animateDataChange(RadarTestData.create("12x3"), 1000, null);
+
+        // the axis is set up after the animation started
+        chart.getYAxis().setStartAtZero(false);
+        chart.updateStages();
+
+        RadarChartRenderer renderer = (RadarChartRenderer) chart.getRenderer();
+
+        for (int i = 0; i < 3; i++) {
+
+            float[] expected = new float[12];
+            renderer.computeNormalizedVertices(chart.getData().getDataSetByIndex(i), expected);
+
+            float[] target = new float[12];
+            System.arraycopy(chart.getAnimator().getTargetBuffer(i), 0, target, 0, 12);
+
+            assertArrayEquals(expected, target, 0f);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.talentpoc.charts;
+
+import com.talentpoc.BuildConfig;
+import com.talentpoc.utils.RecordingDrawingSurface;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricGradleTestRunner;
+import org.robolectric.annotation.Config;
+
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Checks the draw calls of RadarChart frames recorded by a
+ * RecordingDrawingSurface.
+ */
+@RunWith(RobolectricGradleTestRunner.class)
+@Config(constants = BuildConfig.class, sdk = 21)
+public class RadarChartDrawTest {
+
+    private static final String[] SHAPES = new String[] {
+            "3x1", "12x3"
+    };
+
+    /** the layers share the drawing state, so later frames start stroked */
+    private static final int FRAME_COUNT = 3;
+
+    @Test
+    public void textIsDrawnFilled() {
+
+        for (String shape : SHAPES) {
+
+            RadarFrameProfiler profiler = new RadarFrameProfiler(RadarChartFrameBenchmark
+                    .createChart(shape));
+            RecordingDrawingSurface surface = profiler.getSurface();
+
+            for (int frame = 0; frame < FRAME_COUNT; frame++) {
+
+                profiler.drawFrame();
+
+                for (int i = 0; i < surface.getOpCount(); i++) {
+
+                    if (surface.getOpType(i) == RecordingDrawingSurface.OP_TEXT)
+                        assertTrue(shape + " frame " + frame + ": \"" + surface.getOpText(i)
+                                + "\" is not filled", surface.isOpFilled(i));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package com.talentpoc.charts;
+
+import com.talentpoc.BuildConfig;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricGradleTestRunner;
+import org.robolectric.RuntimeEnvironment;
+import org.robolectric.annotation.Config;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Locale;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Measures what a RadarChart frame costs per layer (see RadarFrameProfiler)
+ * for synthetic data of several shapes "axes x data sets". The frames are
+ * drawn after the data is set and the chart is laid out, with one value
+ * highlighted. Prints a table per shape and writes all results as JSON to
+ * build/reports/radar-frame/results.json of the app module. It is skipped
+ * unless enabled with -PframeBenchmark:
+ *
+ * <pre>
+ * ./gradlew :app:testDebugUnitTest --tests '*RadarChartFrameBenchmark'
+ *         -PframeBenchmark -PframeShapes=12x3,100x50 -PframeCount=500
+ * </pre>
+ */
+@RunWith(RobolectricGradleTestRunner.class)
+@Config(constants = BuildConfig.class, sdk = 21)
+public class RadarChartFrameBenchmark {
+
+    private static final boolean ENABLED = Boolean.getBoolean("radarFrame.enabled");
+
+    private static final String SHAPES = System.getProperty("radarFrame.frameShapes",
+            "6x1,12x3,36x10,100x50");
+
+    private static final int FRAME_COUNT = Integer.getInteger("radarFrame.frameCount", 200);
+
+    private static final int WARMUP_FRAME_COUNT = 20;
+
+    private static final int WIDTH = 1080;
+    private static final int HEIGHT = 1080;
+
+    /** set by the build to the reports directory of the app module */
+    private static final String OUTPUT = System.getProperty("radarFrame.output",
+            "build/reports/radar-frame/results.json");
+
+    /** the costs that are the same in every frame of unchanged data */
+    private static final int[] DRAW_COSTS = new int[] {
+            RadarFrameProfiler.COST_LINES, RadarFrameProfiler.COST_LINE_BATCHES,
+            RadarFrameProfiler.COST_PATHS, RadarFrameProfiler.COST_TEXTS,
+            RadarFrameProfiler.COST_PATH_SEGMENTS, RadarFrameProfiler.COST_PAINT_MUTATIONS
+    };
+
+    /**
+     * Returns a laid out chart with the data of the given shape.
+     *
+     * @param shape
+     * @return
+     */
+    public static RadarChart createChart(String shape) {
+
+        RadarChart chart = new RadarChart(RuntimeEnvironment.application);
+        chart.setData(RadarTestData.create(shape));
+        chart.highlightValue(0, 0);
+        chart.layout(0, 0, WIDTH, HEIGHT);
+
+        return chart;
+    }
+
+    @Test
+    public void measureFrames() throws IOException {
+
+        assumeTrue(ENABLED);
+
+        StringBuilder json = new StringBuilder("[\n");
+
+        for (String shape : SHAPES.split(",")) {
+
+            shape = shape.trim();
+
+            RadarFrameProfiler profiler = new RadarFrameProfiler(createChart(shape));
+
+            for (int i = 0; i < WARMUP_FRAME_COUNT; i++)
+                profiler.drawFrame();
+
+            profiler.resetTotals();
+
+            long[] drawCosts = null;
+
+            for (int i = 0; i < FRAME_COUNT; i++) {
+
+                profiler.drawFrame();
+
+                // unchanged data is drawn the same way every frame
+                if (drawCosts == null)
+                    drawCosts = getDrawCosts(profiler);
+                else
+                    assertArrayEquals(shape, drawCosts, getDrawCosts(profiler));
+            }
+
+            System.out.println(format(shape, profiler));
+
+            if (json.length() > 2)
+                json.append(",\n");
+
+            appendJson(json, shape, profiler);
+        }
+
+        json.append("\n]\n");
+
+        File file = new File(OUTPUT);
+        file.getParentFile().mkdirs();
+
+        Writer writer = new FileWriter(file);
+
+        try {
+            writer.write(json.toString());
+        } finally {
+            writer.close();
+        }
+    }
+
+    /**
+     * Returns the draw calls, path segments and Paint mutations of all rows
+     * of the last frame.
+     */
+    private static long[] getDrawCosts(RadarFrameProfiler profiler) {
+
+        long[] costs = new long[RadarFrameProfiler.ROW_COUNT * DRAW_COSTS.length];
+
+        for (int row = 0; row < RadarFrameProfiler.ROW_COUNT; row++) {
+            for (int i = 0; i < DRAW_COSTS.length; i++)
+                costs[row * DRAW_COSTS.length + i] = profiler.getCost(row, DRAW_COSTS[i]);
+        }
+
+        return costs;
+    }
+
+    /**
+     * Returns the average costs per frame as table, one line per row.
+     */
+    private static String format(String shape, RadarFrameProfiler profiler) {
+
+        StringBuilder b = new StringBuilder();
+
+        b.append(String.format(Locale.US, "RadarChart frame %s (%d frames)%n", shape,
+                profiler.getFrameCount()));
+        b.append(String.format(Locale.US, "%-11s", "layer"));
+
+        for (String name : RadarFrameProfiler.COST_NAMES)
+            b.append(String.format(Locale.US, "%15s", name));
+
+        b.append(String.format(Locale.US, "%n"));
+
+        for (int row = 0; row < RadarFrameProfiler.ROW_COUNT; row++) {
+
+            b.append(String.format(Locale.US, "%-11s", RadarFrameProfiler.getRowName(row)));
+
+            for (int cost = 0; cost < RadarFrameProfiler.COST_COUNT; cost++)
+                b.append(String.format(Locale.US, "%15.1f", profiler.getAverage(row, cost)));
+
+            b.append(String.format(Locale.US, "%n"));
+        }
+
+        return b.toString();
+    }
+
+    private static void appendJson(StringBuilder json, String shape,
+            RadarFrameProfiler profiler) {
+
+        json.append(String.format(Locale.US,
+                "  {\"shape\": \"%s\", \"axes\": %d, \"dataSets\": %d, \"frames\": %d,"
+                        + " \"width\": %d, \"height\": %d, \"layers\": {",
+                shape, RadarTestData.getAxisCount(shape), RadarTestData.getDataSetCount(shape),
+                profiler.getFrameCount(), WIDTH, HEIGHT));
+
+        for (int row = 0; row < RadarFrameProfiler.ROW_COUNT; row++) {
+
+            if (row > 0)
+                json.append(',');
+
+            json.append("\n    \"").append(RadarFrameProfiler.getRowName(row)).append("\": {");
+
+            for (int cost = 0; cost < RadarFrameProfiler.COST_COUNT; cost++) {
+
+                if (cost > 0)
+                    json.append(", ");
+
+                json.append(String.format(Locale.US, "\"%s\": %.1f",
+                        RadarFrameProfiler.COST_NAMES[cost], profiler.getAverage(row, cost)));
+            }
+
+            json.append('}');
+        }
+
+        json.append("\n  }}");
+    }
+}
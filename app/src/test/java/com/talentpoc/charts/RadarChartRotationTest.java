@@ -0,0 +1,100 @@
+package com.talentpoc.charts;
+
+import android.graphics.Canvas;
+import android.graphics.Paint;
+import android.graphics.RectF;
+
+import com.talentpoc.BuildConfig;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricGradleTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+@RunWith(RobolectricGradleTestRunner.class)
+@Config(constants = BuildConfig.class, sdk = 21)
+public class RadarChartRotationTest {
+
+    @Test
+    public void drawsTextsUprightWhileRotating() {
+
+        RadarChart chart = RadarChartFrameBenchmark.createChart("6x1");
+        chart.getYAxis().setEnabled(true);
+
+        TextCanvas settled = new TextCanvas();
+        chart.onDraw(settled);
+
+        chart.setRotationOffset(30f);
+
+        TextCanvas rotating = new TextCanvas();
+        chart.onDraw(rotating);
+
+        assertFalse(settled.mTexts.isEmpty());
+        assertEquals(settled.mTexts.size(), rotating.mTexts.size());
+
+        RectF content = chart.getViewPortHandler().getContentRect();
+        double rad = Math.toRadians(30f);
+
+        for (int i = 0; i < settled.mTexts.size(); i++) {
+
+            float[] p = settled.mTexts.get(i);
+            float[] q = rotating.mTexts.get(i);
+
+            float dx = p[0] - content.centerX();
+            float dy = p[1] - content.centerY();
+
+            // moved by the offset, but not drawn onto the rotated canvas
+            assertEquals(content.centerX() + dx * Math.cos(rad) - dy * Math.sin(rad), q[0], 0.01f);
+            assertEquals(content.centerY() + dx * Math.sin(rad) + dy * Math.cos(rad), q[1], 0.01f);
+            assertEquals(0f, q[2], 0f);
+        }
+    }
+
+    /**
+     * Records the position of every text and the rotation of the canvas it
+     * is drawn with.
+     */
+    private static class TextCanvas extends Canvas {
+
+        private final List<float[]> mTexts = new ArrayList<>();
+
+        private final List<Float> mRotations = new ArrayList<>();
+
+        private float mRotation;
+
+        @Override
+        public int save() {
+            mRotations.add(mRotation);
+            return mRotations.size() - 1;
+        }
+
+        @Override
+        public void restoreToCount(int count) {
+            mRotation = mRotations.get(count);
+
+            while (mRotations.size() > count)
+                mRotations.remove(mRotations.size() - 1);
+        }
+
+        @Override
+        public void rotate(float degrees, float px, float py) {
+            mRotation += degrees;
+        }
+
+        @Override
+        public void drawText(String text, float x, float y, Paint paint) {
+            mTexts.add(new float[] { x, y, mRotation });
+        }
+
+        @Override
+        public void drawText(char[] text, int index, int count, float x, float y, Paint paint) {
+            mTexts.add(new float[] { x, y, mRotation });
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.talentpoc.charts;
+
+import com.talentpoc.BuildConfig;
+import com.talentpoc.renderer.RadarChartRenderer;
+import com.talentpoc.utils.RadarSharedResources;
+import com.talentpoc.utils.RadarWebCache;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricGradleTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+@RunWith(RobolectricGradleTestRunner.class)
+@Config(constants = BuildConfig.class, sdk = 21)
+public class RadarChartSharedStyleTest {
+
+    private static final String STYLE = "shared-style-test";
+
+    private RadarChart mChart;
+    private RadarChart mOther;
+
+    @Before
+    public void setUp() {
+
+        mChart = RadarChartFrameBenchmark.createChart("6x1");
+        mOther = RadarChartFrameBenchmark.createChart("6x3");
+        mOther.layout(0, 0, 540, 720);
+
+        mChart.setSharedStyle(STYLE);
+        mOther.setSharedStyle(STYLE);
+    }
+
+    @After
+    public void tearDown() {
+        mChart.setSharedStyle(null);
+        mOther.setSharedStyle(null);
+    }
+
+    @Test
+    public void sharesUnitWebAndPaints() {
+
+        new RadarFrameProfiler(mChart).drawFrame();
+        new RadarFrameProfiler(mOther).drawFrame();
+
+        assertSame(mChart.getUnitWeb(), mOther.getUnitWeb());
+        assertSame(mChart.mXAxisRenderer.getPaintAxisLabels(),
+                mOther.mYAxisRenderer.getPaintAxisLabels());
+        assertNotSame(mChart.getXAxis().getLabelLayout(), mOther.getXAxis().getLabelLayout());
+    }
+
+    @Test
+    public void otherSizeAndDataKeepWebOfChart() {
+
+        RadarFrameProfiler profiler = new RadarFrameProfiler(mChart);
+        profiler.drawFrame();
+
+        RadarWebCache web = ((RadarChartRenderer) mChart.getRenderer()).getWebCache();
+        float[] rings = Arrays.copyOf(web.getRings(), web.getRingCount());
+        float x = mChart.getXAxis().getLabelLayout().getX(2);
+
+        // another size and value range, drawn into its own web and layout
+        new RadarFrameProfiler(mOther).drawFrame();
+
+        assertArrayEquals(rings, Arrays.copyOf(web.getRings(), web.getRingCount()), 0f);
+        assertEquals(x, mChart.getXAxis().getLabelLayout().getX(2), 0f);
+    }
+
+    @Test
+    public void detachReleasesStyle() {
+
+        int count = RadarSharedResources.getStyleCount();
+
+        mChart.onDetachedFromWindow();
+        mOther.onDetachedFromWindow();
+
+        assertEquals(count - 1, RadarSharedResources.getStyleCount());
+        assertEquals(STYLE, mChart.getSharedStyle());
+
+        mChart.onAttachedToWindow();
+        mOther.onAttachedToWindow();
+
+        assertEquals(count, RadarSharedResources.getStyleCount());
+        assertSame(mChart.mXAxisRenderer.getPaintAxisLabels(),
+                mOther.mXAxisRenderer.getPaintAxisLabels());
+    }
+
+    @Test
+    public void ownStyleCreatesPaintsWhenNeeded() {
+
+        mChart.setSharedStyle(null);
+
+        assertNull(mChart.getSharedStyle());
+        assertNotSame(mChart.mXAxisRenderer.getPaintAxisLabels(),
+                mOther.mXAxisRenderer.getPaintAxisLabels());
+    }
+}
@@ -0,0 +1,100 @@
+package com.talentpoc.charts;
+
+import android.graphics.Typeface;
+
+import com.talentpoc.BuildConfig;
+import com.talentpoc.utils.TypefaceHolder;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricGradleTestRunner;
+import org.robolectric.annotation.Config;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Checks which stages of a RadarChart a change of a property computes
+ * again.
+ */
+@RunWith(RobolectricGradleTestRunner.class)
+@Config(constants = BuildConfig.class, sdk = 21)
+public class RadarChartStageTest {
+
+    private RadarChart mChart;
+
+    @Before
+    public void setUp() {
+        mChart = RadarChartFrameBenchmark.createChart("6x1");
+        mChart.updateStages();
+        mChart.resetStageRunCounts();
+    }
+
+    @Test
+    public void unchangedChartComputesNothing() {
+        mChart.updateStages();
+        assertRuns("unchanged");
+    }
+
+    @Test
+    public void labelCountComputesTicks() {
+        mChart.getYAxis().setLabelCount(3);
+        mChart.updateStages();
+        assertRuns("label count", Chart.Stage.AXIS_TICKS, Chart.Stage.GEOMETRY);
+    }
+
+    @Test
+    public void startAtZeroComputesRange() {
+        mChart.getYAxis().setStartAtZero(false);
+        mChart.updateStages();
+        assertRuns("start at zero", Chart.Stage.values());
+    }
+
+    @Test
+    public void axisMaxValueComputesRange() {
+        mChart.getYAxis().setAxisMaxValue(500f);
+        mChart.updateStages();
+        assertRuns("axis max", Chart.Stage.values());
+        assertEquals(500f, mChart.getYAxis().mAxisMaximum, 0f);
+    }
+
+    @Test
+    public void xAxisTextSizeComputesLabelMetrics() {
+        mChart.getXAxis().setTextSize(18f);
+        mChart.updateStages();
+        assertRuns("text size", Chart.Stage.LABEL_METRICS, Chart.Stage.OFFSETS);
+    }
+
+    @Test
+    public void xAxisTypefaceComputesLabelMetrics() {
+        mChart.getXAxis().setTypeface(new TypefaceHolder<>(Typeface.class, Typeface.DEFAULT_BOLD));
+        mChart.updateStages();
+        assertRuns("typeface", Chart.Stage.LABEL_METRICS, Chart.Stage.OFFSETS);
+    }
+
+    @Test
+    public void rotationComputesNothing() {
+        mChart.setRotationAngle(mChart.getRotationAngle() + 30f);
+        mChart.updateStages();
+        assertRuns("rotation");
+    }
+
+    /**
+     * Asserts that exactly the given stages were computed once since the
+     * last reset.
+     */
+    private void assertRuns(String change, Chart.Stage... stages) {
+
+        for (Chart.Stage stage : Chart.Stage.values()) {
+
+            int expected = 0;
+
+            for (Chart.Stage s : stages) {
+                if (s == stage)
+                    expected = 1;
+            }
+
+            assertEquals(change + ": " + stage, expected, mChart.getStageRunCount(stage));
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.talentpoc.charts;
+
+import com.talentpoc.BuildConfig;
+import com.talentpoc.utils.RadarLabelLayout;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricGradleTestRunner;
+import org.robolectric.annotation.Config;
+
+import static org.junit.Assert.assertEquals;
+
+@RunWith(RobolectricGradleTestRunner.class)
+@Config(constants = BuildConfig.class, sdk = 21)
+public class RadarChartTouchTest {
+
+    @Test
+    public void hitsLabelAfterCommittedRotation() {
+
+        RadarChart chart = RadarChartFrameBenchmark.createChart("6x1");
+        new RadarFrameProfiler(chart).drawFrame();
+
+        RadarLabelLayout layout = chart.getXAxis().getLabelLayout();
+        float x = layout.getX(1);
+        float y = layout.getY(1);
+
+        // a tap that stops a fling commits the offset before the hit-test,
+        // label 0 is then shown where label 1 was drawn
+        chart.setRotationOffset(chart.getSliceAngle());
+        chart.commitRotationOffset();
+
+        assertEquals(0, chart.getLabelIndexAt(x, y));
+    }
+
+    @Test
+    public void hitsLabelShownWithRotationOffset() {
+
+        RadarChart chart = RadarChartFrameBenchmark.createChart("6x1");
+        new RadarFrameProfiler(chart).drawFrame();
+
+        RadarLabelLayout layout = chart.getXAxis().getLabelLayout();
+        float x = layout.getX(1);
+        float y = layout.getY(1);
+
+        chart.setRotationOffset(chart.getSliceAngle());
+
+        assertEquals(0, chart.getLabelIndexAt(x, y));
+    }
+
+    @Test
+    public void hitsLabelWhileStyleSharedWithOtherSize() {
+
+        RadarChart chart = RadarChartFrameBenchmark.createChart("6x1");
+        RadarChart other = RadarChartFrameBenchmark.createChart("6x1");
+        other.layout(0, 0, 540, 720);
+
+        chart.setSharedStyle("touch-test");
+        other.setSharedStyle("touch-test");
+
+        try {
+            new RadarFrameProfiler(chart).drawFrame();
+
+            RadarLabelLayout layout = chart.getXAxis().getLabelLayout();
+            float x = layout.getX(2);
+            float y = layout.getY(2);
+
+            // the other chart scales the shared unit web for its own geometry
+            new RadarFrameProfiler(other).drawFrame();
+
+            assertEquals(2, chart.getLabelIndexAt(x, y));
+        } finally {
+            chart.setSharedStyle(null);
+            other.setSharedStyle(null);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.talentpoc.charts;
+
+import com.talentpoc.BuildConfig;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricGradleTestRunner;
+import org.robolectric.annotation.Config;
+
+import static org.junit.Assert.assertEquals;
+
+@RunWith(RobolectricGradleTestRunner.class)
+@Config(constants = BuildConfig.class, sdk = 21)
+public class RadarChartValuesTest {
+
+    @Test
+    public void drawsValueOfEveryVertex() {
+
+        RadarChart chart = RadarChartFrameBenchmark.createChart("12x3");
+        RadarFrameProfiler profiler = new RadarFrameProfiler(chart);
+        profiler.drawFrame();
+
+        assertEquals(12 * 3,
+                profiler.getCost(RadarChart.Layer.VALUES, RadarFrameProfiler.COST_TEXTS));
+    }
+
+    @Test
+    public void skipsDataSetsWithoutValues() {
+
+        RadarChart chart = RadarChartFrameBenchmark.createChart("12x3");
+        chart.getData().getDataSetByIndex(1).setDrawValues(false);
+
+        RadarFrameProfiler profiler = new RadarFrameProfiler(chart);
+        profiler.drawFrame();
+
+        assertEquals(12 * 2,
+                profiler.getCost(RadarChart.Layer.VALUES, RadarFrameProfiler.COST_TEXTS));
+
+        chart.getData().setDrawValues(false);
+        profiler.drawFrame();
+
+        assertEquals(0,
+                profiler.getCost(RadarChart.Layer.VALUES, RadarFrameProfiler.COST_TEXTS));
+    }
+}
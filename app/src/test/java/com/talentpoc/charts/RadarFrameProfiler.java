@@ -0,0 +1,223 @@
+package com.talentpoc.charts;
+
+import com.talentpoc.utils.RecordingDrawingSurface;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Draws frames of a RadarChart onto a RecordingDrawingSurface and measures
+ * what each layer of a frame costs: draw calls by type, path segments, Paint
+ * mutations (state changes of the surface), bytes allocated by the drawing
+ * thread and time. A frame is drawn like RadarChart.onDraw(...) draws it: the
+ * invalid stages are computed, then the layers are drawn in order. The
+ * stages are measured as a row of their own.
+ */
+public class RadarFrameProfiler {
+
+    /** draw calls of the op types of RecordingDrawingSurface, OP_LINE... */
+    public static final int COST_LINES = RecordingDrawingSurface.OP_LINE;
+    public static final int COST_LINE_BATCHES = RecordingDrawingSurface.OP_LINES;
+    public static final int COST_PATHS = RecordingDrawingSurface.OP_PATH;
+    public static final int COST_TEXTS = RecordingDrawingSurface.OP_TEXT;
+
+    public static final int COST_PATH_SEGMENTS = RecordingDrawingSurface.OP_TYPE_COUNT;
+    public static final int COST_PAINT_MUTATIONS = COST_PATH_SEGMENTS + 1;
+    public static final int COST_ALLOCATED_BYTES = COST_PATH_SEGMENTS + 2;
+    public static final int COST_NANOS = COST_PATH_SEGMENTS + 3;
+
+    /** the number of costs */
+    public static final int COST_COUNT = COST_PATH_SEGMENTS + 4;
+
+    /** names of the costs, e.g. for reports */
+    public static final String[] COST_NAMES = new String[] {
+            "lines", "lineBatches", "paths", "texts", "pathSegments", "paintMutations",
+            "allocatedBytes", "nanos"
+    };
+
+    /** the row of the stages, the layers follow in their order */
+    public static final int ROW_STAGES = 0;
+
+    /** the number of rows, stages and layers */
+    public static final int ROW_COUNT = RadarChart.Layer.values().length + 1;
+
+    private static final RadarChart.Layer[] LAYERS = RadarChart.Layer.values();
+
+    private final RadarChart mChart;
+
+    private final RecordingDrawingSurface mSurface = new RecordingDrawingSurface();
+
+    private final com.sun.management.ThreadMXBean mThreadBean;
+
+    /** the bytes reading the allocated bytes allocates itself */
+    private final long mMeterBytes;
+
+    /** the costs of the last frame and the sums of all frames, [row][cost] */
+    private final long[][] mCosts = new long[ROW_COUNT][COST_COUNT];
+    private final long[][] mTotals = new long[ROW_COUNT][COST_COUNT];
+
+    /** the number of frames summed up in the totals */
+    private int mFrameCount;
+
+    /** counters of the surface before the row that is measured */
+    private final long[] mStart = new long[COST_COUNT];
+
+    public RadarFrameProfiler(RadarChart chart) {
+        mChart = chart;
+        mThreadBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        mThreadBean.setThreadAllocatedMemoryEnabled(true);
+
+        long overhead = Long.MAX_VALUE;
+
+        for (int i = 0; i < 16; i++) {
+            long start = getAllocatedBytes();
+            overhead = Math.min(overhead, getAllocatedBytes() - start);
+        }
+
+        mMeterBytes = overhead;
+    }
+
+    /**
+     * Returns the surface the frames are drawn onto.
+     *
+     * @return
+     */
+    public RecordingDrawingSurface getSurface() {
+        return mSurface;
+    }
+
+    /**
+     * Draws a frame and measures it, the costs are added to the totals.
+     */
+    public void drawFrame() {
+
+        mSurface.clear();
+
+        begin();
+        mChart.updateStages();
+        end(ROW_STAGES);
+
+        for (int i = 0; i < LAYERS.length; i++) {
+            begin();
+            mChart.renderLayer(mSurface, LAYERS[i]);
+            end(i + 1);
+        }
+
+        for (int row = 0; row < ROW_COUNT; row++) {
+            for (int cost = 0; cost < COST_COUNT; cost++)
+                mTotals[row][cost] += mCosts[row][cost];
+        }
+
+        mFrameCount++;
+    }
+
+    private void begin() {
+        for (int type = 0; type < RecordingDrawingSurface.OP_TYPE_COUNT; type++)
+            mStart[type] = mSurface.getOpCount(type);
+
+        mStart[COST_PATH_SEGMENTS] = mSurface.getPathSegmentCount();
+        mStart[COST_PAINT_MUTATIONS] = mSurface.getStateChangeCount();
+        mStart[COST_NANOS] = System.nanoTime();
+        mStart[COST_ALLOCATED_BYTES] = getAllocatedBytes();
+    }
+
+    private void end(int row) {
+        long bytes = getAllocatedBytes() - mStart[COST_ALLOCATED_BYTES] - mMeterBytes;
+        long nanos = System.nanoTime() - mStart[COST_NANOS];
+
+        long[] costs = mCosts[row];
+
+        for (int type = 0; type < RecordingDrawingSurface.OP_TYPE_COUNT; type++)
+            costs[type] = mSurface.getOpCount(type) - mStart[type];
+
+        costs[COST_PATH_SEGMENTS] = mSurface.getPathSegmentCount() - mStart[COST_PATH_SEGMENTS];
+        costs[COST_PAINT_MUTATIONS] = mSurface.getStateChangeCount()
+                - mStart[COST_PAINT_MUTATIONS];
+        costs[COST_ALLOCATED_BYTES] = Math.max(0, bytes);
+        costs[COST_NANOS] = nanos;
+    }
+
+    private long getAllocatedBytes() {
+        return mThreadBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    /**
+     * Returns the given cost of the given row (ROW_STAGES or the layer + 1)
+     * in the last frame.
+     *
+     * @param row
+     * @param cost
+     * @return
+     */
+    public long getCost(int row, int cost) {
+        return mCosts[row][cost];
+    }
+
+    /**
+     * Returns the given cost of the given layer in the last frame.
+     *
+     * @param layer
+     * @param cost
+     * @return
+     */
+    public long getCost(RadarChart.Layer layer, int cost) {
+        return mCosts[layer.ordinal() + 1][cost];
+    }
+
+    /**
+     * Returns the given cost of the last frame summed over all rows.
+     *
+     * @param cost
+     * @return
+     */
+    public long getFrameCost(int cost) {
+        long sum = 0;
+
+        for (int row = 0; row < ROW_COUNT; row++)
+            sum += mCosts[row][cost];
+
+        return sum;
+    }
+
+    /**
+     * Returns the average of the given cost of the given row per frame since
+     * the last resetTotals().
+     *
+     * @param row
+     * @param cost
+     * @return
+     */
+    public double getAverage(int row, int cost) {
+        return mFrameCount == 0 ? 0 : mTotals[row][cost] / (double) mFrameCount;
+    }
+
+    /**
+     * Returns the number of frames drawn since the last resetTotals().
+     *
+     * @return
+     */
+    public int getFrameCount() {
+        return mFrameCount;
+    }
+
+    /**
+     * Sets the totals to zero, e.g. after the warm-up frames.
+     */
+    public void resetTotals() {
+        for (int row = 0; row < ROW_COUNT; row++) {
+            for (int cost = 0; cost < COST_COUNT; cost++)
+                mTotals[row][cost] = 0;
+        }
+
+        mFrameCount = 0;
+    }
+
+    /**
+     * Returns the name of the given row: "stages" or the name of the layer.
+     *
+     * @param row
+     * @return
+     */
+    public static String getRowName(int row) {
+        return row == ROW_STAGES ? "stages" : LAYERS[row - 1].name().toLowerCase();
+    }
+}
@@ -0,0 +1,76 @@
+package com.talentpoc.charts;
+
+import com.talentpoc.data.Entry;
+import com.talentpoc.data.RadarData;
+import com.talentpoc.data.RadarDataSet;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Synthetic radar data for the tests. The data is random, but the same for
+ * every run (fixed seed). Its size is given as shape "axes x data sets",
+ * e.g. "12x3".
+ */
+public abstract class RadarTestData {
+
+    private static final long SEED = 42L;
+
+    /**
+     * Returns the number of axes of the given shape, e.g. 12 for "12x3".
+     *
+     * @param shape
+     * @return
+     */
+    public static int getAxisCount(String shape) {
+        return Integer.parseInt(shape.substring(0, shape.indexOf('x')).trim());
+    }
+
+    /**
+     * Returns the number of data sets of the given shape, e.g. 3 for "12x3".
+     *
+     * @param shape
+     * @return
+     */
+    public static int getDataSetCount(String shape) {
+        return Integer.parseInt(shape.substring(shape.indexOf('x') + 1).trim());
+    }
+
+    /**
+     * Returns data of the given shape with values between 0 and 100, every
+     * other data set is drawn filled.
+     *
+     * @param shape
+     * @return
+     */
+    public static RadarData create(String shape) {
+
+        int axisCount = getAxisCount(shape);
+        int dataSetCount = getDataSetCount(shape);
+
+        Random random = new Random(SEED);
+
+        List<String> xVals = new ArrayList<>(axisCount);
+
+        for (int i = 0; i < axisCount; i++)
+            xVals.add("Axis " + i);
+
+        List<RadarDataSet> sets = new ArrayList<>(dataSetCount);
+
+        for (int i = 0; i < dataSetCount; i++) {
+
+            List<Entry> yVals = new ArrayList<>(axisCount);
+
+            for (int j = 0; j < axisCount; j++)
+                yVals.add(new Entry(random.nextFloat() * 100f, j));
+
+            RadarDataSet set = new RadarDataSet(yVals, "Set " + i);
+            set.setColor(0xFF000000 | random.nextInt(0xFFFFFF));
+            set.setDrawFilled(i % 2 == 0);
+            sets.add(set);
+        }
+
+        return new RadarData(xVals, sets);
+    }
+}
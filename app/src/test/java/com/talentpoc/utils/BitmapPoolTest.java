@@ -0,0 +1,69 @@
+package com.talentpoc.utils;
+
+import android.graphics.Bitmap;
+
+import com.talentpoc.BuildConfig;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricGradleTestRunner;
+import org.robolectric.annotation.Config;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(RobolectricGradleTestRunner.class)
+@Config(constants = BuildConfig.class, sdk = 21)
+public class BitmapPoolTest {
+
+    @Test
+    public void reusesReturnedBitmap() {
+
+        BitmapPool pool = new BitmapPool(1 << 20);
+
+        Bitmap bitmap = pool.get(10, 10, Bitmap.Config.ARGB_8888);
+        pool.put(bitmap);
+
+        assertSame(bitmap, pool.get(10, 10, Bitmap.Config.ARGB_8888));
+        assertEquals(1, pool.getHitCount());
+        assertEquals(1, pool.getMissCount());
+    }
+
+    @Test
+    public void removesBucketWhenTaken() {
+
+        BitmapPool pool = new BitmapPool(1 << 20);
+
+        // sizes that are seen once, e.g. while a view is resized
+        for (int width = 1; width <= 50; width++)
+            pool.put(Bitmap.createBitmap(width, 10, Bitmap.Config.ARGB_8888));
+
+        assertEquals(50, pool.getBucketCount());
+
+        for (int width = 1; width <= 50; width++)
+            pool.get(width, 10, Bitmap.Config.ARGB_8888);
+
+        assertEquals(0, pool.getBucketCount());
+        assertEquals(0, pool.getSize());
+    }
+
+    @Test
+    public void removesBucketWhenEvicted() {
+
+        // room for one bitmap of 10 x 10 pixels
+        BitmapPool pool = new BitmapPool(10 * 10 * 4);
+
+        Bitmap first = Bitmap.createBitmap(10, 10, Bitmap.Config.ARGB_8888);
+        pool.put(first);
+
+        for (int width = 1; width <= 10; width++)
+            pool.put(Bitmap.createBitmap(width, 10, Bitmap.Config.ARGB_8888));
+
+        assertTrue(first.isRecycled());
+        assertEquals(1, pool.getBucketCount());
+
+        pool.clear();
+        assertEquals(0, pool.getBucketCount());
+    }
+}
@@ -0,0 +1,88 @@
+package com.talentpoc.utils;
+
+import android.graphics.Paint;
+
+import com.talentpoc.BuildConfig;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricGradleTestRunner;
+import org.robolectric.annotation.Config;
+
+import static org.junit.Assert.assertEquals;
+
+@RunWith(RobolectricGradleTestRunner.class)
+@Config(constants = BuildConfig.class, sdk = 21)
+public class TextMetricsCacheTest {
+
+    @Test
+    public void hitsForSameTextAndPaint() {
+
+        TextMetricsCache cache = new TextMetricsCache(16);
+        Paint paint = createPaint();
+
+        cache.getWidth(paint, "label");
+        cache.getWidth(paint, new StringBuilder("label"));
+        cache.getHeight(createPaint(), "label");
+
+        assertEquals(1, cache.getMissCount());
+        assertEquals(2, cache.getHitCount());
+    }
+
+    @Test
+    public void missesForOtherTextSize() {
+
+        Paint paint = createPaint();
+        paint.setTextSize(20f);
+
+        assertMissesAfterChange(paint);
+    }
+
+    @Test
+    public void missesForOtherLetterSpacing() {
+
+        Paint paint = createPaint();
+        paint.setLetterSpacing(0.1f);
+
+        assertMissesAfterChange(paint);
+    }
+
+    @Test
+    public void missesForOtherTextScale() {
+
+        Paint paint = createPaint();
+        paint.setTextScaleX(1.5f);
+
+        assertMissesAfterChange(paint);
+    }
+
+    @Test
+    public void missesForFakeBold() {
+
+        Paint paint = createPaint();
+        paint.setFakeBoldText(true);
+
+        assertMissesAfterChange(paint);
+    }
+
+    /**
+     * Asserts that the text measured with a default paint is measured again
+     * with the given changed paint.
+     */
+    private static void assertMissesAfterChange(Paint changed) {
+
+        TextMetricsCache cache = new TextMetricsCache(16);
+
+        cache.getWidth(createPaint(), "label");
+        cache.getWidth(changed, "label");
+
+        assertEquals(2, cache.getMissCount());
+        assertEquals(2, cache.size());
+    }
+
+    private static Paint createPaint() {
+        Paint paint = new Paint(Paint.ANTI_ALIAS_FLAG);
+        paint.setTextSize(12f);
+        return paint;
+    }
+}
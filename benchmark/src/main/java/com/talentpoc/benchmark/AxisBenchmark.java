@@ -0,0 +1,80 @@
+package com.talentpoc.benchmark;
+
+import com.talentpoc.utils.AxisTicks;
+import com.talentpoc.utils.RadarAxisValues;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Computing the y-axis entries. YAxisRendererRadarChart.computeAxisValues(...)
+ * is RadarAxisValues.compute(...) plus copying the results into the YAxis, so
+ * RadarAxisValues is measured here, without the android renderer. Each call
+ * gets another value range (magnitudes from 0.01 to 1e6), except for
+ * computeUnchanged, the path of a redraw with unchanged data.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AxisBenchmark {
+
+    private static final int RANGE_COUNT = 256;
+
+    @Param({"4", "6", "10"})
+    public int labelCount;
+
+    private final float[] mMaxima = new float[RANGE_COUNT];
+
+    private final RadarAxisValues mAxisValues = new RadarAxisValues();
+    private final AxisTicks mTicks = new AxisTicks();
+
+    private int mRange;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42L);
+
+        for (int i = 0; i < RANGE_COUNT; i++)
+            mMaxima[i] = (float) (Math.pow(10, random.nextInt(9) - 2) * (1 + random.nextFloat() * 9));
+
+        mAxisValues.compute(0f, mMaxima[0], labelCount, false);
+    }
+
+    private float nextMaximum() {
+        mRange = (mRange + 1) & (RANGE_COUNT - 1);
+        return mMaxima[mRange];
+    }
+
+    @Benchmark
+    public int computeAxisValues() {
+        mAxisValues.compute(0f, nextMaximum(), labelCount, false);
+        return mAxisValues.mEntryCount;
+    }
+
+    @Benchmark
+    public int computeUnchanged() {
+        mAxisValues.compute(0f, mMaxima[0], labelCount, false);
+        return mAxisValues.mEntryCount;
+    }
+
+    @Benchmark
+    public int axisTicksInside() {
+        mTicks.compute(0f, nextMaximum(), labelCount, AxisTicks.Mode.INSIDE);
+        return mTicks.getCount();
+    }
+}
@@ -0,0 +1,141 @@
+package com.talentpoc.benchmark;
+
+import com.talentpoc.data.Entry;
+import com.talentpoc.data.RadarData;
+import com.talentpoc.data.RadarDataSet;
+import com.talentpoc.utils.DisplayDensity;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Synthetic radar data for the benchmarks. The data is random, but the same
+ * for every run (fixed seed), so results of different commits are
+ * comparable.
+ * <p>
+ * The size of the data is given as shape "axes x data sets", e.g. "12x100".
+ * The data wide benchmarks run with few to many axes (3 - 1000) and few to
+ * many data sets (1 - 100k), but not with the full cross product: 1000 axes
+ * times 100k data sets do not fit into a benchmark heap.
+ */
+public abstract class BenchmarkData {
+
+    private static final long SEED = 42L;
+
+    static {
+        // no android display, dp values are pixels
+        DisplayDensity.setDensity(1f);
+    }
+
+    /**
+     * Returns the number of axes of the given shape, e.g. 12 for "12x100".
+     *
+     * @param shape
+     * @return
+     */
+    public static int getAxisCount(String shape) {
+        return Integer.parseInt(shape.substring(0, shape.indexOf('x')));
+    }
+
+    /**
+     * Returns the number of data sets of the given shape, e.g. 100 for
+     * "12x100".
+     *
+     * @param shape
+     * @return
+     */
+    public static int getDataSetCount(String shape) {
+        return Integer.parseInt(shape.substring(shape.indexOf('x') + 1));
+    }
+
+    /**
+     * Returns the labels of the given number of axes.
+     *
+     * @param axisCount
+     * @return
+     */
+    public static List<String> createXVals(int axisCount) {
+
+        List<String> xVals = new ArrayList<>(axisCount);
+
+        for (int i = 0; i < axisCount; i++)
+            xVals.add("Axis " + i);
+
+        return xVals;
+    }
+
+    /**
+     * Returns the entries of the given number of data sets, one entry per axis
+     * with a value between 0 and 100.
+     *
+     * @param axisCount
+     * @param dataSetCount
+     * @return
+     */
+    public static List<List<Entry>> createEntries(int axisCount, int dataSetCount) {
+
+        Random random = new Random(SEED);
+        List<List<Entry>> entries = new ArrayList<>(dataSetCount);
+
+        for (int i = 0; i < dataSetCount; i++) {
+
+            List<Entry> yVals = new ArrayList<>(axisCount);
+
+            for (int j = 0; j < axisCount; j++)
+                yVals.add(new Entry(random.nextFloat() * 100f, j));
+
+            entries.add(yVals);
+        }
+
+        return entries;
+    }
+
+    /**
+     * Returns the labels of the given number of data sets.
+     *
+     * @param dataSetCount
+     * @return
+     */
+    public static String[] createLabels(int dataSetCount) {
+
+        String[] labels = new String[dataSetCount];
+
+        for (int i = 0; i < dataSetCount; i++)
+            labels[i] = "Set " + i;
+
+        return labels;
+    }
+
+    /**
+     * Creates the data sets of the given entries.
+     *
+     * @param entries
+     * @param labels
+     * @return
+     */
+    public static List<RadarDataSet> createDataSets(List<List<Entry>> entries, String[] labels) {
+
+        List<RadarDataSet> sets = new ArrayList<>(entries.size());
+
+        for (int i = 0; i < entries.size(); i++)
+            sets.add(new RadarDataSet(entries.get(i), labels[i]));
+
+        return sets;
+    }
+
+    /**
+     * Returns random data of the given shape.
+     *
+     * @param shape
+     * @return
+     */
+    public static RadarData createRadarData(String shape) {
+
+        int axisCount = getAxisCount(shape);
+        int dataSetCount = getDataSetCount(shape);
+
+        return new RadarData(createXVals(axisCount), createDataSets(
+                createEntries(axisCount, dataSetCount), createLabels(dataSetCount)));
+    }
+}
@@ -0,0 +1,66 @@
+package com.talentpoc.benchmark;
+
+import com.talentpoc.data.Entry;
+import com.talentpoc.data.RadarData;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Creating RadarData (data sets and chart data, including their min / max
+ * statistics) and computing the statistics again.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class ChartDataBenchmark {
+
+    /** axes x data sets, see BenchmarkData */
+    @Param({"3x1", "12x1", "12x100", "100x100", "1000x1", "1000x1000", "3x100000", "12x100000"})
+    public String shape;
+
+    private List<String> mXVals;
+    private List<List<Entry>> mEntries;
+    private String[] mLabels;
+
+    private RadarData mData;
+    private int mAxisCount;
+
+    @Setup
+    public void setup() {
+        mAxisCount = BenchmarkData.getAxisCount(shape);
+        int dataSetCount = BenchmarkData.getDataSetCount(shape);
+
+        mXVals = BenchmarkData.createXVals(mAxisCount);
+        mEntries = BenchmarkData.createEntries(mAxisCount, dataSetCount);
+        mLabels = BenchmarkData.createLabels(dataSetCount);
+
+        mData = new RadarData(mXVals, BenchmarkData.createDataSets(mEntries, mLabels));
+    }
+
+    @Benchmark
+    public RadarData construct() {
+        return new RadarData(mXVals, BenchmarkData.createDataSets(mEntries, mLabels));
+    }
+
+    @Benchmark
+    public float calcMinMax() {
+        mData.calcMinMax(0, mAxisCount - 1);
+        return mData.getYMax();
+    }
+}
@@ -0,0 +1,64 @@
+package com.talentpoc.benchmark;
+
+import com.talentpoc.data.Entry;
+import com.talentpoc.data.RadarDataSet;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Looking up the entries of a data set by x-index (binary search), as done
+ * for highlighting and touch handling. Each call looks up another x-index.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DataSetBenchmark {
+
+    @Param({"3", "12", "100", "1000"})
+    public int axes;
+
+    private RadarDataSet mDataSet;
+
+    private int mX;
+
+    @Setup
+    public void setup() {
+        mDataSet = new RadarDataSet(BenchmarkData.createEntries(axes, 1).get(0), "Set");
+    }
+
+    /**
+     * Returns the next x-index to look up, stepping through all of them.
+     *
+     * @return
+     */
+    private int nextX() {
+        mX = (mX + 7) % axes;
+        return mX;
+    }
+
+    @Benchmark
+    public int getEntryIndex() {
+        return mDataSet.getEntryIndex(nextX());
+    }
+
+    @Benchmark
+    public List<Entry> getEntriesForXIndex() {
+        return mDataSet.getEntriesForXIndex(nextX());
+    }
+}
@@ -0,0 +1,87 @@
+package com.talentpoc.benchmark;
+
+import com.talentpoc.utils.DefaultValueFormatter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.text.DecimalFormat;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Formatting values with the DefaultValueFormatter, as String and into a char
+ * buffer (the path the renderers draw through), compared with the
+ * DecimalFormat the formatter used before.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FormatterBenchmark {
+
+    private static final int VALUE_COUNT = 1024;
+
+    @Param({"0", "2", "5"})
+    public int digits;
+
+    private final float[] mValues = new float[VALUE_COUNT];
+
+    private DefaultValueFormatter mFormatter;
+    private DecimalFormat mDecimalFormat;
+    private char[] mBuffer;
+
+    private int mValue;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42L);
+
+        for (int i = 0; i < VALUE_COUNT; i++)
+            mValues[i] = (random.nextFloat() - 0.2f) * (float) Math.pow(10, random.nextInt(8));
+
+        mFormatter = new DefaultValueFormatter(digits);
+        mBuffer = new char[mFormatter.getMaxLength()];
+
+        // the pattern of the former DecimalFormat based DefaultValueFormatter
+        StringBuffer b = new StringBuffer();
+        for (int i = 0; i < digits; i++) {
+            if (i == 0)
+                b.append(".");
+            b.append("0");
+        }
+
+        mDecimalFormat = new DecimalFormat("###,###,###,##0" + b.toString());
+    }
+
+    private float nextValue() {
+        mValue = (mValue + 1) & (VALUE_COUNT - 1);
+        return mValues[mValue];
+    }
+
+    @Benchmark
+    public String getFormattedValue() {
+        return mFormatter.getFormattedValue(nextValue());
+    }
+
+    @Benchmark
+    public int formatValue() {
+        return mFormatter.formatValue(nextValue(), mBuffer, 0);
+    }
+
+    @Benchmark
+    public String decimalFormat() {
+        return mDecimalFormat.format(nextValue());
+    }
+}
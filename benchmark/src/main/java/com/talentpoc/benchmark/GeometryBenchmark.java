@@ -0,0 +1,113 @@
+package com.talentpoc.benchmark;
+
+import com.talentpoc.utils.FastTrig;
+import com.talentpoc.utils.RadarGeometry;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Positions around the center and angles of points, with java.lang.Math and
+ * with FastTrig. Utils.getPosition(...) of the android module allocates a
+ * PointF per call, utilsGetPosition measures the same computation allocating
+ * a float[2] instead.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GeometryBenchmark {
+
+    private static final int ANGLE_COUNT = 1024;
+
+    private final float[] mAngles = new float[ANGLE_COUNT];
+    private final float[] mPoints = new float[ANGLE_COUNT * 2];
+
+    private final float[] mPosition = new float[2];
+
+    private int mAngle;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42L);
+
+        for (int i = 0; i < ANGLE_COUNT; i++) {
+            mAngles[i] = random.nextFloat() * 720f - 360f;
+            mPoints[i * 2] = random.nextFloat() * 1000f;
+            mPoints[i * 2 + 1] = random.nextFloat() * 1000f;
+        }
+    }
+
+    private int next() {
+        mAngle = (mAngle + 1) & (ANGLE_COUNT - 1);
+        return mAngle;
+    }
+
+    @Benchmark
+    public float[] utilsGetPosition() {
+        float angle = mAngles[next()];
+        return new float[] {
+                (float) (500f + 400f * Math.cos(Math.toRadians(angle))),
+                (float) (500f + 400f * Math.sin(Math.toRadians(angle)))
+        };
+    }
+
+    @Benchmark
+    public float getPosition() {
+        RadarGeometry.getPosition(500f, 500f, 400f, mAngles[next()], mPosition, 0);
+        return mPosition[0] + mPosition[1];
+    }
+
+    @Benchmark
+    public float getPositionFastTrig() {
+        RadarGeometry.getPosition(500f, 500f, 400f, mAngles[next()], mPosition, 0, true);
+        return mPosition[0] + mPosition[1];
+    }
+
+    @Benchmark
+    public float getAngle() {
+        int i = next() * 2;
+        return RadarGeometry.getAngle(500f, 500f, mPoints[i], mPoints[i + 1]);
+    }
+
+    @Benchmark
+    public float getAngleFastTrig() {
+        int i = next() * 2;
+        return RadarGeometry.getAngle(500f, 500f, mPoints[i], mPoints[i + 1], true);
+    }
+
+    @Benchmark
+    public float mathSin() {
+        return (float) Math.sin(Math.toRadians(mAngles[next()]));
+    }
+
+    @Benchmark
+    public float fastTrigSin() {
+        return FastTrig.sin(mAngles[next()]);
+    }
+
+    @Benchmark
+    public float mathAtan2() {
+        int i = next() * 2;
+        return (float) Math.toDegrees(Math.atan2(mPoints[i + 1] - 500f, mPoints[i] - 500f));
+    }
+
+    @Benchmark
+    public float fastTrigAtan2() {
+        int i = next() * 2;
+        return FastTrig.atan2(mPoints[i + 1] - 500f, mPoints[i] - 500f);
+    }
+}
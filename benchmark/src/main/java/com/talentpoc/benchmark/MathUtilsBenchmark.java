@@ -0,0 +1,85 @@
+package com.talentpoc.benchmark;
+
+import com.talentpoc.utils.MathUtils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The table lookups of MathUtils.roundToNextSignificant(...) and
+ * getDecimals(...) compared with the Math.log10 / Math.pow formulas they
+ * replaced.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MathUtilsBenchmark {
+
+    private static final int VALUE_COUNT = 1024;
+
+    private final float[] mValues = new float[VALUE_COUNT];
+
+    private int mValue;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42L);
+
+        for (int i = 0; i < VALUE_COUNT; i++)
+            mValues[i] = (float) (Math.pow(10, random.nextInt(13) - 6) * (1 + random.nextFloat() * 9));
+    }
+
+    private float nextValue() {
+        mValue = (mValue + 1) & (VALUE_COUNT - 1);
+        return mValues[mValue];
+    }
+
+    @Benchmark
+    public float roundToNextSignificant() {
+        return MathUtils.roundToNextSignificant(nextValue());
+    }
+
+    @Benchmark
+    public float roundToNextSignificantFormula() {
+        return roundToNextSignificantFormula(nextValue());
+    }
+
+    @Benchmark
+    public int getDecimals() {
+        return MathUtils.getDecimals(nextValue());
+    }
+
+    @Benchmark
+    public int getDecimalsFormula() {
+        float i = roundToNextSignificantFormula(nextValue());
+        return (int) Math.ceil(-Math.log10(i)) + 2;
+    }
+
+    /**
+     * The former implementation of MathUtils.roundToNextSignificant(...).
+     *
+     * @param number
+     * @return
+     */
+    private static float roundToNextSignificantFormula(double number) {
+        final float d = (float) Math.ceil((float) Math.log10(number < 0 ? -number : number));
+        final int pw = 1 - (int) d;
+        final float magnitude = (float) Math.pow(10, pw);
+        final long shifted = Math.round(number * magnitude);
+        return shifted / magnitude;
+    }
+}
@@ -0,0 +1,103 @@
+package com.talentpoc.benchmark;
+
+import com.talentpoc.data.Entry;
+import com.talentpoc.data.RadarData;
+import com.talentpoc.data.RadarDataSet;
+import com.talentpoc.utils.RadarPolygonCache;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Building the radar polygons of all data sets: normalizing the values into
+ * the RadarPolygonCache (after a data change), checking the cache (a frame
+ * with unchanged data) and projecting the polygons onto the screen (every
+ * frame).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class PolygonBenchmark {
+
+    /** axes x data sets, see BenchmarkData */
+    @Param({"3x1", "12x1", "12x100", "100x100", "1000x1", "1000x1000", "3x100000", "12x100000"})
+    public String shape;
+
+    private RadarData mData;
+
+    private final RadarPolygonCache mCache = new RadarPolygonCache();
+
+    private float[] mBuffer;
+
+    @Setup
+    public void setup() {
+        mData = BenchmarkData.createRadarData(shape);
+        mBuffer = new float[mData.getXValCount() * 2];
+
+        update();
+    }
+
+    /**
+     * Brings the polygon cache up to date like
+     * RadarChartRenderer.updatePolygonCache(...) of the android module does.
+     */
+    private void update() {
+
+        int dataSetCount = mData.getDataSetCount();
+
+        mCache.setNormalization(mData.getXValCount(), 0f, mData.getYMax(), 0f, dataSetCount);
+
+        for (int i = 0; i < dataSetCount; i++) {
+
+            RadarDataSet set = mData.getDataSetByIndex(i);
+
+            if (mCache.isValid(i, set, set.getChangeCount()))
+                continue;
+
+            List<Entry> entries = set.getYVals();
+            float[] values = mCache.getValueBuffer(i, entries.size());
+
+            for (int j = 0; j < entries.size(); j++)
+                values[j] = entries.get(j).getVal();
+
+            mCache.setPolygon(i, set, set.getChangeCount(), entries.size());
+        }
+    }
+
+    @Benchmark
+    public RadarPolygonCache buildPolygons() {
+        mCache.invalidate();
+        update();
+        return mCache;
+    }
+
+    @Benchmark
+    public RadarPolygonCache updateUnchanged() {
+        update();
+        return mCache;
+    }
+
+    @Benchmark
+    public float projectPolygons() {
+
+        for (int i = 0; i < mData.getDataSetCount(); i++)
+            mCache.project(i, 500f, 500f, 400f, 270f, mBuffer);
+
+        return mBuffer[0];
+    }
+}
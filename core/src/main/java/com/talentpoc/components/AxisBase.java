@@ -1,9 +1,8 @@
 
 package com.talentpoc.components;
 
-import android.graphics.Color;
-
-import com.talentpoc.utils.Utils;
+import com.talentpoc.utils.Colors;
+import com.talentpoc.utils.DisplayDensity;
 
 /**
  * Baseclass of all labels.
@@ -12,7 +11,7 @@ import com.talentpoc.utils.Utils;
  */
 public abstract class AxisBase extends ComponentBase {
 
-    private int mAxisLineColor = Color.GRAY;
+    private int mAxisLineColor = Colors.GRAY;
 
     private float mAxisLineWidth = 1f;
 
@@ -26,9 +25,9 @@ public abstract class AxisBase extends ComponentBase {
     protected boolean mDrawLabels = true;
     /** default constructor */
     public AxisBase() {
-        this.mTextSize = Utils.convertDpToPixel(10f);
-        this.mXOffset = Utils.convertDpToPixel(5f);
-        this.mYOffset = Utils.convertDpToPixel(5f);
+        this.mTextSize = DisplayDensity.convertDpToPixel(10f);
+        this.mXOffset = DisplayDensity.convertDpToPixel(5f);
+        this.mYOffset = DisplayDensity.convertDpToPixel(5f);
 	}
 
     /**
@@ -55,7 +54,7 @@ public abstract class AxisBase extends ComponentBase {
      * @param width
      */
     public void setAxisLineWidth(float width) {
-        mAxisLineWidth = Utils.convertDpToPixel(width);
+        mAxisLineWidth = DisplayDensity.convertDpToPixel(width);
     }
 
     /**
@@ -1,10 +1,9 @@
 
 package com.talentpoc.components;
 
-import android.graphics.Color;
-import android.graphics.Typeface;
-
-import com.talentpoc.utils.Utils;
+import com.talentpoc.utils.Colors;
+import com.talentpoc.utils.DisplayDensity;
+import com.talentpoc.utils.TypefaceHolder;
 
 
 /**
@@ -24,13 +23,16 @@ public abstract class ComponentBase {
     protected float mYOffset = 5f;
 
     /** the typeface used for the labels */
-    protected Typeface mTypeface = null;
+    protected TypefaceHolder<?> mTypeface = null;
 
     /** the text size of the labels */
     protected float mTextSize = 10f;
 
     /** the text color to use for the labels */
-    protected int mTextColor = Color.BLACK;
+    protected int mTextColor = Colors.BLACK;
+
+    /** incremented whenever a property the size of the labels depends on is set */
+    private int mChangeCount = 0;
 
     public ComponentBase() {
 
@@ -52,7 +54,7 @@ public abstract class ComponentBase {
      * @param xOffset
      */
     public void setXOffset(float xOffset) {
-        mXOffset = Utils.convertDpToPixel(xOffset);
+        mXOffset = DisplayDensity.convertDpToPixel(xOffset);
     }
 
     /**
@@ -72,7 +74,7 @@ public abstract class ComponentBase {
      *
      */
     public void setYOffset(float yOffset) {
-        mYOffset = Utils.convertDpToPixel(yOffset);
+        mYOffset = DisplayDensity.convertDpToPixel(yOffset);
     }
 
     /**
@@ -80,7 +82,7 @@ public abstract class ComponentBase {
      * 
      * @return
      */
-    public Typeface getTypeface() {
+    public TypefaceHolder<?> getTypeface() {
         return mTypeface;
     }
 
@@ -89,8 +91,9 @@ public abstract class ComponentBase {
      * 
      * @param tf
      */
-    public void setTypeface(Typeface tf) {
+    public void setTypeface(TypefaceHolder<?> tf) {
         mTypeface = tf;
+        mChangeCount++;
     }
 
     /**
@@ -106,7 +109,8 @@ public abstract class ComponentBase {
         if (size < 6f)
             size = 6f;
 
-        mTextSize = Utils.convertDpToPixel(size);
+        mTextSize = DisplayDensity.convertDpToPixel(size);
+        mChangeCount++;
     }
 
     /**
@@ -146,6 +150,7 @@ public abstract class ComponentBase {
      */
     public void setEnabled(boolean enabled) {
         mEnabled = enabled;
+        mChangeCount++;
     }
 
     /**
@@ -156,4 +161,15 @@ public abstract class ComponentBase {
     public boolean isEnabled() {
         return mEnabled;
     }
+
+    /**
+     * Returns a counter that changes whenever the typeface, the text size or
+     * the enabled flag is set. The chart compares it to find out if the size
+     * of the labels needs to be computed again.
+     *
+     * @return
+     */
+    public int getChangeCount() {
+        return mChangeCount;
+    }
 }
@@ -1,7 +1,7 @@
 
 package com.talentpoc.components;
 
-import android.graphics.PointF;
+import com.talentpoc.utils.RadarLabelLayout;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -70,9 +70,9 @@ public class XAxis extends AxisBase {
     private XAxisPosition mPosition = XAxisPosition.TOP;
 
     /**
-     * List of Points for Labels
+     * layout of the labels around the web of the RadarChart
      */
-    private List<PointF> LabelPosition;
+    private final RadarLabelLayout mLabelLayout = new RadarLabelLayout();
 
     /**
      * enum for the position of the x-labels relative to the chart
@@ -194,12 +194,14 @@ public class XAxis extends AxisBase {
         return mValues;
     }
 
-    public List<PointF> getLabelPosition() {
-        return LabelPosition;
-    }
-
-    public void setLabelPosition(List<PointF> labelPosition) {
-        LabelPosition = labelPosition;
+    /**
+     * Returns the cached layout (positions, widths, alignment) of the labels
+     * around the web of the RadarChart. Empty until the labels are drawn.
+     *
+     * @return
+     */
+    public RadarLabelLayout getLabelLayout() {
+        return mLabelLayout;
     }
 
 
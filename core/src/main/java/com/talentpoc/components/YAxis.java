@@ -1,10 +1,9 @@
 
 package com.talentpoc.components;
 
-import android.graphics.Paint;
-
 import com.talentpoc.utils.DefaultValueFormatter;
-import com.talentpoc.utils.Utils;
+import com.talentpoc.utils.DisplayDensity;
+import com.talentpoc.utils.FormattedValueCache;
 import com.talentpoc.utils.ValueFormatter;
 
 /**
@@ -21,6 +20,9 @@ public class YAxis extends AxisBase {
     /** custom formatter that is used instead of the auto-formatter if set */
     protected ValueFormatter mValueFormatter;
 
+    /** the formatted entries, formatted again if entries or formatter change */
+    private final FormattedValueCache mLabelCache = new FormattedValueCache();
+
     /** the actual array of entries */
     public float[] mEntries = new float[] {};
 
@@ -63,6 +65,12 @@ public class YAxis extends AxisBase {
      */
     protected float mSpacePercentBottom = 10f;
 
+    /** incremented whenever a property the range of the axis depends on is set */
+    private int mRangeChangeCount = 0;
+
+    /** incremented whenever a property the entries of the axis depend on is set */
+    private int mEntryChangeCount = 0;
+
     public float mAxisMaximum = 0f;
     public float mAxisMinimum = 0f;
 
@@ -157,6 +165,7 @@ public class YAxis extends AxisBase {
             yCount = 2;
 
         mLabelCount = yCount;
+        mEntryChangeCount++;
     }
 
     /**
@@ -176,6 +185,7 @@ public class YAxis extends AxisBase {
      */
     public void setShowOnlyMinMax(boolean enabled) {
         mShowOnlyMinMax = enabled;
+        mEntryChangeCount++;
     }
 
     /**
@@ -213,6 +223,7 @@ public class YAxis extends AxisBase {
      */
     public void setStartAtZero(boolean enabled) {
         this.mStartAtZero = enabled;
+        mRangeChangeCount++;
     }
 
     /**
@@ -239,6 +250,7 @@ public class YAxis extends AxisBase {
      */
     public void setAxisMinValue(float min) {
         mCustomAxisMin = min;
+        mRangeChangeCount++;
     }
 
     /**
@@ -247,6 +259,7 @@ public class YAxis extends AxisBase {
      */
     public void resetAxisMinValue() {
         mCustomAxisMin = Float.NaN;
+        mRangeChangeCount++;
     }
 
     public float getAxisMaxValue() {
@@ -262,6 +275,7 @@ public class YAxis extends AxisBase {
      */
     public void setAxisMaxValue(float max) {
         mCustomAxisMax = max;
+        mRangeChangeCount++;
     }
 
     /**
@@ -270,6 +284,7 @@ public class YAxis extends AxisBase {
      */
     public void resetAxisMaxValue() {
         mCustomAxisMax = Float.NaN;
+        mRangeChangeCount++;
     }
 
     /**
@@ -279,6 +294,7 @@ public class YAxis extends AxisBase {
      */
     public void setSpaceTop(float percent) {
         mSpacePercentTop = percent;
+        mRangeChangeCount++;
     }
 
     /**
@@ -297,6 +313,7 @@ public class YAxis extends AxisBase {
      */
     public void setSpaceBottom(float percent) {
         mSpacePercentBottom = percent;
+        mRangeChangeCount++;
     }
 
     /**
@@ -308,20 +325,26 @@ public class YAxis extends AxisBase {
         return mSpacePercentBottom;
     }
 
-    public float getRequiredWidthSpace(Paint p) {
-
-        p.setTextSize(mTextSize);
-
-        String label = getLongestLabel();
-        return (float) Utils.calcTextWidth(p, label) + getXOffset() * 2f;
+    /**
+     * Returns a counter that changes whenever the start at zero flag, a custom
+     * minimum or maximum or the space at the top or bottom is set. The chart
+     * compares it to find out if the range of the axis is outdated.
+     *
+     * @return
+     */
+    public int getRangeChangeCount() {
+        return mRangeChangeCount;
     }
 
-    public float getRequiredHeightSpace(Paint p) {
-
-        p.setTextSize(mTextSize);
-
-        String label = getLongestLabel();
-        return (float) Utils.calcTextHeight(p, label) + Utils.convertDpToPixel(2.5f) * 2f + getYOffset();
+    /**
+     * Returns a counter that changes whenever the label count or the show
+     * only min max flag is set. The chart compares it to find out if the
+     * entries of the axis are outdated.
+     *
+     * @return
+     */
+    public int getEntryChangeCount() {
+        return mEntryChangeCount;
     }
 
     @Override
@@ -351,7 +374,7 @@ public class YAxis extends AxisBase {
         if (index < 0 || index >= mEntries.length)
             return "";
         else
-            return getValueFormatter().getFormattedValue(mEntries[index]);
+            return mLabelCache.getFormattedValue(index, mEntries[index], getValueFormatter());
     }
 
     /**
@@ -1,10 +1,9 @@
 
 package com.talentpoc.data;
 
-import android.graphics.Typeface;
-import android.util.Log;
-
 import com.talentpoc.components.YAxis;
+import com.talentpoc.utils.ChartLog;
+import com.talentpoc.utils.TypefaceHolder;
 import com.talentpoc.utils.ValueFormatter;
 
 import java.util.ArrayList;
@@ -679,7 +678,7 @@ public abstract class ChartData<T extends DataSet<? extends Entry>> {
             // add the entry to the dataset
             set.addEntry(e);
         } else {
-            Log.e("addEntry", "Cannot add Entry because dataSetIndex too high or too low.");
+            ChartLog.e("addEntry", "Cannot add Entry because dataSetIndex too high or too low.");
         }
     }
 
@@ -876,7 +875,7 @@ public abstract class ChartData<T extends DataSet<? extends Entry>> {
      * contains.
      *
      */
-    public void setValueTypeface(Typeface tf) {
+    public void setValueTypeface(TypefaceHolder<?> tf) {
         for (DataSet<?> set : mDataSets) {
             set.setValueTypeface(tf);
         }
@@ -1,12 +1,12 @@
 
 package com.talentpoc.data;
 
-import android.graphics.Color;
-import android.graphics.Typeface;
-
 import com.talentpoc.components.YAxis;
+import com.talentpoc.utils.Colors;
 import com.talentpoc.utils.DefaultValueFormatter;
-import com.talentpoc.utils.Utils;
+import com.talentpoc.utils.DisplayDensity;
+import com.talentpoc.utils.FormattedValueCache;
+import com.talentpoc.utils.TypefaceHolder;
 import com.talentpoc.utils.ValueFormatter;
 
 import java.util.ArrayList;
@@ -53,23 +53,32 @@ public abstract class DataSet<T extends Entry> {
     protected boolean mDrawValues = true;
 
     /** the color used for the value-text */
-    private int mValueColor = Color.BLACK;
+    private int mValueColor = Colors.BLACK;
 
     /** the size of the value-text labels */
     private float mValueTextSize = 17f;
 
     /** the typeface used for the value text */
-    private Typeface mValueTypeface;
+    private TypefaceHolder<?> mValueTypeface;
 
     /** custom formatter that is used instead of the auto-formatter if set */
     protected ValueFormatter mValueFormatter;
 
+    /** formatter used if no formatter is set */
+    private ValueFormatter mFallbackFormatter;
+
+    /** the formatted values, formatted again if values or formatter change */
+    private final FormattedValueCache mValueLabelCache = new FormattedValueCache();
+
     /** this specifies which axis this DataSet should be plotted against */
     protected YAxis.AxisDependency mAxisDependency = YAxis.AxisDependency.LEFT;
 
     /** if true, value highlightning is enabled */
     protected boolean mHighlightEnabled = true;
 
+    /** incremented whenever the entries change, used by caches */
+    private int mChangeCount = 0;
+
     /**
      * Creates a new DataSet object with the given values it represents. Also, a
      * label that describes the DataSet can be specified. The label can also be
@@ -89,7 +98,7 @@ public abstract class DataSet<T extends Entry> {
         mColors = new ArrayList<Integer>();
 
         // default color
-        mColors.add(Color.rgb(140, 234, 255));
+        mColors.add(Colors.rgb(140, 234, 255));
 
         calcMinMax(mLastStart, mLastEnd);
         calcYValueSum();
@@ -99,10 +108,22 @@ public abstract class DataSet<T extends Entry> {
      * Use this method to tell the data set that the underlying data has changed
      */
     public void notifyDataSetChanged() {
+        mChangeCount++;
         calcMinMax(mLastStart, mLastEnd);
         calcYValueSum();
     }
 
+    /**
+     * Returns a counter that changes whenever entries are added or removed or
+     * notifyDataSetChanged() is called. Caches of values derived from the
+     * entries compare it to find out if they are outdated.
+     *
+     * @return
+     */
+    public int getChangeCount() {
+        return mChangeCount;
+    }
+
     /**
      * calc minimum and maximum y value
      */
@@ -275,6 +296,10 @@ public abstract class DataSet<T extends Entry> {
                         break;
                     }
                 }
+
+                // all entries at x are collected (searching on after the
+                // last entry of the list found them again, endlessly)
+                break;
             }
 
             if (x > entry.getXIndex())
@@ -499,6 +524,7 @@ public abstract class DataSet<T extends Entry> {
         }
 
         mYValueSum += val;
+        mChangeCount++;
 
         // add the entry
         mYVals.add((T) e);
@@ -535,6 +561,7 @@ public abstract class DataSet<T extends Entry> {
         }
 
         mYValueSum += val;
+        mChangeCount++;
 
         if (mYVals.size() > 0 && mYVals.get(mYVals.size() - 1).getXIndex() > e.getXIndex())
         {
@@ -568,6 +595,7 @@ public abstract class DataSet<T extends Entry> {
 
             float val = e.getVal();
             mYValueSum -= val;
+            mChangeCount++;
 
             calcMinMax(mLastStart, mLastEnd);
         }
@@ -694,9 +722,26 @@ public abstract class DataSet<T extends Entry> {
      * @return
      */
     public ValueFormatter getValueFormatter() {
-        if (mValueFormatter == null)
-            return new DefaultValueFormatter(1);
-        return mValueFormatter;
+        if (mValueFormatter != null)
+            return mValueFormatter;
+
+        if (mFallbackFormatter == null)
+            mFallbackFormatter = new DefaultValueFormatter(1);
+
+        return mFallbackFormatter;
+    }
+
+    /**
+     * Returns the formatted value of the entry at the given index of the
+     * values array. The label is cached until the value or the formatter
+     * changes.
+     *
+     * @param index
+     * @return
+     */
+    public String getFormattedValue(int index) {
+        return mValueLabelCache.getFormattedValue(index, mYVals.get(index).getVal(),
+                getValueFormatter());
     }
 
     /**
@@ -732,11 +777,11 @@ public abstract class DataSet<T extends Entry> {
      * 
      * @param tf
      */
-    public void setValueTypeface(Typeface tf) {
+    public void setValueTypeface(TypefaceHolder<?> tf) {
         mValueTypeface = tf;
     }
 
-    public Typeface getValueTypeface() {
+    public TypefaceHolder<?> getValueTypeface() {
         return mValueTypeface;
     }
 
@@ -746,7 +791,7 @@ public abstract class DataSet<T extends Entry> {
      * @param size
      */
     public void setValueTextSize(float size) {
-        mValueTextSize = Utils.convertDpToPixel(size);
+        mValueTextSize = DisplayDensity.convertDpToPixel(size);
     }
 
     /**
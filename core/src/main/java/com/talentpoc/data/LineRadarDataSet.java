@@ -1,9 +1,8 @@
 
 package com.talentpoc.data;
 
-import android.graphics.Color;
-
-import com.talentpoc.utils.Utils;
+import com.talentpoc.utils.Colors;
+import com.talentpoc.utils.DisplayDensity;
 
 import java.util.List;
 
@@ -15,7 +14,7 @@ import java.util.List;
 public abstract class LineRadarDataSet<T extends Entry>  extends DataSet<T> {
 
     /** the color that is used for filling the line surface */
-    private int mFillColor = Color.rgb(140, 234, 255);
+    private int mFillColor = Colors.rgb(140, 234, 255);
 
     /** transparency used for filling line surface */
     private int mFillAlpha = 85;
@@ -25,6 +24,12 @@ public abstract class LineRadarDataSet<T extends Entry>  extends DataSet<T> {
 
     /** if true, the data will also be drawn filled */
     private boolean mDrawFilled = false;
+
+    /** the color that is used for drawing the highlight indicators */
+    private int mHighLightColor = Colors.rgb(255, 187, 115);
+
+    /** the width of the highlight indicator lines */
+    private float mHighlightLineWidth = 0.5f;
     
 //    private Shader mShader;
     
@@ -82,7 +87,7 @@ public abstract class LineRadarDataSet<T extends Entry>  extends DataSet<T> {
             width = 0.2f;
         if (width > 10.0f)
             width = 10.0f;
-        mLineWidth = Utils.convertDpToPixel(width);
+        mLineWidth = DisplayDensity.convertDpToPixel(width);
     }
 
     /**
@@ -113,4 +118,37 @@ public abstract class LineRadarDataSet<T extends Entry>  extends DataSet<T> {
     public boolean isDrawFilledEnabled() {
         return mDrawFilled;
     }
+
+    /**
+     * Sets the color that is used for drawing the highlight indicators. Dont
+     * forget to resolve the color using getResources().getColor(...) or
+     * Colors.rgb(...).
+     * 
+     * @param color
+     */
+    public void setHighLightColor(int color) {
+        mHighLightColor = color;
+    }
+
+    /**
+     * Returns the color that is used for drawing the highlight indicators.
+     * 
+     * @return
+     */
+    public int getHighLightColor() {
+        return mHighLightColor;
+    }
+
+    /**
+     * Sets the width of the highlight lines in dp.
+     * 
+     * @param width
+     */
+    public void setHighlightLineWidth(float width) {
+        mHighlightLineWidth = DisplayDensity.convertDpToPixel(width);
+    }
+
+    public float getHighlightLineWidth() {
+        return mHighlightLineWidth;
+    }
 }
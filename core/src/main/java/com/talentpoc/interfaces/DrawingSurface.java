@@ -0,0 +1,143 @@
+
+package com.talentpoc.interfaces;
+
+import com.talentpoc.utils.TypefaceHolder;
+
+/**
+ * Abstraction of the target the renderers draw onto. Like a Paint object, a
+ * surface holds the current drawing state (color, style, stroke width, text
+ * style) that is applied to all following draw calls. This keeps the
+ * renderers free of android.graphics types, so the same draw logic can run
+ * against a Canvas, a recording surface or any other backend.
+ */
+public interface DrawingSurface {
+
+    /** enum for the style shapes (paths) are drawn with */
+    public enum Style {
+        FILL, STROKE
+    }
+
+    /** enum for the alignment of text relative to its x-position */
+    public enum TextAlign {
+        LEFT, CENTER, RIGHT
+    }
+
+    /**
+     * Sets the color (including alpha) used for all following draw calls.
+     *
+     * @param color
+     */
+    public void setColor(int color);
+
+    /**
+     * Overrides the alpha of the current color (0-255).
+     *
+     * @param alpha
+     */
+    public void setAlpha(int alpha);
+
+    /**
+     * Sets the style paths and text are drawn with. Text is outlined with
+     * Style.STROKE, so set Style.FILL together with the text style.
+     *
+     * @param style
+     */
+    public void setStyle(Style style);
+
+    /**
+     * Sets the width of lines and stroked paths in pixels.
+     *
+     * @param width
+     */
+    public void setStrokeWidth(float width);
+
+    /**
+     * Sets the typeface used for drawing text. The typeface is platform
+     * specific (e.g. android.graphics.Typeface), surfaces of another platform
+     * fall back to their default typeface. Null resets to the default
+     * typeface.
+     *
+     * @param typeface
+     */
+    public void setTypeface(TypefaceHolder<?> typeface);
+
+    /**
+     * Sets the size of the text in pixels.
+     *
+     * @param size
+     */
+    public void setTextSize(float size);
+
+    /**
+     * Sets the alignment of text relative to the x-position it is drawn at.
+     *
+     * @param align
+     */
+    public void setTextAlign(TextAlign align);
+
+    /**
+     * Returns the width of the given text with the current text style.
+     *
+     * @param text
+     * @return
+     */
+    public float measureText(String text);
+
+    /**
+     * Draws a single line with the current color and stroke width.
+     *
+     * @param startX
+     * @param startY
+     * @param stopX
+     * @param stopY
+     */
+    public void drawLine(float startX, float startY, float stopX, float stopY);
+
+    /**
+     * Draws a series of lines. Each line is taken from 4 consecutive values
+     * in the pts array (x0, y0, x1, y1).
+     *
+     * @param pts
+     * @param offset number of values to skip before the first line
+     * @param count number of values to process (multiple of 4)
+     */
+    public void drawLines(float[] pts, int offset, int count);
+
+    /**
+     * Resets and returns the path of this surface. The returned object is
+     * reused by the surface and stays valid until the next call of this
+     * method.
+     *
+     * @return
+     */
+    public PathBuilder beginPath();
+
+    /**
+     * Draws the given path with the current style. The path must have been
+     * obtained from this surface.
+     *
+     * @param path
+     */
+    public void drawPath(PathBuilder path);
+
+    /**
+     * Draws the given text with the current text style.
+     *
+     * @param text
+     * @param x
+     * @param y baseline of the text
+     */
+    public void drawText(String text, float x, float y);
+
+    /**
+     * Draws the given range of chars with the current text style, e.g. a value
+     * formatted by a CharValueFormatter.
+     *
+     * @param text
+     * @param index index of the first char to draw
+     * @param count number of chars to draw
+     * @param x
+     * @param y baseline of the text
+     */
+    public void drawText(char[] text, int index, int count, float x, float y);
+}
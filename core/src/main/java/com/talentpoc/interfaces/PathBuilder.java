@@ -0,0 +1,44 @@
+
+package com.talentpoc.interfaces;
+
+/**
+ * Minimal path abstraction used by the renderers to describe polygons (e.g.
+ * the data surface of the RadarChart) independent of android.graphics.Path.
+ * Instances are obtained from a DrawingSurface and are reused, so they should
+ * not be kept around by the caller.
+ */
+public interface PathBuilder {
+
+    /**
+     * Clears all segments of the path.
+     */
+    public void reset();
+
+    /**
+     * Starts a new contour at the given point.
+     *
+     * @param x
+     * @param y
+     */
+    public void moveTo(float x, float y);
+
+    /**
+     * Adds a line from the last point to the given point.
+     *
+     * @param x
+     * @param y
+     */
+    public void lineTo(float x, float y);
+
+    /**
+     * Closes the current contour.
+     */
+    public void close();
+
+    /**
+     * Returns true if no segments have been added since the last reset.
+     *
+     * @return
+     */
+    public boolean isEmpty();
+}
@@ -0,0 +1,190 @@
+package com.talentpoc.utils;
+
+/**
+ * Computes "nice" axis ticks for a value range in closed form: the interval
+ * is the desired step rounded to one significant digit, like
+ * MathUtils.roundToNextSignificant does, with digits above 5 rounded up to 10,
+ * so intervals are 1, 2, 3, 4, 5 or 10 times a power of ten. The ticks are
+ * the multiples of the interval, so the number of ticks, the first tick and
+ * the number of decimals follow directly from the range without stepping
+ * through it. The result of the last call is memoized, computing the same
+ * range again does nothing. Does not depend on any android classes.
+ */
+public class AxisTicks {
+
+    /**
+     * Which multiples of the interval are used as ticks.
+     */
+    public enum Mode {
+        /** all multiples between min and max (inclusive) */
+        INSIDE,
+        /**
+         * the multiples above min, up to the first one that is not below max,
+         * e.g. for the rings of a RadarChart web
+         */
+        ENCLOSING
+    }
+
+    /**
+     * tolerance (in intervals) for values that are a multiple of the
+     * interval, above the rounding error of float values
+     */
+    private static final double EPSILON = 1e-6;
+
+    /** powers of ten from 10^-POW10_OFFSET */
+    private static final int POW10_OFFSET = 20;
+    private static final double[] POW10 = new double[POW10_OFFSET * 2 + 1];
+
+    static {
+        for (int i = 0; i < POW10.length; i++)
+            POW10[i] = Double.parseDouble("1e" + (i - POW10_OFFSET));
+    }
+
+    /** the arguments of the last call */
+    private double mMin = Double.NaN;
+    private double mMax = Double.NaN;
+    private int mLabelCount = -1;
+    private Mode mMode;
+
+    /** the result: tick i is (mFirstIndex + i) * mInterval */
+    private long mFirstIndex;
+    private double mInterval;
+    private int mCount;
+    private int mDecimals;
+
+    public AxisTicks() {
+    }
+
+    /**
+     * Computes the ticks for the given range and desired number of labels.
+     * Returns false if the arguments are the same as in the last call, the
+     * ticks are unchanged in that case. An empty range or a label count of
+     * zero results in no ticks.
+     *
+     * @param min
+     * @param max
+     * @param labelCount
+     * @param mode
+     * @return
+     */
+    public boolean compute(double min, double max, int labelCount, Mode mode) {
+
+        if (min == mMin && max == mMax && labelCount == mLabelCount && mode == mMode)
+            return false;
+
+        mMin = min;
+        mMax = max;
+        mLabelCount = labelCount;
+        mMode = mode;
+
+        double range = Math.abs(max - min);
+
+        if (labelCount <= 0 || !(range > 0) || Double.isInfinite(range)) {
+            mCount = 0;
+            mInterval = 0;
+            mDecimals = 0;
+            return true;
+        }
+
+        double raw = range / labelCount;
+
+        // raw = m * 10^exponent with 1 <= m < 10
+        int exponent = (int) Math.floor(Math.log10(raw));
+        double m = raw / pow10(exponent);
+
+        if (m >= 10) {
+            m /= 10;
+            exponent++;
+        } else if (m < 1) {
+            m *= 10;
+            exponent--;
+        }
+
+        long digit = Math.round(m);
+
+        // avoid intervals like 0.9 or 90
+        if (digit > 5) {
+            digit = 1;
+            exponent++;
+        }
+
+        mInterval = digit * pow10(exponent);
+        mDecimals = exponent < 0 ? -exponent : 0;
+
+        double lower = Math.min(min, max) / mInterval;
+        double upper = Math.max(min, max) / mInterval;
+
+        long first;
+        long last;
+
+        if (mode == Mode.INSIDE) {
+            first = (long) Math.ceil(lower - EPSILON);
+            last = (long) Math.floor(upper + EPSILON);
+        } else {
+            first = (long) Math.floor(lower + EPSILON) + 1;
+            last = (long) Math.ceil(upper - EPSILON);
+        }
+
+        mFirstIndex = first;
+        mCount = (int) Math.max(0, last - first + 1);
+
+        return true;
+    }
+
+    /**
+     * Writes the ticks into the given array, which must hold at least
+     * getCount() values. Returns the number of ticks.
+     *
+     * @param out
+     * @return
+     */
+    public int fill(float[] out) {
+
+        for (int i = 0; i < mCount; i++)
+            out[i] = (float) ((mFirstIndex + i) * mInterval);
+
+        return mCount;
+    }
+
+    public int getCount() {
+        return mCount;
+    }
+
+    /**
+     * Returns the value of the first tick.
+     *
+     * @return
+     */
+    public double getFirst() {
+        return mFirstIndex * mInterval;
+    }
+
+    public double getInterval() {
+        return mInterval;
+    }
+
+    /**
+     * Returns the number of decimal digits needed to show the ticks.
+     *
+     * @return
+     */
+    public int getDecimals() {
+        return mDecimals;
+    }
+
+    /**
+     * Returns 10 to the power of the given exponent.
+     *
+     * @param exponent
+     * @return
+     */
+    public static double pow10(int exponent) {
+
+        int i = exponent + POW10_OFFSET;
+
+        if (i >= 0 && i < POW10.length)
+            return POW10[i];
+
+        return Math.pow(10, exponent);
+    }
+}
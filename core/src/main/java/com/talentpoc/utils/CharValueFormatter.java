@@ -0,0 +1,30 @@
+
+package com.talentpoc.utils;
+
+/**
+ * ValueFormatter that can also write the formatted value into a provided
+ * char array instead of creating a String. Renderers draw the array directly
+ * if the formatter of a label supports it, so drawing changing values does
+ * not allocate.
+ */
+public interface CharValueFormatter extends ValueFormatter {
+
+    /**
+     * Returns the maximum number of chars formatValue(...) writes for a
+     * single value.
+     *
+     * @return
+     */
+    public int getMaxLength();
+
+    /**
+     * Formats the given value into the given array, starting at the offset.
+     * Returns the number of chars written.
+     *
+     * @param value the value to be formatted
+     * @param out must have at least getMaxLength() chars left after offset
+     * @param offset
+     * @return
+     */
+    public int formatValue(float value, char[] out, int offset);
+}
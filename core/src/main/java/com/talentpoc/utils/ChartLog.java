@@ -0,0 +1,41 @@
+package com.talentpoc.utils;
+
+/**
+ * Logging of the chart core. Messages go to System.err until a platform
+ * logger is set, the android module installs one that writes to
+ * android.util.Log in Utils.init(...).
+ */
+public abstract class ChartLog {
+
+    /**
+     * Receives the messages of the chart core.
+     */
+    public interface Logger {
+
+        public void e(String tag, String msg);
+    }
+
+    private static Logger mLogger = new Logger() {
+
+        @Override
+        public void e(String tag, String msg) {
+            System.err.println(tag + ": " + msg);
+        }
+    };
+
+    /**
+     * Sets the logger, null to drop all messages.
+     *
+     * @param logger
+     */
+    public static void setLogger(Logger logger) {
+        mLogger = logger;
+    }
+
+    public static void e(String tag, String msg) {
+        Logger logger = mLogger;
+
+        if (logger != null)
+            logger.e(tag, msg);
+    }
+}
@@ -0,0 +1,40 @@
+package com.talentpoc.utils;
+
+/**
+ * Color constants and helpers for the chart core. Colors are packed ARGB ints
+ * with the same layout (and values) as android.graphics.Color, so they can be
+ * handed to android paints unchanged.
+ */
+public abstract class Colors {
+
+    public static final int BLACK = 0xFF000000;
+    public static final int GRAY = 0xFF888888;
+    public static final int WHITE = 0xFFFFFFFF;
+
+    /**
+     * Returns the opaque color of the given red, green and blue components
+     * (0..255).
+     *
+     * @param red
+     * @param green
+     * @param blue
+     * @return
+     */
+    public static int rgb(int red, int green, int blue) {
+        return argb(255, red, green, blue);
+    }
+
+    /**
+     * Returns the color of the given alpha, red, green and blue components
+     * (0..255).
+     *
+     * @param alpha
+     * @param red
+     * @param green
+     * @param blue
+     * @return
+     */
+    public static int argb(int alpha, int red, int green, int blue) {
+        return (alpha << 24) | (red << 16) | (green << 8) | blue;
+    }
+}
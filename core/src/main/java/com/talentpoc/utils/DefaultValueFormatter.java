@@ -0,0 +1,24 @@
+
+package com.talentpoc.utils;
+
+/**
+ * Default formatter used for formatting values. Formats with pre-calculated
+ * number of digits (depending on max and min value) and grouping, like the
+ * DecimalFormat pattern "###,###,###,##0.00..." with the separators of the
+ * default locale, but without allocating when drawn through the
+ * CharValueFormatter methods.
+ *
+ * @author Philipp Jahoda
+ */
+public class DefaultValueFormatter extends FixedPointValueFormatter {
+
+    /**
+     * Constructor that specifies to how many digits the value should be
+     * formatted.
+     * 
+     * @param digits
+     */
+    public DefaultValueFormatter(int digits) {
+        super(digits);
+    }
+}
@@ -0,0 +1,60 @@
+package com.talentpoc.utils;
+
+/**
+ * Holds the display density the chart core converts dp values with. The
+ * android module sets it from the DisplayMetrics in Utils.init(...), other
+ * platforms set it directly (1 = 160dpi, the default is not set: dp values are
+ * used as pixels).
+ */
+public abstract class DisplayDensity {
+
+    /** pixels per dp, NaN if not set */
+    private static float mDensity = Float.NaN;
+
+    /**
+     * Sets the number of pixels per dp (densityDpi / 160).
+     *
+     * @param density
+     */
+    public static void setDensity(float density) {
+        mDensity = density;
+    }
+
+    /**
+     * Sets the density from the given dots per inch.
+     *
+     * @param densityDpi
+     */
+    public static void setDensityDpi(int densityDpi) {
+        mDensity = densityDpi / 160f;
+    }
+
+    /**
+     * Returns true if the density was set.
+     *
+     * @return
+     */
+    public static boolean isSet() {
+        return !Float.isNaN(mDensity);
+    }
+
+    /**
+     * This method converts dp unit to equivalent pixels, depending on device
+     * density. If the density was not set, the dp value is returned as it is.
+     *
+     * @param dp A value in dp (density independent pixels) unit. Which we need
+     *            to convert into pixels
+     * @return A float value to represent px equivalent to dp depending on
+     *         device density
+     */
+    public static float convertDpToPixel(float dp) {
+
+        if (Float.isNaN(mDensity)) {
+            ChartLog.e("MPChartLib-Utils",
+                    "Utils NOT INITIALIZED. You need to call Utils.init(...) (or DisplayDensity.setDensity(...)) at least once before calling Utils.convertDpToPixel(...). Otherwise conversion does not take place.");
+            return dp;
+        }
+
+        return dp * mDensity;
+    }
+}
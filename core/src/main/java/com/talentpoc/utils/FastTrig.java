@@ -0,0 +1,105 @@
+package com.talentpoc.utils;
+
+/**
+ * Float approximations of the trigonometric functions the polar charts use,
+ * with angles in degrees. Sine and cosine are looked up in a table of 4096
+ * samples per turn with linear interpolation, atan2 is a polynomial
+ * approximation. Used instead of java.lang.Math when fast trigonometry is
+ * enabled on a chart, see PieRadarChartBase.setFastTrigEnabled(...).
+ * <p>
+ * Maximum errors (measured against java.lang.Math for angles between -360
+ * and 360 degrees): sin/cos 4.9e-7, so a position at radius r is at most
+ * r * 7e-7 pixels off (0.0014 px at r = 2000 px); atan2 0.00067 degrees
+ * (1.2e-5 radians), so a touch angle at distance r from the center is at
+ * most r * 1.2e-5 pixels off along the arc (0.024 px at r = 2000 px). Does
+ * not depend on any android classes.
+ */
+public abstract class FastTrig {
+
+    /** number of samples per turn, a power of two */
+    private static final int TABLE_SIZE = 4096;
+    private static final int TABLE_MASK = TABLE_SIZE - 1;
+
+    /** table steps per degree */
+    private static final float STEPS_PER_DEGREE = TABLE_SIZE / 360f;
+
+    /** cos(a) = sin(a + 90) */
+    private static final int QUARTER = TABLE_SIZE / 4;
+
+    /** sine of each step, one more to interpolate the last step */
+    private static final float[] SIN = new float[TABLE_SIZE + 1];
+
+    static {
+        for (int i = 0; i <= TABLE_SIZE; i++)
+            SIN[i] = (float) Math.sin(Math.PI * 2.0 * i / TABLE_SIZE);
+    }
+
+    private static final float RAD_TO_DEG = (float) (180.0 / Math.PI);
+
+    /**
+     * Returns the sine of the given angle in degrees.
+     *
+     * @param angle
+     * @return
+     */
+    public static float sin(float angle) {
+        return lookup(angle * STEPS_PER_DEGREE, 0);
+    }
+
+    /**
+     * Returns the cosine of the given angle in degrees.
+     *
+     * @param angle
+     * @return
+     */
+    public static float cos(float angle) {
+        return lookup(angle * STEPS_PER_DEGREE, QUARTER);
+    }
+
+    private static float lookup(float steps, int offset) {
+
+        int i = (int) steps;
+
+        // floor for negative angles
+        if (steps < i)
+            i--;
+
+        float fraction = steps - i;
+        i = (i + offset) & TABLE_MASK;
+
+        return SIN[i] + (SIN[i + 1] - SIN[i]) * fraction;
+    }
+
+    /**
+     * Returns the angle of the point (x, y) in degrees, between -180 and 180,
+     * like Math.toDegrees(Math.atan2(y, x)).
+     *
+     * @param y
+     * @param x
+     * @return
+     */
+    public static float atan2(float y, float x) {
+
+        float ax = x < 0f ? -x : x;
+        float ay = y < 0f ? -y : y;
+
+        if (ax == 0f && ay == 0f)
+            return 0f;
+
+        // atan on [0, 1], Abramowitz and Stegun 4.4.49
+        float z = ax >= ay ? ay / ax : ax / ay;
+        float z2 = z * z;
+        float a = z * (0.9998660f + z2 * (-0.3302995f + z2 * (0.1801410f
+                + z2 * (-0.0851330f + z2 * 0.0208351f))));
+
+        a *= RAD_TO_DEG;
+
+        if (ay > ax)
+            a = 90f - a;
+
+        if (x < 0f)
+            a = 180f - a;
+
+        return y < 0f ? -a : a;
+    }
+}
@@ -0,0 +1,205 @@
+
+package com.talentpoc.utils;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.text.DecimalFormatSymbols;
+
+/**
+ * Formatter that writes values with a fixed number of decimals and optional
+ * grouping separators (e.g. 1,234.50) into a char array. The digits are
+ * generated from a scaled long, rounding half-even like DecimalFormat does.
+ * The formatter holds no mutable state, so one instance can be used from any
+ * number of threads, and formatValue(...) does not allocate (except for
+ * very large values).
+ */
+public class FixedPointValueFormatter implements CharValueFormatter {
+
+    /** the largest number of decimals supported */
+    public static final int MAX_DECIMALS = 9;
+
+    private static final double[] POWERS_OF_TEN = new double[] {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9
+    };
+
+    /**
+     * scaled values from this size on are formatted with a BigDecimal, below
+     * it the double to long conversion is exact
+     */
+    private static final double MAX_SCALED = 1e15;
+
+    /** digits of the largest float (39) plus grouping, sign and separator */
+    private static final int MAX_INTEGER_LENGTH = 39 + 12 + 1;
+
+    private final int mDecimals;
+    private final boolean mGrouping;
+    private final char mGroupingSeparator;
+    private final char mDecimalSeparator;
+    private final char mMinusSign;
+    private final String mNaN;
+    private final String mInfinity;
+
+    /**
+     * Creates a formatter with the given number of decimals and grouping,
+     * using the separators of the default locale.
+     *
+     * @param decimals
+     */
+    public FixedPointValueFormatter(int decimals) {
+        this(decimals, true);
+    }
+
+    /**
+     * Creates a formatter with the given number of decimals, using the
+     * separators of the default locale.
+     *
+     * @param decimals
+     * @param grouping
+     */
+    public FixedPointValueFormatter(int decimals, boolean grouping) {
+        this(decimals, grouping, DecimalFormatSymbols.getInstance());
+    }
+
+    /**
+     * Creates a formatter with the given number of decimals (0 - 9) and the
+     * separators of the given symbols.
+     *
+     * @param decimals
+     * @param grouping
+     * @param symbols
+     */
+    public FixedPointValueFormatter(int decimals, boolean grouping, DecimalFormatSymbols symbols) {
+        this(decimals, grouping, symbols.getGroupingSeparator(), symbols.getDecimalSeparator(),
+                symbols.getMinusSign(), symbols.getNaN(), symbols.getInfinity());
+    }
+
+    private FixedPointValueFormatter(int decimals, boolean grouping, char groupingSeparator,
+            char decimalSeparator, char minusSign, String nan, String infinity) {
+
+        if (decimals < 0)
+            decimals = 0;
+        if (decimals > MAX_DECIMALS)
+            decimals = MAX_DECIMALS;
+
+        mDecimals = decimals;
+        mGrouping = grouping;
+        mGroupingSeparator = groupingSeparator;
+        mDecimalSeparator = decimalSeparator;
+        mMinusSign = minusSign;
+        mNaN = nan;
+        mInfinity = infinity;
+    }
+
+    public int getDecimals() {
+        return mDecimals;
+    }
+
+    @Override
+    public String getFormattedValue(float value) {
+        char[] buffer = new char[getMaxLength()];
+        return new String(buffer, 0, formatValue(value, buffer, 0));
+    }
+
+    @Override
+    public int getMaxLength() {
+        return Math.max(MAX_INTEGER_LENGTH + 1 + mDecimals, 1 + Math.max(mNaN.length(),
+                mInfinity.length()));
+    }
+
+    @Override
+    public int formatValue(float value, char[] out, int offset) {
+
+        if (Float.isNaN(value))
+            return copy(mNaN, false, out, offset);
+
+        if (Float.isInfinite(value))
+            return copy(mInfinity, value < 0, out, offset);
+
+        double scaled = Math.rint(Math.abs((double) value) * POWERS_OF_TEN[mDecimals]);
+
+        if (scaled >= MAX_SCALED) {
+
+            // like DecimalFormat, use the shortest decimal representation of
+            // the value and fill up with zeros
+            String digits = BigDecimal.valueOf(Math.abs((double) value))
+                    .setScale(mDecimals, RoundingMode.HALF_EVEN).unscaledValue().toString();
+
+            return layout(value < 0, 0L, digits, out, offset);
+        }
+
+        long units = (long) scaled;
+
+        // no sign for values that are rounded to zero
+        return layout(value < 0 && units != 0, units, null, out, offset);
+    }
+
+    /**
+     * Writes the scaled value, either given as long or as digit string, with
+     * decimal and grouping separators. The chars are filled in from the end.
+     */
+    private int layout(boolean negative, long units, String digits, char[] out, int offset) {
+
+        int digitCount = digits != null ? digits.length() : countDigits(units);
+
+        // at least one integer digit, e.g. 0.05
+        if (digitCount < mDecimals + 1)
+            digitCount = mDecimals + 1;
+
+        int integerDigits = digitCount - mDecimals;
+        int groups = mGrouping ? (integerDigits - 1) / 3 : 0;
+
+        int length = (negative ? 1 : 0) + integerDigits + groups
+                + (mDecimals > 0 ? mDecimals + 1 : 0);
+
+        int pos = offset + length;
+        int digitIndex = digits != null ? digits.length() - 1 : 0;
+
+        for (int i = 0; i < digitCount; i++) {
+
+            if (i == mDecimals && mDecimals > 0)
+                out[--pos] = mDecimalSeparator;
+            else if (i > mDecimals && mGrouping && (i - mDecimals) % 3 == 0)
+                out[--pos] = mGroupingSeparator;
+
+            char digit;
+
+            if (digits != null) {
+                digit = digitIndex >= 0 ? digits.charAt(digitIndex--) : '0';
+            } else {
+                digit = (char) ('0' + units % 10);
+                units /= 10;
+            }
+
+            out[--pos] = digit;
+        }
+
+        if (negative)
+            out[--pos] = mMinusSign;
+
+        return length;
+    }
+
+    private int copy(String s, boolean negative, char[] out, int offset) {
+
+        int pos = offset;
+
+        if (negative)
+            out[pos++] = mMinusSign;
+
+        s.getChars(0, s.length(), out, pos);
+
+        return pos - offset + s.length();
+    }
+
+    private static int countDigits(long value) {
+
+        int count = 1;
+
+        while (value >= 10) {
+            value /= 10;
+            count++;
+        }
+
+        return count;
+    }
+}
@@ -0,0 +1,81 @@
+
+package com.talentpoc.utils;
+
+import java.util.Arrays;
+
+/**
+ * Caches the formatted labels of a series of values by index. A label is only
+ * formatted again if the value at its index or the ValueFormatter changed
+ * (a ValueFormatter is expected to always return the same label for the same
+ * value). Frames that draw the same values therefore do no number formatting.
+ */
+public class FormattedValueCache {
+
+    /** the values the labels were formatted from */
+    private float[] mValues = new float[0];
+
+    /** the formatted labels, null if not formatted yet */
+    private String[] mLabels = new String[0];
+
+    /** the formatter the labels were formatted with */
+    private ValueFormatter mFormatter;
+
+    /** the number of values that were formatted */
+    private long mFormatCount = 0;
+
+    public FormattedValueCache() {
+    }
+
+    /**
+     * Returns the formatted label of the given value at the given index.
+     * Formats the value only if the index has no label for this value and
+     * formatter yet.
+     *
+     * @param index
+     * @param value
+     * @param formatter
+     * @return
+     */
+    public String getFormattedValue(int index, float value, ValueFormatter formatter) {
+
+        if (formatter != mFormatter) {
+            invalidate();
+            mFormatter = formatter;
+        }
+
+        if (index >= mLabels.length) {
+            int size = Math.max(index + 1, mLabels.length * 2);
+            mValues = Arrays.copyOf(mValues, size);
+            mLabels = Arrays.copyOf(mLabels, size);
+        }
+
+        String label = mLabels[index];
+
+        if (label == null || Float.floatToIntBits(mValues[index]) != Float.floatToIntBits(value)) {
+
+            label = formatter.getFormattedValue(value);
+
+            mLabels[index] = label;
+            mValues[index] = value;
+            mFormatCount++;
+        }
+
+        return label;
+    }
+
+    /**
+     * Drops all formatted labels, e.g. when a formatter changed its output.
+     */
+    public void invalidate() {
+        Arrays.fill(mLabels, null);
+    }
+
+    /**
+     * Returns the number of values that have been formatted by this cache.
+     *
+     * @return
+     */
+    public long getFormatCount() {
+        return mFormatCount;
+    }
+}
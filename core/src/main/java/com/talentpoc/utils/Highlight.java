@@ -0,0 +1,63 @@
+package com.talentpoc.utils;
+
+/**
+ * Contains information needed to determine the highlighted value: the
+ * x-index of the value and the index of the DataSet it belongs to.
+ */
+public class Highlight {
+
+    /** the x-index of the highlighted value */
+    private int mXIndex;
+
+    /** the index of the DataSet the highlighted value is in */
+    private int mDataSetIndex;
+
+    /**
+     * constructor
+     *
+     * @param x the index of the highlighted value on the x-axis
+     * @param dataSet the index of the DataSet the highlighted value belongs to
+     */
+    public Highlight(int x, int dataSet) {
+        this.mXIndex = x;
+        this.mDataSetIndex = dataSet;
+    }
+
+    /**
+     * returns the index of the DataSet the highlighted value is in
+     *
+     * @return
+     */
+    public int getDataSetIndex() {
+        return mDataSetIndex;
+    }
+
+    /**
+     * returns the index of the highlighted value on the x-axis
+     *
+     * @return
+     */
+    public int getXIndex() {
+        return mXIndex;
+    }
+
+    /**
+     * returns true if this highlight object is equal to the other (compares
+     * xIndex and dataSetIndex)
+     *
+     * @param h
+     * @return
+     */
+    public boolean equalTo(Highlight h) {
+
+        if (h == null)
+            return false;
+
+        return this.mDataSetIndex == h.mDataSetIndex && this.mXIndex == h.mXIndex;
+    }
+
+    @Override
+    public String toString() {
+        return "Highlight, xIndex: " + mXIndex + ", dataSetIndex: " + mDataSetIndex;
+    }
+}
@@ -0,0 +1,187 @@
+
+package com.talentpoc.utils;
+
+/**
+ * Number helpers used for axis and formatter calculations. Unlike Utils, this
+ * class does not depend on any android classes.
+ */
+public abstract class MathUtils {
+
+    /** the range the lookup tables cover, other numbers are computed */
+    private static final double TABLE_MIN = Float.MIN_VALUE;
+    private static final double TABLE_MAX = Float.MAX_VALUE;
+
+    /**
+     * ceil((float) log10(x)) over the table range: the smallest x of each
+     * value, starting with SIGNIFICANT_MIN
+     */
+    private static final int SIGNIFICANT_MIN;
+    private static final double[] SIGNIFICANT_THRESHOLDS;
+
+    /** (float) 10^pw for each pw = 1 - ceil((float) log10(x)) */
+    private static final float[] MAGNITUDES;
+
+    /**
+     * ceil(-log10(x)) over the table range: the smallest x of each value,
+     * starting with DECIMALS_MAX (the value decreases with x)
+     */
+    private static final int DECIMALS_MAX;
+    private static final double[] DECIMALS_THRESHOLDS;
+
+    static {
+        SIGNIFICANT_MIN = significantExponent(TABLE_MIN);
+        int max = significantExponent(TABLE_MAX);
+
+        SIGNIFICANT_THRESHOLDS = new double[max - SIGNIFICANT_MIN + 1];
+        MAGNITUDES = new float[SIGNIFICANT_THRESHOLDS.length];
+
+        for (int i = 0; i < SIGNIFICANT_THRESHOLDS.length; i++) {
+            SIGNIFICANT_THRESHOLDS[i] = findThreshold(SIGNIFICANT_MIN + i, false);
+            MAGNITUDES[i] = (float) Math.pow(10, 1 - (SIGNIFICANT_MIN + i));
+        }
+
+        DECIMALS_MAX = decimalsExponent(TABLE_MIN);
+        int min = decimalsExponent(TABLE_MAX);
+
+        DECIMALS_THRESHOLDS = new double[DECIMALS_MAX - min + 1];
+
+        for (int i = 0; i < DECIMALS_THRESHOLDS.length; i++)
+            DECIMALS_THRESHOLDS[i] = findThreshold(DECIMALS_MAX - i, true);
+    }
+
+    /**
+     * rounds the given number to the next significant number. Looks the
+     * magnitude up in tables, the result is the same as computing it with
+     * Math.log10(...) and Math.pow(...).
+     *
+     * @param number
+     * @return
+     */
+    public static float roundToNextSignificant(double number) {
+
+        double abs = number < 0 ? -number : number;
+
+        if (!(abs >= TABLE_MIN && abs <= TABLE_MAX))
+            return computeRoundToNextSignificant(number);
+
+        int i = lookup(SIGNIFICANT_THRESHOLDS, abs,
+                ((Math.getExponent(abs) * 1233) >> 12) + 1 - SIGNIFICANT_MIN);
+
+        final float magnitude = MAGNITUDES[i];
+        final long shifted = Math.round(number * magnitude);
+        return shifted / magnitude;
+    }
+
+    /**
+     * Returns the appropriate number of decimals to be used for the provided
+     * number. Looks the number of decimals up in a table, the result is the
+     * same as computing it with Math.log10(...).
+     *
+     * @param number
+     * @return
+     */
+    public static int getDecimals(float number) {
+
+        float i = roundToNextSignificant(number);
+
+        if (!(i >= TABLE_MIN && i <= TABLE_MAX))
+            return computeDecimals(i);
+
+        int index = lookup(DECIMALS_THRESHOLDS, i,
+                DECIMALS_MAX + ((Math.getExponent(i) * 1233) >> 12));
+
+        return DECIMALS_MAX - index + 2;
+    }
+
+    /**
+     * Returns the index of the largest threshold that is not above the given
+     * value, starting the search at the given estimate.
+     */
+    private static int lookup(double[] thresholds, double value, int estimate) {
+
+        int i = Math.max(0, Math.min(estimate, thresholds.length - 1));
+
+        while (i + 1 < thresholds.length && value >= thresholds[i + 1])
+            i++;
+
+        while (i > 0 && value < thresholds[i])
+            i--;
+
+        return i;
+    }
+
+    /**
+     * Returns the smallest number in the table range for which
+     * significantExponent(...) is at least the given value, or
+     * decimalsExponent(...) at most the given value.
+     */
+    private static double findThreshold(int value, boolean decimals) {
+
+        long lo = Double.doubleToLongBits(TABLE_MIN);
+        long hi = Double.doubleToLongBits(TABLE_MAX);
+
+        // positive doubles are ordered like their bits
+        while (lo < hi) {
+
+            long mid = (lo + hi) >>> 1;
+            double x = Double.longBitsToDouble(mid);
+
+            boolean above = decimals ? decimalsExponent(x) <= value
+                    : significantExponent(x) >= value;
+
+            if (above)
+                hi = mid;
+            else
+                lo = mid + 1;
+        }
+
+        return Double.longBitsToDouble(lo);
+    }
+
+    private static int significantExponent(double abs) {
+        return (int) Math.ceil((float) Math.log10(abs));
+    }
+
+    private static int decimalsExponent(double x) {
+        return (int) Math.ceil(-Math.log10(x));
+    }
+
+    private static float computeRoundToNextSignificant(double number) {
+        final float d = (float) Math.ceil((float) Math.log10(number < 0 ? -number : number));
+        final int pw = 1 - (int) d;
+        final float magnitude = (float) Math.pow(10, pw);
+        final long shifted = Math.round(number * magnitude);
+        return shifted / magnitude;
+    }
+
+    private static int computeDecimals(float i) {
+        return (int) Math.ceil(-Math.log10(i)) + 2;
+    }
+
+    /**
+     * Replacement for the Math.nextUp(...) method that is only available in
+     * HONEYCOMB and higher.
+     *
+     * @param d
+     * @return
+     */
+    public static double nextUp(double d) {
+        if (d == Double.POSITIVE_INFINITY)
+            return d;
+        else {
+            d += 0.0d;
+            return Double.longBitsToDouble(Double.doubleToRawLongBits(d) +
+                    ((d >= 0.0d) ? +1L : -1L));
+        }
+    }
+
+    /**
+     * returns an angle between 0.f < 360.f (not less than zero, less than 360)
+     */
+    public static float getNormalizedAngle(float angle) {
+        while (angle < 0.f)
+            angle += 360.f;
+
+        return angle % 360.f;
+    }
+}
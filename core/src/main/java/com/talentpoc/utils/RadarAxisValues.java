@@ -0,0 +1,83 @@
+
+package com.talentpoc.utils;
+
+/**
+ * Holds the y-axis entries (the rings of the web) of a RadarChart and
+ * computes them for a given value range with AxisTicks. Does not depend on any android
+ * classes, the YAxisRendererRadarChart copies the results into the YAxis.
+ */
+public class RadarAxisValues {
+
+    /** the computed entries, only the first mEntryCount values are valid */
+    public float[] mEntries = new float[] {};
+
+    /** the number of computed entries */
+    public int mEntryCount;
+
+    /** the number of decimal digits to use */
+    public int mDecimals;
+
+    /** computes the ticks, memoizes the range */
+    private final AxisTicks mTicks = new AxisTicks();
+
+    /** showOnlyMinMax of the last call */
+    private boolean mShowOnlyMinMax;
+
+    /**
+     * Computes the axis entries above yMin, up to the first one that is not
+     * below yMax. Returns false if the range is empty or no labels are
+     * requested, in that case no entries are computed. Computing the same
+     * range again does nothing.
+     *
+     * @param yMin
+     * @param yMax
+     * @param labelCount
+     * @param showOnlyMinMax
+     * @return
+     */
+    public boolean compute(float yMin, float yMax, int labelCount, boolean showOnlyMinMax) {
+
+        boolean changed = mTicks.compute(yMin, yMax, labelCount, AxisTicks.Mode.ENCLOSING);
+
+        if (mTicks.getCount() == 0) {
+            mEntryCount = 0;
+            return false;
+        }
+
+        if (!changed && showOnlyMinMax == mShowOnlyMinMax)
+            return true;
+
+        mShowOnlyMinMax = showOnlyMinMax;
+
+        // if the labels should only show min and max
+        if (showOnlyMinMax) {
+
+            if (mEntries.length < 2)
+                mEntries = new float[2];
+
+            mEntryCount = 2;
+            mEntries[0] = yMin;
+            mEntries[1] = yMax;
+
+        } else {
+
+            if (mEntries.length < mTicks.getCount())
+                mEntries = new float[mTicks.getCount()];
+
+            mEntryCount = mTicks.fill(mEntries);
+        }
+
+        mDecimals = mTicks.getDecimals();
+
+        return true;
+    }
+
+    /**
+     * Returns the value of the outermost entry.
+     *
+     * @return
+     */
+    public float getLastEntry() {
+        return mEntries[mEntryCount - 1];
+    }
+}
@@ -0,0 +1,350 @@
+
+package com.talentpoc.utils;
+
+/**
+ * Polar geometry of the RadarChart (slices, web, label placement). All
+ * results are written into caller provided float arrays as x/y pairs, so no
+ * objects are allocated. This class does not depend on any android classes
+ * and is shared by the RadarChart renderers and headless renderers.
+ */
+public abstract class RadarGeometry {
+
+    /**
+     * Returns the angle that each slice occupies for the given number of
+     * x-values.
+     *
+     * @param xValCount
+     * @return
+     */
+    public static float getSliceAngle(int xValCount) {
+        return 360f / (float) xValCount;
+    }
+
+    /**
+     * Returns the factor that is needed to transform values into pixels for
+     * the given content size and value range.
+     *
+     * @param contentWidth
+     * @param contentHeight
+     * @param yRange
+     * @return
+     */
+    public static float getFactor(float contentWidth, float contentHeight, float yRange) {
+        return Math.min(contentWidth / 2f, contentHeight / 2f) / yRange;
+    }
+
+    /**
+     * Returns the distance from the center at which the values start, which
+     * is the radius of the innermost ring of the web. Returns 0 if there are
+     * no rings.
+     *
+     * @param ringValues the axis entries the rings are drawn at
+     * @param ringCount
+     * @param yMin
+     * @param factor
+     * @return
+     */
+    public static float getBaseRadius(float[] ringValues, int ringCount, float yMin, float factor) {
+
+        if (ringCount == 0)
+            return 0f;
+
+        return (ringValues[0] - yMin) * factor;
+    }
+
+    /**
+     * Calculates the position around a center point, depending on the distance
+     * from the center, and the angle of the position around the center. The
+     * result is written into out[offset] (x) and out[offset + 1] (y).
+     *
+     * @param centerX
+     * @param centerY
+     * @param dist
+     * @param angle in degrees, converted to radians internally
+     * @param out
+     * @param offset
+     */
+    public static void getPosition(float centerX, float centerY, float dist, float angle,
+                                   float[] out, int offset) {
+
+        double rad = Math.toRadians(angle);
+
+        out[offset] = (float) (centerX + dist * Math.cos(rad));
+        out[offset + 1] = (float) (centerY + dist * Math.sin(rad));
+    }
+
+    /**
+     * Like getPosition(...), with the float approximations of FastTrig if
+     * fastTrig is true.
+     *
+     * @param centerX
+     * @param centerY
+     * @param dist
+     * @param angle in degrees
+     * @param out
+     * @param offset
+     * @param fastTrig
+     */
+    public static void getPosition(float centerX, float centerY, float dist, float angle,
+                                   float[] out, int offset, boolean fastTrig) {
+
+        if (!fastTrig) {
+            getPosition(centerX, centerY, dist, angle, out, offset);
+            return;
+        }
+
+        out[offset] = centerX + dist * FastTrig.cos(angle);
+        out[offset + 1] = centerY + dist * FastTrig.sin(angle);
+    }
+
+    /**
+     * Returns the angle of the given point around the center in degrees, in
+     * the same orientation getPosition(...) uses: between 0 and 360, 0 is
+     * EAST, 90 is SOUTH, ...
+     *
+     * @param centerX
+     * @param centerY
+     * @param x
+     * @param y
+     * @return
+     */
+    public static float getAngle(float centerX, float centerY, float x, float y) {
+
+        float angle = (float) Math.toDegrees(Math.atan2(y - centerY, x - centerX));
+
+        return angle < 0f ? angle + 360f : angle;
+    }
+
+    /**
+     * Like getAngle(...), with the float approximation of FastTrig if
+     * fastTrig is true.
+     *
+     * @param centerX
+     * @param centerY
+     * @param x
+     * @param y
+     * @param fastTrig
+     * @return
+     */
+    public static float getAngle(float centerX, float centerY, float x, float y,
+            boolean fastTrig) {
+
+        if (!fastTrig)
+            return getAngle(centerX, centerY, x, y);
+
+        float angle = FastTrig.atan2(y - centerY, x - centerX);
+
+        return angle < 0f ? angle + 360f : angle;
+    }
+
+    /**
+     * Returns the index of the slice the given angle points into, in closed
+     * form: the slice of x-value i is centered at sliceAngle * i +
+     * rotationAngle. Returns -1 if there are no slices.
+     *
+     * @param angle in degrees
+     * @param rotationAngle
+     * @param xValCount
+     * @return
+     */
+    public static int getIndexForAngle(float angle, float rotationAngle, int xValCount) {
+
+        if (xValCount <= 0)
+            return -1;
+
+        float a = MathUtils.getNormalizedAngle(angle - rotationAngle);
+
+        int index = (int) (a * xValCount / 360f + 0.5f);
+
+        return index >= xValCount ? index - xValCount : index;
+    }
+
+    /**
+     * Calculates the line segments of the inner web (one ring per axis entry)
+     * and writes them into the given array, 4 values (x0, y0, x1, y1) per
+     * segment. The array needs to hold at least ringCount * xValCount * 4
+     * values. Returns the number of values written.
+     *
+     * @return
+     */
+    public static int computeWebRings(float centerX, float centerY, float[] ringValues,
+                                      int ringCount, float yMin, float factor, int xValCount,
+                                      float sliceAngle, float rotationAngle, float[] out) {
+
+        int index = 0;
+
+        for (int j = 0; j < ringCount; j++) {
+
+            float r = (ringValues[j] - yMin) * factor;
+
+            for (int i = 0; i < xValCount; i++) {
+
+                getPosition(centerX, centerY, r, sliceAngle * i + rotationAngle, out, index);
+                getPosition(centerX, centerY, r, sliceAngle * (i + 1) + rotationAngle, out,
+                        index + 2);
+                index += 4;
+            }
+        }
+
+        return index;
+    }
+
+    /**
+     * Calculates the web lines that come from the center, starting at the
+     * given base radius with the given length, and writes them into the given
+     * array, 4 values (x0, y0, x1, y1) per line. The array needs to hold at
+     * least xValCount * 4 values. Returns the number of values written.
+     *
+     * @return
+     */
+    public static int computeWebSpokes(float centerX, float centerY, float baseRadius,
+                                       float length, int xValCount, float sliceAngle,
+                                       float rotationAngle, float[] out) {
+
+        int index = 0;
+
+        for (int i = 0; i < xValCount; i++) {
+
+            float angle = sliceAngle * i + rotationAngle;
+
+            getPosition(centerX, centerY, baseRadius, angle, out, index);
+            getPosition(centerX, centerY, baseRadius + length, angle, out, index + 2);
+            index += 4;
+        }
+
+        return index;
+    }
+
+    /**
+     * Calculates the positions of the x-labels around the web at the given
+     * distance from the center and writes them into the given array as x/y
+     * pairs. The array needs to hold at least xValCount * 2 values.
+     */
+    public static void computeLabelPositions(float centerX, float centerY, float dist,
+                                             int xValCount, float sliceAngle,
+                                             float rotationAngle, float[] out) {
+
+        for (int i = 0; i < xValCount; i++) {
+
+            float angle = (sliceAngle * i + rotationAngle) % 360f;
+
+            getPosition(centerX, centerY, dist, angle, out, i * 2);
+        }
+    }
+
+    /**
+     * Like computeWebRings(...), scales the vertex directions of the given
+     * unit web instead of computing them.
+     *
+     * @return
+     */
+    public static int computeWebRings(float centerX, float centerY, float[] ringValues,
+                                      int ringCount, float yMin, float factor, RadarUnitWeb web,
+                                      float[] out) {
+
+        int index = 0;
+
+        for (int j = 0; j < ringCount; j++) {
+
+            float r = (ringValues[j] - yMin) * factor;
+
+            for (int i = 0; i < web.getCount(); i++) {
+
+                out[index] = centerX + r * web.getCos(i);
+                out[index + 1] = centerY + r * web.getSin(i);
+                out[index + 2] = centerX + r * web.getCos(i + 1);
+                out[index + 3] = centerY + r * web.getSin(i + 1);
+                index += 4;
+            }
+        }
+
+        return index;
+    }
+
+    /**
+     * Like computeWebSpokes(...), scales the vertex directions of the given
+     * unit web instead of computing them.
+     *
+     * @return
+     */
+    public static int computeWebSpokes(float centerX, float centerY, float baseRadius,
+                                       float length, RadarUnitWeb web, float[] out) {
+
+        int index = 0;
+
+        for (int i = 0; i < web.getCount(); i++) {
+
+            out[index] = centerX + baseRadius * web.getCos(i);
+            out[index + 1] = centerY + baseRadius * web.getSin(i);
+            out[index + 2] = centerX + (baseRadius + length) * web.getCos(i);
+            out[index + 3] = centerY + (baseRadius + length) * web.getSin(i);
+            index += 4;
+        }
+
+        return index;
+    }
+
+    /**
+     * Like computeLabelPositions(...), scales the vertex directions of the
+     * given unit web instead of computing them.
+     */
+    public static void computeLabelPositions(float centerX, float centerY, float dist,
+                                             RadarUnitWeb web, float[] out) {
+
+        for (int i = 0; i < web.getCount(); i++) {
+            out[i * 2] = centerX + dist * web.getCos(i);
+            out[i * 2 + 1] = centerY + dist * web.getSin(i);
+        }
+    }
+
+    /**
+     * Resamples a polygon given by the radii of its evenly spread vertices
+     * (vertex i at angle 360 / count * i) to a polygon with a different number
+     * of evenly spread vertices. Each new radius is the distance at which the
+     * ray of the new vertex meets the edges of the old polygon, so the shape
+     * stays the same. Used to animate between charts with different numbers
+     * of x-values. Polygons with less than 3 vertices are interpolated
+     * linearly by angle.
+     *
+     * @param radii
+     * @param count number of radii of the polygon
+     * @param out receives the new radii
+     * @param outCount number of radii to compute
+     */
+    public static void resamplePolygon(float[] radii, int count, float[] out, int outCount) {
+
+        if (count == outCount) {
+            System.arraycopy(radii, 0, out, 0, count);
+            return;
+        }
+
+        if (count == 0) {
+            for (int j = 0; j < outCount; j++)
+                out[j] = 0f;
+            return;
+        }
+
+        double slice = Math.PI * 2.0 / count;
+        double sinSlice = Math.sin(slice);
+
+        for (int j = 0; j < outCount; j++) {
+
+            double theta = Math.PI * 2.0 * j / outCount;
+
+            int k = Math.min((int) (theta / slice), count - 1);
+            double a = theta - k * slice;
+
+            float r0 = radii[k];
+            float r1 = radii[(k + 1) % count];
+
+            if (count < 3) {
+                out[j] = (float) (r0 + (r1 - r0) * a / slice);
+                continue;
+            }
+
+            double denom = r0 * Math.sin(a) + r1 * Math.sin(slice - a);
+
+            out[j] = denom == 0.0 ? 0f : (float) (r0 * r1 * sinSlice / denom);
+        }
+    }
+}
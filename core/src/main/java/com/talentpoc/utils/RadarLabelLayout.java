@@ -0,0 +1,165 @@
+
+package com.talentpoc.utils;
+
+import java.util.List;
+
+/**
+ * Cached layout of the x-labels around the RadarChart web: the anchor point
+ * of every label, the labels are drawn centered on it. The layout only needs
+ * to be computed again if the labels, the geometry (center, distance, unit
+ * web) or the label height change, see isValid(...) and invalidate(). The
+ * anchor points are the directions of the RadarUnitWeb scaled by the
+ * distance, so each chart has a layout of its own, while the unit web can be
+ * shared. The same layout is used for drawing the labels and for finding the
+ * label that was touched. All arrays are reused, computing and reading the
+ * layout does not allocate unless the number of labels grows.
+ */
+public class RadarLabelLayout {
+
+    /** x/y pairs of the label anchor points */
+    private float[] mPositions = new float[0];
+
+    /** number of labels in the layout */
+    private int mCount = 0;
+
+    /** distance between the anchor point and the baseline of the labels */
+    private float mBaselineOffset = 0f;
+
+    /** flag indicating that the layout matches the values below */
+    private boolean mValid = false;
+
+    /** labels, geometry and label height the layout was computed for */
+    private List<String> mLabels;
+    private float mCenterX;
+    private float mCenterY;
+    private float mDistance;
+    private RadarUnitWeb mUnitWeb;
+    private float mLabelHeight;
+
+    public RadarLabelLayout() {
+    }
+
+    /**
+     * Marks the layout as outdated, e.g. because the labels have changed.
+     */
+    public void invalidate() {
+        mValid = false;
+    }
+
+    /**
+     * Returns true if the layout has been computed for the given labels (the
+     * same list, unchanged since), geometry and label height and has not been
+     * invalidated since.
+     *
+     * @return
+     */
+    public boolean isValid(List<String> labels, float centerX, float centerY, float distance,
+            RadarUnitWeb unitWeb, float labelHeight) {
+
+        return mValid
+                && mLabels == labels
+                && mCount == labels.size()
+                && mCenterX == centerX
+                && mCenterY == centerY
+                && mDistance == distance
+                && mUnitWeb == unitWeb
+                && mLabelHeight == labelHeight;
+    }
+
+    /**
+     * Computes the layout of the given labels.
+     *
+     * @param labels
+     * @param centerX
+     * @param centerY
+     * @param distance distance of the anchor points from the center
+     * @param unitWeb the directions of the labels, one per label
+     * @param labelHeight
+     */
+    public void compute(List<String> labels, float centerX, float centerY, float distance,
+            RadarUnitWeb unitWeb, float labelHeight) {
+
+        int count = Math.min(labels.size(), unitWeb.getCount());
+
+        if (mPositions.length < unitWeb.getCount() * 2)
+            mPositions = new float[unitWeb.getCount() * 2];
+
+        RadarGeometry.computeLabelPositions(centerX, centerY, distance, unitWeb, mPositions);
+
+        mCount = count;
+        mBaselineOffset = labelHeight / 2f;
+
+        mLabels = labels;
+        mCenterX = centerX;
+        mCenterY = centerY;
+        mDistance = distance;
+        mUnitWeb = unitWeb;
+        mLabelHeight = labelHeight;
+        mValid = true;
+    }
+
+    /**
+     * Returns the index of the label whose anchor point is closest to the
+     * given point, -1 if there is no label within the given distance. All
+     * anchor points lie on a circle, so the closest one is the one of the
+     * slice the point lies in, which is computed from the angle of the point
+     * in constant time.
+     *
+     * @param x
+     * @param y
+     * @param maxDistanceSq the squared maximum distance in pixels
+     * @return
+     */
+    public int getLabelAt(float x, float y, float maxDistanceSq) {
+
+        if (!mValid || mCount == 0)
+            return -1;
+
+        int index = RadarGeometry.getIndexForAngle(
+                RadarGeometry.getAngle(mCenterX, mCenterY, x, y), mUnitWeb.getRotationAngle(),
+                mCount);
+
+        float dx = x - mPositions[index * 2];
+        float dy = y - mPositions[index * 2 + 1];
+
+        return dx * dx + dy * dy <= maxDistanceSq ? index : -1;
+    }
+
+    public int getCount() {
+        return mCount;
+    }
+
+    /**
+     * Returns the x-position of the anchor point of the label at the given
+     * index.
+     *
+     * @param index
+     * @return
+     */
+    public float getX(int index) {
+        return mPositions[index * 2];
+    }
+
+    /**
+     * Returns the y-position of the anchor point of the label at the given
+     * index.
+     *
+     * @param index
+     * @return
+     */
+    public float getY(int index) {
+        return mPositions[index * 2 + 1];
+    }
+
+    /**
+     * Returns the y-position the label at the given index is drawn at
+     * (baseline).
+     *
+     * @param index
+     * @return
+     */
+    public float getBaseline(int index) {
+        return mPositions[index * 2 + 1] + mBaselineOffset;
+    }
+
+}
@@ -0,0 +1,237 @@
+package com.talentpoc.utils;
+
+/**
+ * Caches the polygons of the RadarChart DataSets in normalized unit-circle
+ * space: vertex j of a polygon is stored as its normalized radius (1 is the
+ * outermost ring) times the cosine and sine of sliceAngle * j. The cache
+ * does not depend on the size, center or rotation of the chart, projecting a
+ * polygon onto the screen is one rotation and scale (4 multiplications and 2
+ * additions) per vertex.
+ * <p>
+ * A polygon is only computed again if its DataSet changed (identity or
+ * change counter), or if the normalization (y-range, number of slices) of
+ * the whole chart changed.
+ */
+public class RadarPolygonCache {
+
+    /** the normalization all polygons were computed with */
+    private int mXValCount = -1;
+    private float mYMin = Float.NaN;
+    private float mYRange = Float.NaN;
+    private float mBaseOffset = Float.NaN;
+
+    /** cosine and sine of the unrotated angle of each slice */
+    private float[] mDirections = new float[0];
+
+    /** unit-space x/y pairs of the vertices per DataSet */
+    private float[][] mPoints = new float[0][];
+
+    /** normalized radius of the vertices per DataSet */
+    private float[][] mRadii = new float[0][];
+
+    private int[] mCounts = new int[0];
+
+    /** the DataSet and its change counter each polygon was computed for */
+    private Object[] mKeys = new Object[0];
+    private int[] mChangeCounts = new int[0];
+
+    public RadarPolygonCache() {
+    }
+
+    /**
+     * Sets the normalization of the chart and the number of DataSets. All
+     * polygons are invalidated if the normalization differs from the one
+     * they were computed with.
+     *
+     * @param xValCount
+     * @param yMin
+     * @param yRange
+     * @param baseOffset the radius of the innermost ring in value units,
+     *            where the polygons start
+     * @param dataSetCount
+     */
+    public void setNormalization(int xValCount, float yMin, float yRange, float baseOffset,
+            int dataSetCount) {
+
+        if (mKeys.length < dataSetCount) {
+            mPoints = grow(mPoints, dataSetCount);
+            mRadii = grow(mRadii, dataSetCount);
+
+            int[] counts = new int[dataSetCount];
+            System.arraycopy(mCounts, 0, counts, 0, mCounts.length);
+            mCounts = counts;
+
+            int[] changeCounts = new int[dataSetCount];
+            System.arraycopy(mChangeCounts, 0, changeCounts, 0, mChangeCounts.length);
+            mChangeCounts = changeCounts;
+
+            Object[] keys = new Object[dataSetCount];
+            System.arraycopy(mKeys, 0, keys, 0, mKeys.length);
+            mKeys = keys;
+        }
+
+        if (xValCount == mXValCount && yMin == mYMin && yRange == mYRange
+                && baseOffset == mBaseOffset)
+            return;
+
+        if (xValCount != mXValCount) {
+
+            if (mDirections.length < xValCount * 2)
+                mDirections = new float[xValCount * 2];
+
+            double slice = Math.PI * 2.0 / xValCount;
+
+            for (int j = 0; j < xValCount; j++) {
+                mDirections[j * 2] = (float) Math.cos(slice * j);
+                mDirections[j * 2 + 1] = (float) Math.sin(slice * j);
+            }
+        }
+
+        mXValCount = xValCount;
+        mYMin = yMin;
+        mYRange = yRange;
+        mBaseOffset = baseOffset;
+
+        invalidate();
+    }
+
+    /**
+     * Invalidates all polygons.
+     */
+    public void invalidate() {
+        for (int i = 0; i < mKeys.length; i++)
+            mKeys[i] = null;
+    }
+
+    /**
+     * Invalidates the polygon of the DataSet with the given index.
+     *
+     * @param index
+     */
+    public void invalidate(int index) {
+        if (index < mKeys.length)
+            mKeys[index] = null;
+    }
+
+    /**
+     * Returns true if the polygon at the given index was computed for the
+     * given DataSet and change counter.
+     *
+     * @param index
+     * @param dataSet
+     * @param changeCount
+     * @return
+     */
+    public boolean isValid(int index, Object dataSet, int changeCount) {
+        return mKeys[index] == dataSet && mChangeCounts[index] == changeCount;
+    }
+
+    /**
+     * Returns a buffer of at least the given size for the values of the
+     * polygon at the given index, fill it and call setPolygon(...).
+     *
+     * @param index
+     * @param count
+     * @return
+     */
+    public float[] getValueBuffer(int index, int count) {
+
+        if (mRadii[index] == null || mRadii[index].length < count) {
+            mRadii[index] = new float[count];
+            mPoints[index] = new float[count * 2];
+        }
+
+        return mRadii[index];
+    }
+
+    /**
+     * Normalizes the values in the buffer of the polygon at the given index
+     * and computes the unit-space vertices.
+     *
+     * @param index
+     * @param dataSet
+     * @param changeCount
+     * @param count number of values, at most the number of slices are used
+     */
+    public void setPolygon(int index, Object dataSet, int changeCount, int count) {
+
+        float[] radii = mRadii[index];
+        float[] points = mPoints[index];
+
+        count = Math.min(count, mXValCount);
+
+        for (int j = 0; j < count; j++) {
+
+            float r = mYRange > 0f ? (mBaseOffset + radii[j] - mYMin) / mYRange : 0f;
+
+            radii[j] = r;
+            points[j * 2] = r * mDirections[j * 2];
+            points[j * 2 + 1] = r * mDirections[j * 2 + 1];
+        }
+
+        mCounts[index] = count;
+        mKeys[index] = dataSet;
+        mChangeCounts[index] = changeCount;
+    }
+
+    /**
+     * Returns the number of vertices of the polygon at the given index.
+     *
+     * @param index
+     * @return
+     */
+    public int getCount(int index) {
+        return mCounts[index];
+    }
+
+    /**
+     * Returns the normalized radii of the polygon at the given index.
+     *
+     * @param index
+     * @return
+     */
+    public float[] getRadii(int index) {
+        return mRadii[index];
+    }
+
+    /**
+     * Projects the polygon at the given index onto the screen and writes the
+     * vertices as x/y pairs into the given array. Returns the number of
+     * vertices.
+     *
+     * @param index
+     * @param centerX
+     * @param centerY
+     * @param radius distance in pixels of normalized radius 1
+     * @param rotationAngle in degrees
+     * @param out
+     * @return
+     */
+    public int project(int index, float centerX, float centerY, float radius,
+            float rotationAngle, float[] out) {
+
+        double rad = Math.toRadians(rotationAngle);
+        float a = (float) (radius * Math.cos(rad));
+        float b = (float) (radius * Math.sin(rad));
+
+        float[] points = mPoints[index];
+        int count = mCounts[index];
+
+        for (int j = 0; j < count * 2; j += 2) {
+
+            float ux = points[j];
+            float uy = points[j + 1];
+
+            out[j] = centerX + a * ux - b * uy;
+            out[j + 1] = centerY + b * ux + a * uy;
+        }
+
+        return count;
+    }
+
+    private static float[][] grow(float[][] array, int size) {
+        float[][] grown = new float[size][];
+        System.arraycopy(array, 0, grown, 0, array.length);
+        return grown;
+    }
+}
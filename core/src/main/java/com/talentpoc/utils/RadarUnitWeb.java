@@ -0,0 +1,76 @@
+package com.talentpoc.utils;
+
+/**
+ * The directions of the vertices of a RadarChart web on the unit circle, for
+ * a number of vertices and a rotation angle. The web rings and spokes, the
+ * label anchors and the vertices of the polygons all lie on these
+ * directions, each chart only scales them by its own center and radii (see
+ * RadarWebCache and RadarLabelLayout), so they need no trigonometry. An
+ * instance is immutable and can be shared by any number of charts, see
+ * RadarSharedResources.
+ */
+public final class RadarUnitWeb {
+
+    /** cos/sin pairs of the vertex directions */
+    private final float[] mDirections;
+
+    private final int mCount;
+
+    private final float mRotationAngle;
+
+    /**
+     * @param count number of vertices
+     * @param rotationAngle angle of the first vertex in degrees
+     */
+    public RadarUnitWeb(int count, float rotationAngle) {
+
+        mCount = Math.max(0, count);
+        mRotationAngle = rotationAngle;
+        mDirections = new float[mCount * 2];
+
+        RadarGeometry.computeLabelPositions(0f, 0f, 1f, mCount,
+                RadarGeometry.getSliceAngle(mCount), rotationAngle, mDirections);
+    }
+
+    /**
+     * Returns true if this web has the given number of vertices and rotation
+     * angle.
+     *
+     * @param count
+     * @param rotationAngle
+     * @return
+     */
+    public boolean matches(int count, float rotationAngle) {
+        return mCount == count && mRotationAngle == rotationAngle;
+    }
+
+    public int getCount() {
+        return mCount;
+    }
+
+    public float getRotationAngle() {
+        return mRotationAngle;
+    }
+
+    /**
+     * Returns the x-component of the direction of the vertex at the given
+     * index, the index may be up to getCount() (the first vertex again).
+     *
+     * @param index
+     * @return
+     */
+    public float getCos(int index) {
+        return mDirections[(index == mCount ? 0 : index) * 2];
+    }
+
+    /**
+     * Returns the y-component of the direction of the vertex at the given
+     * index, the index may be up to getCount() (the first vertex again).
+     *
+     * @param index
+     * @return
+     */
+    public float getSin(int index) {
+        return mDirections[(index == mCount ? 0 : index) * 2 + 1];
+    }
+}
@@ -0,0 +1,253 @@
+package com.talentpoc.utils;
+
+import java.util.Arrays;
+
+/**
+ * Polar spatial index of the vertices of many overlaid radar polygons, used
+ * to find the vertex closest to a touch. The vertices are bucketed by slice
+ * (x-index) and sorted by radius within each slice. The radii are normalized
+ * (1 is the outermost ring), so the index stays valid when the chart is
+ * resized or rotated and only has to be rebuilt when the values change.
+ * <p>
+ * A query computes the slice of the touch in closed form and binary searches
+ * its bucket, neighbouring slices are only searched while they can still
+ * hold a closer vertex. Building the index does not allocate unless the
+ * number of vertices grows.
+ */
+public class RadarVertexIndex {
+
+    /**
+     * per slice range of sorted keys: the sortable bits of the radius in the
+     * upper, the DataSet index in the lower 32 bits
+     */
+    private long[] mKeys = new long[0];
+
+    /** number of keys in each slice */
+    private int[] mSliceCounts = new int[0];
+
+    /** number of key slots per slice (the number of DataSets) */
+    private int mStride = 0;
+
+    private int mXValCount = 0;
+
+    /**
+     * true if a vertex has a negative radius (a value below the axis minimum),
+     * such vertices are drawn through the center
+     */
+    private boolean mHasNegativeRadii = false;
+
+    private boolean mValid = false;
+
+    public RadarVertexIndex() {
+    }
+
+    /**
+     * Clears the index and prepares it for the given number of slices and
+     * DataSets. Add the vertices with add(...) and call finish() afterwards.
+     *
+     * @param xValCount
+     * @param dataSetCount
+     */
+    public void begin(int xValCount, int dataSetCount) {
+
+        int size = xValCount * dataSetCount;
+
+        if (mKeys.length < size)
+            mKeys = new long[size];
+
+        if (mSliceCounts.length < xValCount)
+            mSliceCounts = new int[xValCount];
+
+        Arrays.fill(mSliceCounts, 0, xValCount, 0);
+
+        mXValCount = xValCount;
+        mStride = dataSetCount;
+        mHasNegativeRadii = false;
+        mValid = false;
+    }
+
+    /**
+     * Adds the vertices of the DataSet with the given index, vertex j lies in
+     * slice j. NaN radii are skipped.
+     *
+     * @param dataSetIndex
+     * @param radii normalized radii of the vertices
+     * @param count
+     */
+    public void add(int dataSetIndex, float[] radii, int count) {
+
+        count = Math.min(count, mXValCount);
+
+        for (int j = 0; j < count; j++) {
+
+            if (Float.isNaN(radii[j]))
+                continue;
+
+            if (radii[j] < 0f)
+                mHasNegativeRadii = true;
+
+            mKeys[j * mStride + mSliceCounts[j]++] = toKey(radii[j], dataSetIndex);
+        }
+    }
+
+    /**
+     * Sorts the buckets, the index can be queried afterwards.
+     */
+    public void finish() {
+
+        for (int i = 0; i < mXValCount; i++) {
+            int from = i * mStride;
+            Arrays.sort(mKeys, from, from + mSliceCounts[i]);
+        }
+
+        mValid = true;
+    }
+
+    /**
+     * Marks the index as outdated.
+     */
+    public void invalidate() {
+        mValid = false;
+    }
+
+    public boolean isValid() {
+        return mValid;
+    }
+
+    /**
+     * Finds the vertex closest to the given point in the given geometry and
+     * writes its x-index and DataSet index into out[0] and out[1]. Returns
+     * false if there is no vertex within the given distance.
+     *
+     * @param x
+     * @param y
+     * @param centerX
+     * @param centerY
+     * @param radius distance in pixels of normalized radius 1
+     * @param rotationAngle
+     * @param maxDistanceSq the squared maximum distance in pixels
+     * @param out
+     * @return
+     */
+    public boolean findNearest(float x, float y, float centerX, float centerY, float radius,
+            float rotationAngle, float maxDistanceSq, int[] out) {
+
+        if (!mValid || mXValCount == 0 || radius <= 0f)
+            return false;
+
+        // search in normalized space
+        double dx = (x - centerX) / radius;
+        double dy = (y - centerY) / radius;
+        double r = Math.sqrt(dx * dx + dy * dy);
+        float angle = RadarGeometry.getAngle(centerX, centerY, x, y);
+
+        double sliceRad = Math.PI * 2.0 / mXValCount;
+        int center = RadarGeometry.getIndexForAngle(angle, rotationAngle, mXValCount);
+
+        double best = maxDistanceSq / ((double) radius * radius);
+        int bestSlice = -1;
+        int bestSlot = -1;
+
+        for (int d = 0; d <= mXValCount / 2; d++) {
+
+            // lower bound of the distance to any vertex in the slices d steps
+            // away from the touched slice, vertices through the center can be
+            // anywhere
+            double minDelta = Math.max(0.0, (d - 0.5) * sliceRad);
+            double bound = minDelta < Math.PI / 2.0 ? r * Math.sin(minDelta) : r;
+
+            if (!mHasNegativeRadii && bound * bound >= best)
+                break;
+
+            for (int side = 0; side < (d == 0 ? 1 : 2); side++) {
+
+                int slice = side == 0 ? center + d : center - d;
+                slice = (slice % mXValCount + mXValCount) % mXValCount;
+
+                // both sides are the same slice for an even count
+                if (side == 1 && d * 2 == mXValCount)
+                    break;
+
+                double delta = Math.toRadians(MathUtils.getNormalizedAngle(
+                        angle - (360f / mXValCount * slice + rotationAngle)));
+
+                int slot = findNearestInSlice(slice, r * Math.cos(delta));
+
+                if (slot < 0)
+                    continue;
+
+                double radial = getRadius(slot) - r * Math.cos(delta);
+                double tangential = r * Math.sin(delta);
+                double dist = radial * radial + tangential * tangential;
+
+                if (dist <= best) {
+                    best = dist;
+                    bestSlice = slice;
+                    bestSlot = slot;
+                }
+            }
+        }
+
+        if (bestSlot < 0)
+            return false;
+
+        out[0] = bestSlice;
+        out[1] = (int) mKeys[bestSlot];
+        return true;
+    }
+
+    /**
+     * Returns the slot of the vertex of the given slice whose radius is
+     * closest to the given radius, -1 if the slice is empty. All vertices of
+     * a slice lie on one ray, so this is also the one closest to any point
+     * projecting onto the ray at that radius.
+     */
+    private int findNearestInSlice(int slice, double radius) {
+
+        int count = mSliceCounts[slice];
+
+        if (count == 0)
+            return -1;
+
+        int from = slice * mStride;
+        int pos = Arrays.binarySearch(mKeys, from, from + count,
+                toKey((float) radius, 0));
+
+        if (pos >= 0)
+            return pos;
+
+        int insert = -pos - 1;
+
+        if (insert == from)
+            return from;
+
+        if (insert == from + count)
+            return insert - 1;
+
+        return radius - getRadius(insert - 1) <= getRadius(insert) - radius
+                ? insert - 1 : insert;
+    }
+
+    private float getRadius(int slot) {
+        return fromSortable((int) (mKeys[slot] >> 32));
+    }
+
+    /**
+     * Returns a key that sorts by radius first and DataSet index second.
+     */
+    private static long toKey(float radius, int dataSetIndex) {
+        return ((long) toSortable(radius) << 32) | (dataSetIndex & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Maps the bits of a float to an int with the same order.
+     */
+    private static int toSortable(float value) {
+        int bits = Float.floatToIntBits(value);
+        return bits ^ ((bits >> 31) & 0x7FFFFFFF);
+    }
+
+    private static float fromSortable(int sortable) {
+        return Float.intBitsToFloat(sortable ^ ((sortable >> 31) & 0x7FFFFFFF));
+    }
+}
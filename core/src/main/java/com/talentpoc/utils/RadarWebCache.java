@@ -0,0 +1,110 @@
+package com.talentpoc.utils;
+
+/**
+ * Cached line segments of the RadarChart web (the rings and the spokes that
+ * come from the center). The segments only need to be computed again if the
+ * geometry of the web changes, see isValid(...). They are the directions of
+ * a RadarUnitWeb scaled by the center and radii of one chart, so each chart
+ * has a cache of its own, while the unit web can be shared.
+ */
+public class RadarWebCache {
+
+    /** line segments of the rings, 4 values per segment */
+    private float[] mRings = new float[0];
+
+    /** line segments of the spokes, 4 values per segment */
+    private float[] mSpokes = new float[0];
+
+    /** number of valid values in the buffers */
+    private int mRingCount = 0;
+    private int mSpokeCount = 0;
+
+    /** the geometry the buffers were computed for */
+    private float mCenterX = Float.NaN;
+    private float mCenterY = Float.NaN;
+    private float mFactor = Float.NaN;
+    private RadarUnitWeb mUnitWeb;
+    private float mYMin = Float.NaN;
+    private float mYMax = Float.NaN;
+    private float[] mRingValues = new float[0];
+    private int mRingValueCount = -1;
+
+    public RadarWebCache() {
+    }
+
+    /**
+     * Returns true if the web was computed for the given geometry.
+     *
+     * @return
+     */
+    public boolean isValid(float centerX, float centerY, float factor, RadarUnitWeb unitWeb,
+            float yMin, float yMax, float[] ringValues, int ringCount) {
+
+        if (centerX != mCenterX || centerY != mCenterY || factor != mFactor
+                || unitWeb != mUnitWeb || yMin != mYMin || yMax != mYMax
+                || ringCount != mRingValueCount)
+            return false;
+
+        for (int i = 0; i < ringCount; i++) {
+            if (ringValues[i] != mRingValues[i])
+                return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Computes the rings (one per axis entry) and the spokes of the web for
+     * the given geometry. The spokes start at the innermost ring and end at
+     * yMax.
+     */
+    public void compute(float centerX, float centerY, float factor, RadarUnitWeb unitWeb,
+            float yMin, float yMax, float[] ringValues, int ringCount) {
+
+        int xValCount = unitWeb.getCount();
+
+        if (mRings.length < ringCount * xValCount * 4)
+            mRings = new float[ringCount * xValCount * 4];
+
+        if (mSpokes.length < xValCount * 4)
+            mSpokes = new float[xValCount * 4];
+
+        if (mRingValues.length < ringCount)
+            mRingValues = new float[ringCount];
+
+        System.arraycopy(ringValues, 0, mRingValues, 0, ringCount);
+
+        mCenterX = centerX;
+        mCenterY = centerY;
+        mFactor = factor;
+        mUnitWeb = unitWeb;
+        mYMin = yMin;
+        mYMax = yMax;
+        mRingValueCount = ringCount;
+
+        mRingCount = RadarGeometry.computeWebRings(centerX, centerY, ringValues, ringCount, yMin,
+                factor, unitWeb, mRings);
+
+        float length = ringCount > 0 ? (yMax - ringValues[0]) * factor : 0f;
+
+        mSpokeCount = RadarGeometry.computeWebSpokes(centerX, centerY,
+                RadarGeometry.getBaseRadius(ringValues, ringCount, yMin, factor), length,
+                unitWeb, mSpokes);
+    }
+
+    public float[] getRings() {
+        return mRings;
+    }
+
+    public int getRingCount() {
+        return mRingCount;
+    }
+
+    public float[] getSpokes() {
+        return mSpokes;
+    }
+
+    public int getSpokeCount() {
+        return mSpokeCount;
+    }
+}
@@ -0,0 +1,425 @@
+
+package com.talentpoc.utils;
+
+import com.talentpoc.interfaces.DrawingSurface;
+import com.talentpoc.interfaces.PathBuilder;
+
+import java.util.Arrays;
+
+/**
+ * DrawingSurface that does not draw anything, but records all draw calls into
+ * primitive arrays together with the drawing state they were issued with. It
+ * does not depend on any android classes and can therefore be used to verify
+ * and measure the draw logic of the renderers on a plain JVM. Call clear()
+ * before recording a new frame, the internal arrays are kept and only grow
+ * if needed.
+ */
+public class RecordingDrawingSurface implements DrawingSurface {
+
+    /** op type for a single line, 4 coordinates (x0, y0, x1, y1) */
+    public static final int OP_LINE = 0;
+
+    /** op type for multiple lines, 4 coordinates per line */
+    public static final int OP_LINES = 1;
+
+    /**
+     * op type for a path, 3 values per segment (verb, x, y), see the
+     * SEGMENT_... constants
+     */
+    public static final int OP_PATH = 2;
+
+    /** op type for a text, 2 coordinates (x, y) */
+    public static final int OP_TEXT = 3;
+
+    /** the number of different op types */
+    public static final int OP_TYPE_COUNT = 4;
+
+    /** path segment verbs, stored as first value of each segment */
+    public static final float SEGMENT_MOVE = 0f;
+    public static final float SEGMENT_LINE = 1f;
+    public static final float SEGMENT_CLOSE = 2f;
+
+    /** type of each recorded op */
+    private int[] mOpTypes = new int[64];
+
+    /** color (including alpha) each op was recorded with */
+    private int[] mOpColors = new int[64];
+
+    /** stroke width each op was recorded with */
+    private float[] mOpStrokeWidths = new float[64];
+
+    /** 1 if the op was recorded with the FILL style, 0 otherwise */
+    private int[] mOpFilled = new int[64];
+
+    /** offset of the op's values in the coordinate array */
+    private int[] mOpCoordOffsets = new int[64];
+
+    /** number of values the op occupies in the coordinate array */
+    private int[] mOpCoordCounts = new int[64];
+
+    /**
+     * texts of the ops, null for ops that are not OP_TEXT and for texts drawn
+     * from a char array
+     */
+    private String[] mOpTexts = new String[64];
+
+    /** offset of the text in the char pool for texts drawn from char arrays */
+    private int[] mOpTextOffsets = new int[64];
+
+    /** length of the text in the char pool, -1 if the text is a String */
+    private int[] mOpTextLengths = new int[64];
+
+    /** all chars of the texts drawn from char arrays */
+    private char[] mTextChars = new char[256];
+
+    /** the number of chars used in the char pool */
+    private int mTextCharCount = 0;
+
+    /** the number of recorded ops */
+    private int mOpCount = 0;
+
+    /** all coordinates of all ops */
+    private float[] mCoords = new float[256];
+
+    /** the number of values used in the coordinate array */
+    private int mCoordCount = 0;
+
+    /** number of recorded ops per op type */
+    private int[] mOpCountByType = new int[OP_TYPE_COUNT];
+
+    /** total number of recorded path segments */
+    private int mPathSegmentCount = 0;
+
+    /** number of calls that modified the drawing state */
+    private int mStateChangeCount = 0;
+
+    /** current drawing state */
+    private int mColor = 0xFF000000;
+    private Style mStyle = Style.FILL;
+    private float mStrokeWidth = 0f;
+    private TypefaceHolder<?> mTypeface = null;
+    private float mTextSize = 10f;
+    private TextAlign mTextAlign = TextAlign.LEFT;
+
+    /**
+     * average width of a character relative to the text size, used for
+     * measuring text
+     */
+    private float mCharWidthFactor = 0.55f;
+
+    /** path reused for every beginPath() call */
+    private RecordingPath mPath = new RecordingPath();
+
+    public RecordingDrawingSurface() {
+    }
+
+    /**
+     * Removes all recorded ops and resets the counters. The drawing state is
+     * kept.
+     */
+    public void clear() {
+        Arrays.fill(mOpTexts, 0, mOpCount, null);
+        mOpCount = 0;
+        mCoordCount = 0;
+        mTextCharCount = 0;
+        mPathSegmentCount = 0;
+        mStateChangeCount = 0;
+        Arrays.fill(mOpCountByType, 0);
+    }
+
+    /**
+     * Sets the average width of a character relative to the text size that is
+     * used to measure text. Default: 0.55f
+     *
+     * @param factor
+     */
+    public void setCharWidthFactor(float factor) {
+        mCharWidthFactor = factor;
+    }
+
+    @Override
+    public void setColor(int color) {
+        mColor = color;
+        mStateChangeCount++;
+    }
+
+    @Override
+    public void setAlpha(int alpha) {
+        mColor = (mColor & 0x00FFFFFF) | ((alpha & 0xFF) << 24);
+        mStateChangeCount++;
+    }
+
+    @Override
+    public void setStyle(Style style) {
+        mStyle = style;
+        mStateChangeCount++;
+    }
+
+    @Override
+    public void setStrokeWidth(float width) {
+        mStrokeWidth = width;
+        mStateChangeCount++;
+    }
+
+    @Override
+    public void setTypeface(TypefaceHolder<?> typeface) {
+        mTypeface = typeface;
+        mStateChangeCount++;
+    }
+
+    @Override
+    public void setTextSize(float size) {
+        mTextSize = size;
+        mStateChangeCount++;
+    }
+
+    @Override
+    public void setTextAlign(TextAlign align) {
+        mTextAlign = align;
+        mStateChangeCount++;
+    }
+
+    public TypefaceHolder<?> getTypeface() {
+        return mTypeface;
+    }
+
+    public TextAlign getTextAlign() {
+        return mTextAlign;
+    }
+
+    @Override
+    public float measureText(String text) {
+        return text.length() * mTextSize * mCharWidthFactor;
+    }
+
+    @Override
+    public void drawLine(float startX, float startY, float stopX, float stopY) {
+        int offset = addOp(OP_LINE, 4);
+        mCoords[offset] = startX;
+        mCoords[offset + 1] = startY;
+        mCoords[offset + 2] = stopX;
+        mCoords[offset + 3] = stopY;
+    }
+
+    @Override
+    public void drawLines(float[] pts, int offset, int count) {
+        int start = addOp(OP_LINES, count);
+        System.arraycopy(pts, offset, mCoords, start, count);
+    }
+
+    @Override
+    public PathBuilder beginPath() {
+        mPath.reset();
+        return mPath;
+    }
+
+    @Override
+    public void drawPath(PathBuilder path) {
+        RecordingPath p = (RecordingPath) path;
+        int start = addOp(OP_PATH, p.mCount);
+        System.arraycopy(p.mSegments, 0, mCoords, start, p.mCount);
+        mPathSegmentCount += p.mCount / 3;
+    }
+
+    @Override
+    public void drawText(String text, float x, float y) {
+        int offset = addOp(OP_TEXT, 2);
+        mCoords[offset] = x;
+        mCoords[offset + 1] = y;
+        mOpTexts[mOpCount - 1] = text;
+        mOpTextLengths[mOpCount - 1] = -1;
+    }
+
+    @Override
+    public void drawText(char[] text, int index, int count, float x, float y) {
+        int offset = addOp(OP_TEXT, 2);
+        mCoords[offset] = x;
+        mCoords[offset + 1] = y;
+
+        if (mTextCharCount + count > mTextChars.length)
+            mTextChars = Arrays.copyOf(mTextChars, Math.max(mTextChars.length * 2,
+                    mTextCharCount + count));
+
+        System.arraycopy(text, index, mTextChars, mTextCharCount, count);
+
+        mOpTexts[mOpCount - 1] = null;
+        mOpTextOffsets[mOpCount - 1] = mTextCharCount;
+        mOpTextLengths[mOpCount - 1] = count;
+        mTextCharCount += count;
+    }
+
+    /**
+     * Records a new op with the current drawing state and reserves the given
+     * number of values in the coordinate array. Returns the offset of the
+     * reserved values.
+     */
+    private int addOp(int type, int coordCount) {
+
+        if (mOpCount == mOpTypes.length) {
+            int size = mOpCount * 2;
+            mOpTypes = Arrays.copyOf(mOpTypes, size);
+            mOpColors = Arrays.copyOf(mOpColors, size);
+            mOpStrokeWidths = Arrays.copyOf(mOpStrokeWidths, size);
+            mOpFilled = Arrays.copyOf(mOpFilled, size);
+            mOpCoordOffsets = Arrays.copyOf(mOpCoordOffsets, size);
+            mOpCoordCounts = Arrays.copyOf(mOpCoordCounts, size);
+            mOpTexts = Arrays.copyOf(mOpTexts, size);
+            mOpTextOffsets = Arrays.copyOf(mOpTextOffsets, size);
+            mOpTextLengths = Arrays.copyOf(mOpTextLengths, size);
+        }
+
+        if (mCoordCount + coordCount > mCoords.length)
+            mCoords = Arrays.copyOf(mCoords, Math.max(mCoords.length * 2, mCoordCount + coordCount));
+
+        int offset = mCoordCount;
+
+        mOpTypes[mOpCount] = type;
+        mOpColors[mOpCount] = mColor;
+        mOpStrokeWidths[mOpCount] = mStrokeWidth;
+        mOpFilled[mOpCount] = mStyle == Style.FILL ? 1 : 0;
+        mOpCoordOffsets[mOpCount] = offset;
+        mOpCoordCounts[mOpCount] = coordCount;
+        mOpCount++;
+
+        mOpCountByType[type]++;
+        mCoordCount += coordCount;
+
+        return offset;
+    }
+
+    /**
+     * Returns the total number of recorded ops.
+     *
+     * @return
+     */
+    public int getOpCount() {
+        return mOpCount;
+    }
+
+    /**
+     * Returns the number of recorded ops of the given type, e.g. OP_TEXT.
+     *
+     * @param type
+     * @return
+     */
+    public int getOpCount(int type) {
+        return mOpCountByType[type];
+    }
+
+    /**
+     * Returns the total number of path segments (move, line and close) of all
+     * recorded paths.
+     *
+     * @return
+     */
+    public int getPathSegmentCount() {
+        return mPathSegmentCount;
+    }
+
+    /**
+     * Returns the number of calls that modified the drawing state since the
+     * last clear().
+     *
+     * @return
+     */
+    public int getStateChangeCount() {
+        return mStateChangeCount;
+    }
+
+    public int getOpType(int index) {
+        return mOpTypes[index];
+    }
+
+    public int getOpColor(int index) {
+        return mOpColors[index];
+    }
+
+    public float getOpStrokeWidth(int index) {
+        return mOpStrokeWidths[index];
+    }
+
+    public boolean isOpFilled(int index) {
+        return mOpFilled[index] == 1;
+    }
+
+    /**
+     * Returns the text of the op at the given index, null if the op is not
+     * OP_TEXT. Texts drawn from char arrays are converted to a String (and
+     * cached) on the first call.
+     *
+     * @param index
+     * @return
+     */
+    public String getOpText(int index) {
+
+        if (mOpTexts[index] == null && mOpTypes[index] == OP_TEXT)
+            mOpTexts[index] = new String(mTextChars, mOpTextOffsets[index],
+                    mOpTextLengths[index]);
+
+        return mOpTexts[index];
+    }
+
+    public int getOpCoordOffset(int index) {
+        return mOpCoordOffsets[index];
+    }
+
+    public int getOpCoordCount(int index) {
+        return mOpCoordCounts[index];
+    }
+
+    /**
+     * Returns the array holding the coordinates of all ops. Use
+     * getOpCoordOffset(...) and getOpCoordCount(...) to access the values of a
+     * specific op. Do not modify.
+     *
+     * @return
+     */
+    public float[] getCoords() {
+        return mCoords;
+    }
+
+    /**
+     * PathBuilder that stores its segments as (verb, x, y) triples.
+     */
+    private static class RecordingPath implements PathBuilder {
+
+        private float[] mSegments = new float[3 * 32];
+
+        private int mCount = 0;
+
+        @Override
+        public void reset() {
+            mCount = 0;
+        }
+
+        @Override
+        public void moveTo(float x, float y) {
+            add(SEGMENT_MOVE, x, y);
+        }
+
+        @Override
+        public void lineTo(float x, float y) {
+            add(SEGMENT_LINE, x, y);
+        }
+
+        @Override
+        public void close() {
+            add(SEGMENT_CLOSE, 0f, 0f);
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return mCount == 0;
+        }
+
+        private void add(float verb, float x, float y) {
+
+            if (mCount + 3 > mSegments.length)
+                mSegments = Arrays.copyOf(mSegments, mSegments.length * 2);
+
+            mSegments[mCount++] = verb;
+            mSegments[mCount++] = x;
+            mSegments[mCount++] = y;
+        }
+    }
+}
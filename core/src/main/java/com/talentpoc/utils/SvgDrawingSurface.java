@@ -0,0 +1,514 @@
+
+package com.talentpoc.utils;
+
+import com.talentpoc.interfaces.DrawingSurface;
+import com.talentpoc.interfaces.PathBuilder;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Arrays;
+
+/**
+ * DrawingSurface that streams every draw call as SVG element (line, path,
+ * text) to a Writer. No document tree is built, elements are assembled in a
+ * fixed size character buffer that is flushed to the writer when full, so
+ * the memory used does not depend on the number of elements. Numbers are
+ * written with at most two decimals without using String.format(...).
+ * Usage: startDocument(...), draw, endDocument(). As the methods of the
+ * DrawingSurface can not throw, the first IOException of the writer is kept
+ * and rethrown by endDocument().
+ */
+public class SvgDrawingSurface implements DrawingSurface {
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    /** the writer the document is streamed to */
+    private Writer mWriter;
+
+    /** buffer the elements are assembled in before they are written */
+    private final char[] mBuffer = new char[2048];
+
+    /** number of chars used in the buffer */
+    private int mBufferCount = 0;
+
+    /** scratch space for formatting numbers */
+    private final char[] mDigits = new char[24];
+
+    /** the first error the writer threw, null if none */
+    private IOException mError;
+
+    /** current drawing state */
+    private int mColor = 0xFF000000;
+    private Style mStyle = Style.FILL;
+    private float mStrokeWidth = 0f;
+    private float mTextSize = 10f;
+    private TextAlign mTextAlign = TextAlign.LEFT;
+    private String mFontFamily = "sans-serif";
+
+    /**
+     * average width of a character relative to the text size, used for
+     * measuring text as there are no font metrics available
+     */
+    private float mCharWidthFactor = 0.55f;
+
+    /** path reused for every beginPath() call */
+    private SvgPath mPath = new SvgPath();
+
+    public SvgDrawingSurface(Writer writer) {
+        mWriter = writer;
+    }
+
+    /**
+     * Sets the writer the following document is streamed to. Allows reusing
+     * the surface for multiple documents.
+     *
+     * @param writer
+     */
+    public void setWriter(Writer writer) {
+        mWriter = writer;
+        mBufferCount = 0;
+        mError = null;
+    }
+
+    /**
+     * Writes the svg root element with the given size in pixels.
+     *
+     * @param width
+     * @param height
+     * @throws IOException
+     */
+    public void startDocument(float width, float height) throws IOException {
+        append("<svg xmlns=\"http://www.w3.org/2000/svg\" width=\"");
+        append(width);
+        append("\" height=\"");
+        append(height);
+        append("\" viewBox=\"0 0 ");
+        append(width);
+        append(' ');
+        append(height);
+        append("\">\n");
+        throwError();
+    }
+
+    /**
+     * Fills the whole document with the given color.
+     *
+     * @param color
+     */
+    public void drawBackground(int color) {
+        append("<rect width=\"100%\" height=\"100%\"");
+        appendPaint(color, " fill=\"", " fill-opacity=\"");
+        append("/>\n");
+    }
+
+    /**
+     * Closes the svg root element and flushes everything to the writer. Throws
+     * the first error that occurred while streaming the document.
+     *
+     * @throws IOException
+     */
+    public void endDocument() throws IOException {
+        append("</svg>\n");
+        flushBuffer();
+        throwError();
+        mWriter.flush();
+    }
+
+    /**
+     * Returns true if writing to the writer failed.
+     *
+     * @return
+     */
+    public boolean checkError() {
+        return mError != null;
+    }
+
+    /**
+     * Sets the font-family the text is written with. Default: sans-serif
+     *
+     * @param family
+     */
+    public void setFontFamily(String family) {
+        mFontFamily = family;
+    }
+
+    /**
+     * Sets the average width of a character relative to the text size that is
+     * used to measure text. Default: 0.55f
+     *
+     * @param factor
+     */
+    public void setCharWidthFactor(float factor) {
+        mCharWidthFactor = factor;
+    }
+
+    @Override
+    public void setColor(int color) {
+        mColor = color;
+    }
+
+    @Override
+    public void setAlpha(int alpha) {
+        mColor = (mColor & 0x00FFFFFF) | ((alpha & 0xFF) << 24);
+    }
+
+    @Override
+    public void setStyle(Style style) {
+        mStyle = style;
+    }
+
+    @Override
+    public void setStrokeWidth(float width) {
+        mStrokeWidth = width;
+    }
+
+    @Override
+    public void setTypeface(TypefaceHolder<?> typeface) {
+        // only font family names are understood, see setFontFamily(...)
+        String family = typeface != null ? typeface.get(String.class) : null;
+
+        if (family != null)
+            mFontFamily = family;
+    }
+
+    @Override
+    public void setTextSize(float size) {
+        mTextSize = size;
+    }
+
+    @Override
+    public void setTextAlign(TextAlign align) {
+        mTextAlign = align;
+    }
+
+    @Override
+    public float measureText(String text) {
+        return text.length() * mTextSize * mCharWidthFactor;
+    }
+
+    @Override
+    public void drawLine(float startX, float startY, float stopX, float stopY) {
+        append("<line x1=\"");
+        append(startX);
+        append("\" y1=\"");
+        append(startY);
+        append("\" x2=\"");
+        append(stopX);
+        append("\" y2=\"");
+        append(stopY);
+        append('"');
+        appendStroke();
+        append("/>\n");
+    }
+
+    @Override
+    public void drawLines(float[] pts, int offset, int count) {
+
+        if (count < 4)
+            return;
+
+        // all lines share the same state, one path is much smaller than a
+        // line element per segment
+        append("<path d=\"");
+
+        for (int i = offset; i + 3 < offset + count; i += 4) {
+            append('M');
+            append(pts[i]);
+            append(' ');
+            append(pts[i + 1]);
+            append('L');
+            append(pts[i + 2]);
+            append(' ');
+            append(pts[i + 3]);
+        }
+
+        append("\" fill=\"none\"");
+        appendStroke();
+        append("/>\n");
+    }
+
+    @Override
+    public PathBuilder beginPath() {
+        mPath.reset();
+        return mPath;
+    }
+
+    @Override
+    public void drawPath(PathBuilder path) {
+
+        SvgPath p = (SvgPath) path;
+
+        if (p.mCount == 0)
+            return;
+
+        append("<path d=\"");
+        append(p.mData, 0, p.mCount);
+        append('"');
+
+        if (mStyle == Style.FILL) {
+            appendPaint(mColor, " fill=\"", " fill-opacity=\"");
+        } else {
+            append(" fill=\"none\"");
+            appendStroke();
+        }
+
+        append("/>\n");
+    }
+
+    @Override
+    public void drawText(String text, float x, float y) {
+        appendTextStart(x, y);
+        appendEscaped(text);
+        append("</text>\n");
+    }
+
+    @Override
+    public void drawText(char[] text, int index, int count, float x, float y) {
+        appendTextStart(x, y);
+
+        for (int i = index; i < index + count; i++)
+            appendEscaped(text[i]);
+
+        append("</text>\n");
+    }
+
+    /**
+     * Appends the start tag of a text element with the current text style.
+     */
+    private void appendTextStart(float x, float y) {
+        append("<text x=\"");
+        append(x);
+        append("\" y=\"");
+        append(y);
+        append("\" font-family=\"");
+        appendEscaped(mFontFamily);
+        append("\" font-size=\"");
+        append(mTextSize);
+        append('"');
+
+        switch (mTextAlign) {
+            case CENTER:
+                append(" text-anchor=\"middle\"");
+                break;
+            case RIGHT:
+                append(" text-anchor=\"end\"");
+                break;
+            default:
+                break;
+        }
+
+        appendPaint(mColor, " fill=\"", " fill-opacity=\"");
+        append('>');
+    }
+
+    /**
+     * Appends the stroke attributes of the current state.
+     */
+    private void appendStroke() {
+        appendPaint(mColor, " stroke=\"", " stroke-opacity=\"");
+        append(" stroke-width=\"");
+        append(mStrokeWidth);
+        append('"');
+    }
+
+    /**
+     * Appends the given color as #rrggbb attribute, followed by an opacity
+     * attribute if the color is not fully opaque.
+     */
+    private void appendPaint(int color, String colorAttr, String opacityAttr) {
+        append(colorAttr);
+        append('#');
+        for (int shift = 20; shift >= 0; shift -= 4)
+            append(HEX[(color >> shift) & 0xF]);
+        append('"');
+
+        int alpha = (color >>> 24) & 0xFF;
+
+        if (alpha < 255) {
+            append(opacityAttr);
+            append(alpha / 255f);
+            append('"');
+        }
+    }
+
+    private void appendEscaped(String text) {
+        for (int i = 0; i < text.length(); i++)
+            appendEscaped(text.charAt(i));
+    }
+
+    private void appendEscaped(char c) {
+        switch (c) {
+            case '&':
+                append("&amp;");
+                break;
+            case '<':
+                append("&lt;");
+                break;
+            case '>':
+                append("&gt;");
+                break;
+            case '"':
+                append("&quot;");
+                break;
+            default:
+                append(c);
+        }
+    }
+
+    /**
+     * Appends the given value rounded to two decimals, trailing zeros are
+     * omitted.
+     */
+    private void append(float value) {
+        int count = formatNumber(value, mDigits);
+        append(mDigits, 0, count);
+    }
+
+    private void append(String s) {
+        for (int i = 0; i < s.length(); i++)
+            append(s.charAt(i));
+    }
+
+    private void append(char[] chars, int offset, int count) {
+        for (int i = offset; i < offset + count; i++)
+            append(chars[i]);
+    }
+
+    private void append(char c) {
+        if (mBufferCount == mBuffer.length)
+            flushBuffer();
+        mBuffer[mBufferCount++] = c;
+    }
+
+    private void flushBuffer() {
+
+        if (mError == null && mBufferCount > 0) {
+            try {
+                mWriter.write(mBuffer, 0, mBufferCount);
+            } catch (IOException e) {
+                mError = e;
+            }
+        }
+
+        mBufferCount = 0;
+    }
+
+    private void throwError() throws IOException {
+        if (mError != null)
+            throw mError;
+    }
+
+    /**
+     * Formats the given value with at most two decimals into the given array,
+     * starting at index 0. NaN and infinite values are written as 0. Returns
+     * the number of chars written.
+     *
+     * @param value
+     * @param out must hold at least 24 chars
+     * @return
+     */
+    static int formatNumber(float value, char[] out) {
+
+        if (Float.isNaN(value) || Float.isInfinite(value))
+            value = 0f;
+
+        long hundredths = Math.round(value * 100.0);
+        int count = 0;
+
+        if (hundredths < 0) {
+            out[count++] = '-';
+            hundredths = -hundredths;
+        }
+
+        long integer = hundredths / 100;
+        int fraction = (int) (hundredths % 100);
+
+        // integer digits, written reversed and flipped afterwards
+        int start = count;
+        do {
+            out[count++] = (char) ('0' + integer % 10);
+            integer /= 10;
+        } while (integer > 0);
+
+        for (int i = start, j = count - 1; i < j; i++, j--) {
+            char c = out[i];
+            out[i] = out[j];
+            out[j] = c;
+        }
+
+        if (fraction != 0) {
+            out[count++] = '.';
+            out[count++] = (char) ('0' + fraction / 10);
+            if (fraction % 10 != 0)
+                out[count++] = (char) ('0' + fraction % 10);
+        }
+
+        return count;
+    }
+
+    /**
+     * PathBuilder that writes the svg path data of its segments into a char
+     * array that is reused for every path.
+     */
+    private class SvgPath implements PathBuilder {
+
+        private char[] mData = new char[256];
+
+        private int mCount = 0;
+
+        /** true once a sub path was started, svg path data must not start with Z */
+        private boolean mHasMoveTo = false;
+
+        @Override
+        public void reset() {
+            mCount = 0;
+            mHasMoveTo = false;
+        }
+
+        @Override
+        public void moveTo(float x, float y) {
+            add('M', x, y);
+            mHasMoveTo = true;
+        }
+
+        @Override
+        public void lineTo(float x, float y) {
+            add('L', x, y);
+        }
+
+        @Override
+        public void close() {
+
+            if (!mHasMoveTo)
+                return;
+
+            ensure(1);
+            mData[mCount++] = 'Z';
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return mCount == 0;
+        }
+
+        private void add(char verb, float x, float y) {
+
+            ensure(1 + 2 * mDigits.length);
+
+            mData[mCount++] = verb;
+            mCount += copy(formatNumber(x, mDigits));
+            mData[mCount++] = ' ';
+            mCount += copy(formatNumber(y, mDigits));
+        }
+
+        private int copy(int count) {
+            System.arraycopy(mDigits, 0, mData, mCount, count);
+            return count;
+        }
+
+        private void ensure(int size) {
+            if (mCount + size > mData.length)
+                mData = Arrays.copyOf(mData, Math.max(mData.length * 2, mCount + size));
+        }
+    }
+}
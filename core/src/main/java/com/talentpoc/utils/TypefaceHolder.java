@@ -0,0 +1,47 @@
+package com.talentpoc.utils;
+
+/**
+ * Holds a typeface of a platform, e.g. an android.graphics.Typeface or a
+ * java.awt.Font, for the chart core, which does not depend on any platform.
+ * The holder keeps the type of its typeface, a surface takes the typeface of
+ * its own platform with get(...) and gets null for any other.
+ *
+ * @param <T> the type of the typeface
+ */
+public final class TypefaceHolder<T> {
+
+    private final Class<T> mType;
+
+    private final T mTypeface;
+
+    /**
+     * @param type the class of the typeface, e.g. Typeface.class
+     * @param typeface
+     */
+    public TypefaceHolder(Class<T> type, T typeface) {
+
+        if (type == null || typeface == null)
+            throw new IllegalArgumentException("type and typeface must not be null");
+
+        mType = type;
+        mTypeface = typeface;
+    }
+
+    /**
+     * Returns the typeface if it is of the given type, null if not.
+     *
+     * @param type
+     * @return
+     */
+    public <U> U get(Class<U> type) {
+        return type == mType ? type.cast(mTypeface) : null;
+    }
+
+    public T getTypeface() {
+        return mTypeface;
+    }
+
+    public Class<T> getType() {
+        return mType;
+    }
+}
@@ -0,0 +1,80 @@
+package com.talentpoc.data;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+public class DataSetTest {
+
+    @Test(timeout = 1000)
+    public void findsEntryAtLastXIndex() {
+
+        RadarDataSet set = create(0, 1, 2, 3, 4);
+        List<Entry> entries = set.getEntriesForXIndex(4);
+
+        assertEquals(1, entries.size());
+        assertSame(set.getYVals().get(4), entries.get(0));
+    }
+
+    @Test(timeout = 1000)
+    public void findsEntryAtFirstXIndex() {
+
+        RadarDataSet set = create(0, 1, 2, 3, 4);
+        List<Entry> entries = set.getEntriesForXIndex(0);
+
+        assertEquals(1, entries.size());
+        assertSame(set.getYVals().get(0), entries.get(0));
+    }
+
+    @Test(timeout = 1000)
+    public void findsAllEntriesOfDuplicateXIndex() {
+
+        RadarDataSet set = create(0, 1, 1, 1, 2, 3, 3);
+
+        assertXIndices(set.getEntriesForXIndex(1), 1, 1, 1);
+        assertXIndices(set.getEntriesForXIndex(3), 3, 3);
+        assertXIndices(set.getEntriesForXIndex(0), 0);
+    }
+
+    @Test(timeout = 1000)
+    public void findsAllEntriesOfSingleXIndex() {
+        assertXIndices(create(5, 5, 5, 5).getEntriesForXIndex(5), 5, 5, 5, 5);
+    }
+
+    @Test(timeout = 1000)
+    public void findsNothingForMissingXIndex() {
+
+        RadarDataSet set = create(0, 2, 4);
+
+        assertEquals(0, set.getEntriesForXIndex(-1).size());
+        assertEquals(0, set.getEntriesForXIndex(1).size());
+        assertEquals(0, set.getEntriesForXIndex(5).size());
+        assertEquals(0, create().getEntriesForXIndex(0).size());
+    }
+
+    /**
+     * Creates a DataSet with one entry per given x-index, the value of an
+     * entry is its position in the DataSet.
+     */
+    private static RadarDataSet create(int... xIndices) {
+
+        List<Entry> entries = new ArrayList<Entry>();
+
+        for (int i = 0; i < xIndices.length; i++)
+            entries.add(new Entry(i, xIndices[i]));
+
+        return new RadarDataSet(entries, "test");
+    }
+
+    private static void assertXIndices(List<Entry> entries, int... expected) {
+
+        assertEquals(expected.length, entries.size());
+
+        for (int i = 0; i < expected.length; i++)
+            assertEquals(expected[i], entries.get(i).getXIndex());
+    }
+}
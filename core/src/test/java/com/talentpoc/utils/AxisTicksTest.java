@@ -0,0 +1,192 @@
+package com.talentpoc.utils;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class AxisTicksTest {
+
+    @Test
+    public void roundsIntervalToOneSignificantDigit() {
+        assertInterval(1d, 0, 5, 5);
+        assertInterval(1d, 0, 7.4, 5);
+        assertInterval(2d, 0, 7.5, 5);
+        assertInterval(2d, 0, 10, 5);
+        assertInterval(3d, 0, 14, 5);
+        assertInterval(4d, 0, 20, 5);
+        assertInterval(5d, 0, 27, 5);
+        // digits above 5 become the next power of ten
+        assertInterval(5d, 0, 54, 10);
+        assertInterval(10d, 0, 55, 10);
+        assertInterval(10d, 0, 99.99, 10);
+        assertInterval(10d, 0, 100, 10);
+        assertInterval(1000d, 0, 5000, 5);
+    }
+
+    @Test
+    public void roundsIntervalBelowOne() {
+        assertInterval(0.1d, 0, 1, 10);
+        assertInterval(0.1d, 0, 0.3, 3);
+        assertInterval(0.02d, 0, 0.1, 5);
+        assertInterval(0.001d, 0, 0.01, 10);
+    }
+
+    @Test
+    public void countsDecimalsOfInterval() {
+        assertDecimals(0, 0, 5000, 5);
+        assertDecimals(0, 0, 10, 10);
+        assertDecimals(1, 0, 1, 10);
+        assertDecimals(2, 0, 0.1, 5);
+        assertDecimals(3, 0, 0.01, 10);
+    }
+
+    @Test
+    public void insideIncludesBothEnds() {
+
+        AxisTicks ticks = new AxisTicks();
+        ticks.compute(0, 10, 5, AxisTicks.Mode.INSIDE);
+
+        assertTicks(ticks, 0, 2, 4, 6, 8, 10);
+    }
+
+    @Test
+    public void enclosingStartsAboveMin() {
+
+        AxisTicks ticks = new AxisTicks();
+        ticks.compute(0, 10, 5, AxisTicks.Mode.ENCLOSING);
+
+        assertTicks(ticks, 2, 4, 6, 8, 10);
+    }
+
+    @Test
+    public void enclosingEndsAtFirstTickNotBelowMax() {
+
+        AxisTicks ticks = new AxisTicks();
+
+        ticks.compute(0.5, 9.5, 5, AxisTicks.Mode.INSIDE);
+        assertTicks(ticks, 2, 4, 6, 8);
+
+        ticks.compute(0.5, 9.5, 5, AxisTicks.Mode.ENCLOSING);
+        assertTicks(ticks, 2, 4, 6, 8, 10);
+    }
+
+    @Test
+    public void keepsTicksWithRoundingErrors() {
+
+        AxisTicks ticks = new AxisTicks();
+
+        // 0.3 / 0.1 is slightly below 3
+        ticks.compute(0, 0.3, 3, AxisTicks.Mode.INSIDE);
+        assertTicks(ticks, 0f, 0.1f, 0.2f, 0.3f);
+
+        ticks.compute(0, 0.3, 3, AxisTicks.Mode.ENCLOSING);
+        assertTicks(ticks, 0.1f, 0.2f, 0.3f);
+    }
+
+    @Test
+    public void handlesNegativeValues() {
+
+        AxisTicks ticks = new AxisTicks();
+
+        ticks.compute(-10, 10, 4, AxisTicks.Mode.INSIDE);
+        assertTicks(ticks, -10, -5, 0, 5, 10);
+
+        ticks.compute(-10, 10, 4, AxisTicks.Mode.ENCLOSING);
+        assertTicks(ticks, -5, 0, 5, 10);
+    }
+
+    @Test
+    public void handlesReversedRange() {
+
+        AxisTicks ticks = new AxisTicks();
+        ticks.compute(10, 0, 5, AxisTicks.Mode.INSIDE);
+
+        assertTicks(ticks, 0, 2, 4, 6, 8, 10);
+    }
+
+    @Test
+    public void emptyRangeHasNoTicks() {
+        assertNoTicks(3, 3, 5);
+        assertNoTicks(0, 0, 5);
+        assertNoTicks(Double.NaN, 10, 5);
+        assertNoTicks(0, Double.NaN, 5);
+        assertNoTicks(0, Double.POSITIVE_INFINITY, 5);
+        assertNoTicks(0, 10, 0);
+        assertNoTicks(0, 10, -1);
+    }
+
+    @Test
+    public void sameArgumentsReturnFalse() {
+
+        AxisTicks ticks = new AxisTicks();
+
+        assertTrue(ticks.compute(0, 10, 5, AxisTicks.Mode.INSIDE));
+        assertFalse(ticks.compute(0, 10, 5, AxisTicks.Mode.INSIDE));
+        assertTicks(ticks, 0, 2, 4, 6, 8, 10);
+
+        assertTrue(ticks.compute(0, 10, 5, AxisTicks.Mode.ENCLOSING));
+        assertTrue(ticks.compute(0, 10, 4, AxisTicks.Mode.ENCLOSING));
+        assertTrue(ticks.compute(0, 20, 4, AxisTicks.Mode.ENCLOSING));
+        assertTrue(ticks.compute(5, 20, 4, AxisTicks.Mode.ENCLOSING));
+        assertFalse(ticks.compute(5, 20, 4, AxisTicks.Mode.ENCLOSING));
+    }
+
+    @Test
+    public void sameEmptyRangeReturnsFalse() {
+
+        AxisTicks ticks = new AxisTicks();
+
+        assertTrue(ticks.compute(3, 3, 5, AxisTicks.Mode.INSIDE));
+        assertFalse(ticks.compute(3, 3, 5, AxisTicks.Mode.INSIDE));
+        assertEquals(0, ticks.getCount());
+    }
+
+    @Test
+    public void pow10MatchesMath() {
+        for (int exponent = -30; exponent <= 30; exponent++)
+            assertEquals(Math.pow(10, exponent), AxisTicks.pow10(exponent),
+                    Math.pow(10, exponent) * 1e-15);
+    }
+
+    private static void assertInterval(double expected, double min, double max,
+            int labelCount) {
+
+        AxisTicks ticks = new AxisTicks();
+        ticks.compute(min, max, labelCount, AxisTicks.Mode.INSIDE);
+
+        assertEquals(min + ".." + max + " / " + labelCount, expected, ticks.getInterval(),
+                expected * 1e-9);
+    }
+
+    private static void assertDecimals(int expected, double min, double max, int labelCount) {
+
+        AxisTicks ticks = new AxisTicks();
+        ticks.compute(min, max, labelCount, AxisTicks.Mode.INSIDE);
+
+        assertEquals(min + ".." + max + " / " + labelCount, expected, ticks.getDecimals());
+    }
+
+    private static void assertNoTicks(double min, double max, int labelCount) {
+
+        for (AxisTicks.Mode mode : AxisTicks.Mode.values()) {
+
+            AxisTicks ticks = new AxisTicks();
+
+            assertTrue(ticks.compute(min, max, labelCount, mode));
+            assertEquals(min + ".." + max + " / " + labelCount, 0, ticks.getCount());
+            assertEquals(0, ticks.fill(new float[0]));
+        }
+    }
+
+    private static void assertTicks(AxisTicks ticks, float... expected) {
+
+        float[] values = new float[ticks.getCount()];
+
+        assertEquals(expected.length, ticks.fill(values));
+        assertArrayEquals(expected, values, 1e-6f);
+        assertEquals(expected[0], ticks.getFirst(), 1e-6);
+    }
+}
@@ -0,0 +1,153 @@
+package com.talentpoc.utils;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Compares the table lookups of MathUtils with the Math.log10 / Math.pow
+ * formulas they replace.
+ */
+public class MathUtilsTest {
+
+    /** every STRIDE-th float bit pattern is checked, both signs */
+    private static final int STRIDE = 4099;
+
+    /** doubles checked on each side of a threshold */
+    private static final int ULPS = 64;
+
+    private static final double[] SPECIAL = new double[] {
+            0d, -0d, Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY,
+            Double.MIN_VALUE, Double.MAX_VALUE, Float.MIN_VALUE, Float.MAX_VALUE,
+            Float.MIN_NORMAL, 1d, 10d, 0.1d, 0.5d, 9.5d, 99.5d, 1e-45, 1e39
+    };
+
+    @Test
+    public void matchesFormulasForSpecialValues() {
+        for (double d : SPECIAL) {
+            assertRound(d);
+            assertRound(-d);
+            assertDecimals((float) d);
+            assertDecimals((float) -d);
+        }
+    }
+
+    @Test
+    public void matchesFormulasOverFloatRange() {
+
+        for (long bits = Integer.MIN_VALUE; bits <= Integer.MAX_VALUE; bits += STRIDE) {
+
+            float f = Float.intBitsToFloat((int) bits);
+
+            assertRound(f);
+            assertDecimals(f);
+        }
+    }
+
+    @Test
+    public void matchesFormulasForRandomDoubles() {
+
+        Random random = new Random(42L);
+
+        for (int i = 0; i < 1000000; i++) {
+
+            // uniform over the exponents, not the values
+            double d = Double.longBitsToDouble(random.nextLong());
+
+            assertRound(d);
+            assertDecimals((float) d);
+        }
+    }
+
+    @Test
+    public void matchesFormulasAroundThresholds() {
+
+        for (int k = -46; k <= 39; k++) {
+
+            // where ceil((float) log10(x)) becomes k, float rounding moves it
+            // away from 10^k
+            double significant = findThreshold(k, false);
+
+            for (int u = -ULPS; u <= ULPS; u++) {
+                double d = addUlps(significant, u);
+                assertRound(d);
+                assertRound(-d);
+                assertDecimals((float) d);
+            }
+
+            // where ceil(-log10(x)) becomes -k
+            double decimals = findThreshold(-k, true);
+
+            for (int u = -ULPS; u <= ULPS; u++)
+                assertDecimals((float) addUlps(decimals, u));
+
+            float power = (float) Math.pow(10, k);
+
+            for (int u = -ULPS; u <= ULPS; u++) {
+                float f = Float.intBitsToFloat(Float.floatToIntBits(power) + u);
+                assertRound(f);
+                assertDecimals(f);
+                assertDecimals(-f);
+            }
+        }
+    }
+
+    private static void assertRound(double number) {
+        assertEquals("roundToNextSignificant(" + number + ")",
+                Float.floatToIntBits(roundToNextSignificant(number)),
+                Float.floatToIntBits(MathUtils.roundToNextSignificant(number)));
+    }
+
+    private static void assertDecimals(float number) {
+        assertEquals("getDecimals(" + number + ")", getDecimals(number),
+                MathUtils.getDecimals(number));
+    }
+
+    private static double addUlps(double d, int ulps) {
+        double result = Double.longBitsToDouble(Double.doubleToLongBits(d) + ulps);
+        return result > 0 ? result : Double.MIN_VALUE;
+    }
+
+    /**
+     * Returns the smallest positive double for which ceil((float) log10(x))
+     * is at least the given value, or ceil(-log10(x)) at most the given value.
+     */
+    private static double findThreshold(int value, boolean decimals) {
+
+        long lo = Double.doubleToLongBits(Double.MIN_VALUE);
+        long hi = Double.doubleToLongBits(Double.MAX_VALUE);
+
+        while (lo < hi) {
+
+            long mid = (lo + hi) >>> 1;
+            double x = Double.longBitsToDouble(mid);
+
+            boolean above = decimals ? (int) Math.ceil(-Math.log10(x)) <= value
+                    : (int) Math.ceil((float) Math.log10(x)) >= value;
+
+            if (above)
+                hi = mid;
+            else
+                lo = mid + 1;
+        }
+
+        return Double.longBitsToDouble(lo);
+    }
+
+    /** the implementation before the lookup tables */
+    private static float roundToNextSignificant(double number) {
+        final float d = (float) Math.ceil((float) Math.log10(number < 0 ? -number : number));
+        final int pw = 1 - (int) d;
+        final float magnitude = (float) Math.pow(10, pw);
+        final long shifted = Math.round(number * magnitude);
+        return shifted / magnitude;
+    }
+
+    /** the implementation before the lookup tables */
+    private static int getDecimals(float number) {
+        float i = roundToNextSignificant(number);
+        return (int) Math.ceil(-Math.log10(i)) + 2;
+    }
+}
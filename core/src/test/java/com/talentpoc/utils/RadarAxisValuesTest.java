@@ -0,0 +1,112 @@
+package com.talentpoc.utils;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class RadarAxisValuesTest {
+
+    @Test
+    public void computesEnclosingEntries() {
+
+        RadarAxisValues values = new RadarAxisValues();
+
+        assertTrue(values.compute(0f, 100f, 5, false));
+        assertEntries(values, 20f, 40f, 60f, 80f, 100f);
+        assertEquals(0, values.mDecimals);
+        assertEquals(100f, values.getLastEntry(), 0f);
+    }
+
+    @Test
+    public void lastEntryEnclosesMax() {
+
+        RadarAxisValues values = new RadarAxisValues();
+
+        assertTrue(values.compute(0f, 95f, 5, false));
+        assertEntries(values, 20f, 40f, 60f, 80f, 100f);
+    }
+
+    @Test
+    public void computesDecimals() {
+
+        RadarAxisValues values = new RadarAxisValues();
+
+        assertTrue(values.compute(0f, 0.5f, 5, false));
+        assertEntries(values, 0.1f, 0.2f, 0.3f, 0.4f, 0.5f);
+        assertEquals(1, values.mDecimals);
+    }
+
+    @Test
+    public void showsOnlyMinMax() {
+
+        RadarAxisValues values = new RadarAxisValues();
+
+        assertTrue(values.compute(3f, 97f, 5, true));
+        assertEntries(values, 3f, 97f);
+
+        // same range, the entries of the ticks come back
+        assertTrue(values.compute(3f, 97f, 5, false));
+        assertEntries(values, 20f, 40f, 60f, 80f, 100f);
+    }
+
+    @Test
+    public void emptyRangeHasNoEntries() {
+
+        RadarAxisValues values = new RadarAxisValues();
+
+        assertTrue(values.compute(0f, 100f, 5, false));
+
+        assertFalse(values.compute(50f, 50f, 5, false));
+        assertEquals(0, values.mEntryCount);
+
+        assertFalse(values.compute(Float.NaN, 100f, 5, false));
+        assertEquals(0, values.mEntryCount);
+
+        assertFalse(values.compute(0f, 100f, 0, false));
+        assertEquals(0, values.mEntryCount);
+
+        assertFalse(values.compute(0f, 100f, 0, false));
+        assertEquals(0, values.mEntryCount);
+
+        assertTrue(values.compute(0f, 100f, 5, false));
+        assertEntries(values, 20f, 40f, 60f, 80f, 100f);
+    }
+
+    @Test
+    public void sameRangeKeepsEntries() {
+
+        RadarAxisValues values = new RadarAxisValues();
+
+        values.compute(0f, 100f, 5, false);
+        float[] entries = values.mEntries;
+
+        assertTrue(values.compute(0f, 100f, 5, false));
+        assertSame(entries, values.mEntries);
+        assertEntries(values, 20f, 40f, 60f, 80f, 100f);
+    }
+
+    @Test
+    public void reusesBufferForFewerEntries() {
+
+        RadarAxisValues values = new RadarAxisValues();
+
+        values.compute(0f, 100f, 10, false);
+        float[] entries = values.mEntries;
+
+        values.compute(0f, 100f, 2, false);
+        assertSame(entries, values.mEntries);
+        assertEntries(values, 50f, 100f);
+    }
+
+    private static void assertEntries(RadarAxisValues values, float... expected) {
+
+        float[] entries = new float[values.mEntryCount];
+        System.arraycopy(values.mEntries, 0, entries, 0, values.mEntryCount);
+
+        assertArrayEquals(expected, entries, 1e-5f);
+    }
+}
@@ -0,0 +1,84 @@
+package com.talentpoc.utils;
+
+import com.talentpoc.interfaces.PathBuilder;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class SvgDrawingSurfaceTest {
+
+    @Test
+    public void closedEmptyPathIsNotWritten() throws IOException {
+
+        String svg = draw(new PathDrawer() {
+            @Override
+            public void draw(PathBuilder path) {
+                path.close();
+            }
+        });
+
+        assertFalse(svg, svg.contains("<path"));
+    }
+
+    @Test
+    public void closedPathEndsWithZ() throws IOException {
+
+        String svg = draw(new PathDrawer() {
+            @Override
+            public void draw(PathBuilder path) {
+                path.moveTo(1f, 2f);
+                path.lineTo(3f, 4f);
+                path.lineTo(5f, 2f);
+                path.close();
+            }
+        });
+
+        assertTrue(svg, svg.contains("d=\"M1 2L3 4L5 2Z\""));
+    }
+
+    @Test
+    public void reusedPathStartsWithoutMoveTo() throws IOException {
+
+        StringWriter writer = new StringWriter();
+        SvgDrawingSurface surface = new SvgDrawingSurface(writer);
+        surface.startDocument(10f, 10f);
+
+        PathBuilder path = surface.beginPath();
+        path.moveTo(1f, 1f);
+        path.lineTo(2f, 2f);
+        path.close();
+        surface.drawPath(path);
+
+        // the path of the previous beginPath() must not count as moved to
+        path = surface.beginPath();
+        path.close();
+        surface.drawPath(path);
+
+        surface.endDocument();
+
+        assertFalse(writer.toString(), writer.toString().contains("d=\"Z\""));
+    }
+
+    private interface PathDrawer {
+        void draw(PathBuilder path);
+    }
+
+    private static String draw(PathDrawer drawer) throws IOException {
+
+        StringWriter writer = new StringWriter();
+        SvgDrawingSurface surface = new SvgDrawingSurface(writer);
+        surface.startDocument(10f, 10f);
+
+        PathBuilder path = surface.beginPath();
+        drawer.draw(path);
+        surface.drawPath(path);
+
+        surface.endDocument();
+        return writer.toString();
+    }
+}
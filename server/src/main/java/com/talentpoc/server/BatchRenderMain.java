@@ -0,0 +1,69 @@
+
+package com.talentpoc.server;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Renders a batch of generated radar profiles to PNG files and prints the
+ * throughput. Arguments: [outputDir] [chartCount] [threads] [size]
+ */
+public class BatchRenderMain {
+
+    private static final String[] LABELS = new String[] {
+            "Java", "Android", "SQL", "Design", "Testing", "Communication", "Leadership", "Cloud"
+    };
+
+    public static void main(String[] args) throws Exception {
+
+        File outputDir = new File(args.length > 0 ? args[0] : "build/charts");
+        int count = args.length > 1 ? Integer.parseInt(args[1]) : 1000;
+        int threads = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime()
+                .availableProcessors();
+        int size = args.length > 3 ? Integer.parseInt(args[3]) : 512;
+
+        if (!outputDir.isDirectory() && !outputDir.mkdirs())
+            throw new IllegalArgumentException("Cannot create " + outputDir);
+
+        List<RadarProfile> profiles = createProfiles(count, new Random(42));
+
+        RadarChartImageRenderer renderer = new RadarChartImageRenderer(size, size);
+        renderer.setDensity(size / 320f);
+        renderer.setDrawFilled(true);
+
+        // warm up the pool threads and the jit before measuring
+        renderer.renderBatch(profiles.subList(0, Math.min(count, threads * 8)), outputDir, threads);
+
+        BatchResult result = renderer.renderBatch(profiles, outputDir, threads);
+
+        System.out.println(result);
+
+        if (result.getFirstError() != null)
+            result.getFirstError().printStackTrace();
+    }
+
+    private static List<RadarProfile> createProfiles(int count, Random random) {
+
+        List<RadarProfile> profiles = new ArrayList<>(count);
+
+        for (int i = 0; i < count; i++) {
+
+            int labelCount = 5 + random.nextInt(LABELS.length - 4);
+            String[] labels = new String[labelCount];
+            System.arraycopy(LABELS, 0, labels, 0, labelCount);
+
+            float[][] values = new float[1 + random.nextInt(2)][labelCount];
+
+            for (float[] series : values) {
+                for (int j = 0; j < labelCount; j++)
+                    series[j] = 1f + random.nextInt(10);
+            }
+
+            profiles.add(new RadarProfile("profile-" + i, labels, values));
+        }
+
+        return profiles;
+    }
+}
@@ -0,0 +1,79 @@
+
+package com.talentpoc.server;
+
+/**
+ * Outcome of RadarChartImageRenderer.renderBatch(...).
+ */
+public class BatchResult {
+
+    private final int mChartCount;
+    private final int mFailedCount;
+    private final long mDurationNanos;
+    private final int mThreadCount;
+    private final Exception mFirstError;
+
+    public BatchResult(int chartCount, int failedCount, long durationNanos, int threadCount,
+            Exception firstError) {
+        this.mChartCount = chartCount;
+        this.mFailedCount = failedCount;
+        this.mDurationNanos = durationNanos;
+        this.mThreadCount = threadCount;
+        this.mFirstError = firstError;
+    }
+
+    /**
+     * Returns the number of charts that were submitted, including the failed
+     * ones.
+     *
+     * @return
+     */
+    public int getChartCount() {
+        return mChartCount;
+    }
+
+    public int getFailedCount() {
+        return mFailedCount;
+    }
+
+    public long getDurationNanos() {
+        return mDurationNanos;
+    }
+
+    public int getThreadCount() {
+        return mThreadCount;
+    }
+
+    /**
+     * Returns the first exception a chart failed with, null if all charts
+     * were written.
+     *
+     * @return
+     */
+    public Exception getFirstError() {
+        return mFirstError;
+    }
+
+    /**
+     * Returns the throughput of the batch, successfully written charts per
+     * second of wall time.
+     *
+     * @return
+     */
+    public double getChartsPerSecond() {
+        if (mDurationNanos <= 0)
+            return 0;
+
+        return (mChartCount - mFailedCount) / (mDurationNanos / 1000000000.0);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(mChartCount).append(" charts, ");
+        sb.append(mFailedCount).append(" failed, ");
+        sb.append(mThreadCount).append(" threads, ");
+        sb.append(mDurationNanos / 1000000L).append(" ms, ");
+        sb.append(Math.round(getChartsPerSecond())).append(" charts/s");
+        return sb.toString();
+    }
+}
@@ -0,0 +1,266 @@
+
+package com.talentpoc.server;
+
+import com.talentpoc.interfaces.DrawingSurface;
+import com.talentpoc.interfaces.PathBuilder;
+import com.talentpoc.utils.TypefaceHolder;
+
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics2D;
+import java.awt.geom.Line2D;
+import java.awt.geom.Path2D;
+
+/**
+ * DrawingSurface that draws with Java2D onto a Graphics2D object. Colors,
+ * strokes and fonts are only re-created when the drawing state actually
+ * changes, so a surface should be reused for many charts.
+ */
+public class Java2DDrawingSurface implements DrawingSurface {
+
+    /** the graphics all calls are forwarded to */
+    private Graphics2D mGraphics;
+
+    /** current color including alpha, and the matching awt color (lazy) */
+    private int mColor = 0xFF000000;
+    private Color mAwtColor = null;
+
+    private Style mStyle = Style.FILL;
+
+    /** current stroke width, and the matching stroke (lazy) */
+    private float mStrokeWidth = 0f;
+    private BasicStroke mStroke = null;
+
+    /** font used if no typeface is set */
+    private static final Font DEFAULT_FONT = new Font(Font.SANS_SERIF, Font.PLAIN, 10);
+
+    /** font the text size is applied to */
+    private Font mBaseFont = DEFAULT_FONT;
+
+    private float mTextSize = 10f;
+
+    /** font with the current text size applied, and its metrics (lazy) */
+    private Font mFont = null;
+    private FontMetrics mFontMetrics = null;
+
+    private TextAlign mTextAlign = TextAlign.LEFT;
+
+    /** path reused for every beginPath() call */
+    private final Java2DPath mPath = new Java2DPath();
+
+    /** line reused for every drawLine(...) call */
+    private final Line2D.Float mLine = new Line2D.Float();
+
+    public Java2DDrawingSurface() {
+    }
+
+    /**
+     * Sets the graphics the following draw calls are forwarded to.
+     *
+     * @param g
+     */
+    public void setGraphics(Graphics2D g) {
+        mGraphics = g;
+        mFontMetrics = null;
+    }
+
+    @Override
+    public void setColor(int color) {
+        if (color != mColor) {
+            mColor = color;
+            mAwtColor = null;
+        }
+    }
+
+    @Override
+    public void setAlpha(int alpha) {
+        setColor((mColor & 0x00FFFFFF) | ((alpha & 0xFF) << 24));
+    }
+
+    @Override
+    public void setStyle(Style style) {
+        mStyle = style;
+    }
+
+    @Override
+    public void setStrokeWidth(float width) {
+        if (width != mStrokeWidth) {
+            mStrokeWidth = width;
+            mStroke = null;
+        }
+    }
+
+    /**
+     * Sets the typeface used for drawing text, only holders of a
+     * java.awt.Font are supported. Null resets to the default sans-serif font.
+     *
+     * @param typeface
+     */
+    @Override
+    public void setTypeface(TypefaceHolder<?> typeface) {
+
+        Font font = typeface != null ? typeface.get(Font.class) : null;
+        Font base = font != null ? font : DEFAULT_FONT;
+
+        if (!base.equals(mBaseFont)) {
+            mBaseFont = base;
+            mFont = null;
+            mFontMetrics = null;
+        }
+    }
+
+    @Override
+    public void setTextSize(float size) {
+        if (size != mTextSize) {
+            mTextSize = size;
+            mFont = null;
+            mFontMetrics = null;
+        }
+    }
+
+    @Override
+    public void setTextAlign(TextAlign align) {
+        mTextAlign = align;
+    }
+
+    @Override
+    public float measureText(String text) {
+        return getFontMetrics().stringWidth(text);
+    }
+
+    /**
+     * Returns the height of the visual bounds of the given text with the
+     * current text style, the equivalent of Paint.getTextBounds(...).
+     *
+     * @param text
+     * @return
+     */
+    public float getTextHeight(String text) {
+        return (float) getFont().createGlyphVector(mGraphics.getFontRenderContext(), text)
+                .getVisualBounds().getHeight();
+    }
+
+    @Override
+    public void drawLine(float startX, float startY, float stopX, float stopY) {
+        mGraphics.setColor(getColor());
+        mGraphics.setStroke(getStroke());
+        mLine.setLine(startX, startY, stopX, stopY);
+        mGraphics.draw(mLine);
+    }
+
+    @Override
+    public void drawLines(float[] pts, int offset, int count) {
+
+        mGraphics.setColor(getColor());
+        mGraphics.setStroke(getStroke());
+
+        for (int i = offset; i + 3 < offset + count; i += 4) {
+            mLine.setLine(pts[i], pts[i + 1], pts[i + 2], pts[i + 3]);
+            mGraphics.draw(mLine);
+        }
+    }
+
+    @Override
+    public PathBuilder beginPath() {
+        mPath.reset();
+        return mPath;
+    }
+
+    @Override
+    public void drawPath(PathBuilder path) {
+
+        mGraphics.setColor(getColor());
+
+        if (mStyle == Style.FILL) {
+            mGraphics.fill(((Java2DPath) path).mPath);
+        } else {
+            mGraphics.setStroke(getStroke());
+            mGraphics.draw(((Java2DPath) path).mPath);
+        }
+    }
+
+    @Override
+    public void drawText(String text, float x, float y) {
+
+        if (mTextAlign == TextAlign.CENTER)
+            x -= measureText(text) / 2f;
+        else if (mTextAlign == TextAlign.RIGHT)
+            x -= measureText(text);
+
+        mGraphics.setColor(getColor());
+        mGraphics.setFont(getFont());
+        mGraphics.drawString(text, x, y);
+    }
+
+    @Override
+    public void drawText(char[] text, int index, int count, float x, float y) {
+        // Graphics2D only draws chars at int positions
+        drawText(new String(text, index, count), x, y);
+    }
+
+    private Color getColor() {
+        if (mAwtColor == null)
+            mAwtColor = new Color(mColor, true);
+        return mAwtColor;
+    }
+
+    private BasicStroke getStroke() {
+        if (mStroke == null)
+            mStroke = new BasicStroke(mStrokeWidth, BasicStroke.CAP_BUTT, BasicStroke.JOIN_MITER);
+        return mStroke;
+    }
+
+    private Font getFont() {
+        if (mFont == null)
+            mFont = mBaseFont.deriveFont(mTextSize);
+        return mFont;
+    }
+
+    private FontMetrics getFontMetrics() {
+        if (mFontMetrics == null)
+            mFontMetrics = mGraphics.getFontMetrics(getFont());
+        return mFontMetrics;
+    }
+
+    /**
+     * PathBuilder backed by a Path2D.
+     */
+    private static class Java2DPath implements PathBuilder {
+
+        private final Path2D.Float mPath = new Path2D.Float();
+
+        private boolean mEmpty = true;
+
+        @Override
+        public void reset() {
+            mPath.reset();
+            mEmpty = true;
+        }
+
+        @Override
+        public void moveTo(float x, float y) {
+            mPath.moveTo(x, y);
+            mEmpty = false;
+        }
+
+        @Override
+        public void lineTo(float x, float y) {
+            mPath.lineTo(x, y);
+            mEmpty = false;
+        }
+
+        @Override
+        public void close() {
+            // Path2D rejects closing a path without a moveTo
+            if (!mEmpty)
+                mPath.closePath();
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return mEmpty;
+        }
+    }
+}
@@ -0,0 +1,658 @@
+
+package com.talentpoc.server;
+
+import com.talentpoc.interfaces.DrawingSurface;
+import com.talentpoc.interfaces.PathBuilder;
+import com.talentpoc.utils.DefaultValueFormatter;
+import com.talentpoc.utils.MathUtils;
+import com.talentpoc.utils.RadarAxisValues;
+import com.talentpoc.utils.RadarGeometry;
+import com.talentpoc.utils.SvgDrawingSurface;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.imageio.ImageIO;
+
+/**
+ * Renders radar charts into BufferedImages without an android runtime. The
+ * chart is laid out like the RadarChart view does it (axis range, label
+ * width, offsets) using the shared RadarAxisValues and RadarGeometry classes,
+ * and drawn in the same order as RadarChart.renderTo(...) through a
+ * Java2DDrawingSurface. Every thread that renders reuses its own image,
+ * surface and buffers, so one renderer can be shared by a worker pool, see
+ * renderBatch(...).
+ */
+public class RadarChartImageRenderer {
+
+    /** size of the rendered images in pixels */
+    private final int mWidth;
+    private final int mHeight;
+
+    /** pixels per dp, all dp values below are multiplied with it */
+    private float mDensity = 1f;
+
+    /** background color the image is cleared with */
+    private int mBackgroundColor = 0xFFFFFFFF;
+
+    /** width of the main web lines in dp */
+    private float mWebLineWidth = 1.5f;
+
+    /** width of the inner web lines in dp */
+    private float mInnerWebLineWidth = 0.75f;
+
+    /** colors of the main and inner web lines */
+    private int mWebColor = rgb(122, 122, 122);
+    private int mWebColorInner = rgb(122, 122, 122);
+
+    /** transparency the web is drawn with (0-255) */
+    private int mWebAlpha = 150;
+
+    /** rotation offset of the chart in degrees, default 270f (NORTH) */
+    private float mRotationAngle = 270f;
+
+    /** text size of the labels in dp and their color */
+    private float mLabelTextSize = 10f;
+    private int mLabelColor = 0xFF000000;
+
+    /** y-axis settings, same defaults as the YAxis */
+    private int mYLabelCount = 6;
+    private boolean mStartAtZero = true;
+    private float mSpacePercentTop = 10f;
+    private float mSpacePercentBottom = 10f;
+    private boolean mDrawYLabels = true;
+
+    /** colors of the series, used round robin */
+    private int[] mSeriesColors = new int[] {
+            rgb(140, 234, 255)
+    };
+
+    /** series styling, same defaults as the LineRadarDataSet */
+    private boolean mDrawFilled = false;
+    private int mFillAlpha = 85;
+    private float mLineWidth = 2.5f;
+
+    /** the reusable render state of each thread */
+    private final ThreadLocal<RenderContext> mContexts = new ThreadLocal<RenderContext>() {
+        @Override
+        protected RenderContext initialValue() {
+            return new RenderContext(mWidth, mHeight);
+        }
+    };
+
+    public RadarChartImageRenderer(int width, int height) {
+        this.mWidth = width;
+        this.mHeight = height;
+    }
+
+    /**
+     * Renders the given profile into the image of the calling thread. The
+     * returned image is reused and only valid until the next call of this
+     * method on the same thread.
+     *
+     * @param profile
+     * @return
+     */
+    public BufferedImage render(RadarProfile profile) {
+
+        RenderContext ctx = mContexts.get();
+        Graphics2D g = ctx.graphics;
+
+        g.setColor(new java.awt.Color(mBackgroundColor, true));
+        g.fillRect(0, 0, mWidth, mHeight);
+
+        if (profile.getLabelCount() == 0 || profile.getSeriesCount() == 0)
+            return ctx.image;
+
+        layout(ctx, profile);
+        draw(ctx, ctx.surface, profile);
+
+        return ctx.image;
+    }
+
+    /**
+     * Streams the given profile as SVG document to the given writer. The
+     * layout is the same as for render(...), the text is measured with the
+     * Java2D font metrics. The writer is flushed but not closed.
+     *
+     * @param profile
+     * @param writer
+     * @throws IOException
+     */
+    public void writeSvg(RadarProfile profile, Writer writer) throws IOException {
+
+        RenderContext ctx = mContexts.get();
+        SvgDrawingSurface svg = ctx.getSvgSurface(writer);
+
+        svg.startDocument(mWidth, mHeight);
+        svg.drawBackground(mBackgroundColor);
+
+        if (profile.getLabelCount() > 0 && profile.getSeriesCount() > 0) {
+            layout(ctx, profile);
+            draw(ctx, svg, profile);
+        }
+
+        svg.endDocument();
+    }
+
+    /**
+     * Renders the given profile and writes it as PNG to the given file.
+     *
+     * @param profile
+     * @param file
+     * @throws IOException
+     */
+    public void renderToFile(RadarProfile profile, File file) throws IOException {
+
+        BufferedImage image = render(profile);
+
+        if (!ImageIO.write(image, "png", file))
+            throw new IOException("No PNG writer available.");
+    }
+
+    /**
+     * Renders all given profiles on a pool of the given number of threads and
+     * writes them as PNG into the output directory (one file per profile,
+     * named by its id). The queue of the pool is bounded, if it is full the
+     * submitting thread renders itself. Blocks until all profiles are done.
+     *
+     * @param profiles
+     * @param outputDir
+     * @param threads
+     * @return
+     * @throws InterruptedException
+     */
+    public BatchResult renderBatch(List<RadarProfile> profiles, final File outputDir, int threads)
+            throws InterruptedException {
+
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 0L,
+                TimeUnit.MILLISECONDS, new ArrayBlockingQueue<Runnable>(threads * 4),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+
+        final AtomicInteger failed = new AtomicInteger();
+        final AtomicReference<Exception> firstError = new AtomicReference<Exception>();
+
+        long start = System.nanoTime();
+
+        for (final RadarProfile profile : profiles) {
+
+            executor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        renderToFile(profile, new File(outputDir, profile.getId() + ".png"));
+                    } catch (Exception e) {
+                        failed.incrementAndGet();
+                        firstError.compareAndSet(null, e);
+                    }
+                }
+            });
+        }
+
+        executor.shutdown();
+
+        while (!executor.awaitTermination(1, TimeUnit.SECONDS)) {
+            // wait until all charts are rendered
+        }
+
+        long duration = System.nanoTime() - start;
+
+        return new BatchResult(profiles.size(), failed.get(), duration, threads,
+                firstError.get());
+    }
+
+    /**
+     * Calculates the axis range, the axis entries, the label size and the
+     * content area for the given profile, like RadarChart.notifyDataSetChanged()
+     * does.
+     */
+    private void layout(RenderContext ctx, RadarProfile profile) {
+
+        // min and max over all series
+        float min = Float.MAX_VALUE;
+        float max = -Float.MAX_VALUE;
+
+        for (float[] series : profile.getValues()) {
+            for (float val : series) {
+                if (Float.isNaN(val))
+                    continue;
+                if (val < min)
+                    min = val;
+                if (val > max)
+                    max = val;
+            }
+        }
+
+        if (min == Float.MAX_VALUE) {
+            min = 0f;
+            max = 0f;
+        }
+
+        float range = Math.abs(max - (mStartAtZero ? 0 : min));
+
+        ctx.axisMaximum = max + range / 100f * mSpacePercentTop;
+        ctx.axisMinimum = mStartAtZero ? 0f : min - range / 100f * mSpacePercentBottom;
+
+        if (ctx.axis.compute(ctx.axisMinimum, ctx.axisMaximum, mYLabelCount, false))
+            ctx.axisMaximum = ctx.axis.getLastEntry();
+
+        ctx.axisRange = Math.abs(ctx.axisMaximum - ctx.axisMinimum);
+
+        // formatter for the y-labels, like Chart.calculateFormatter(...)
+        float reference = profile.getLabelCount() < 2
+                ? Math.max(Math.abs(min), Math.abs(max))
+                : Math.abs(max - min);
+
+        ctx.formatter = ctx.getFormatter(MathUtils.getDecimals(reference));
+
+        // label size, like XAxisRendererRadarChart.computeAxis(...)
+        Java2DDrawingSurface s = ctx.surface;
+        s.setTypeface(null);
+        s.setTextSize(mLabelTextSize * mDensity);
+
+        float lengthSum = 1f;
+        for (String label : profile.getLabels())
+            lengthSum += label.length();
+
+        int chars = Math.round(lengthSum / profile.getLabelCount());
+
+        ctx.text.setLength(0);
+        for (int i = 0; i < chars; i++)
+            ctx.text.append('h');
+
+        ctx.labelWidth = (int) s.measureText(ctx.text.toString());
+        ctx.labelHeight = (int) s.getTextHeight("Q");
+
+        // offsets, like PieRadarChartBase.calculateOffsets()
+        float offset = Math.max(10f * mDensity, ctx.labelWidth);
+        float offsetBottom = Math.max(offset, ctx.labelWidth);
+
+        float contentWidth = mWidth - offset * 2f;
+        float contentHeight = mHeight - offset - offsetBottom;
+
+        ctx.centerX = offset + contentWidth / 2f;
+        ctx.centerY = offset + contentHeight / 2f;
+        ctx.factor = RadarGeometry.getFactor(contentWidth, contentHeight, ctx.axisRange);
+        ctx.sliceAngle = RadarGeometry.getSliceAngle(profile.getLabelCount());
+    }
+
+    /**
+     * Draws the laid out profile onto the given surface, in the same order as
+     * RadarChart.renderTo(...). Profiles without a value range are left
+     * empty.
+     */
+    private void draw(RenderContext ctx, DrawingSurface s, RadarProfile profile) {
+
+        // all values equal zero (or NaN), nothing to scale the web to, like
+        // RadarCellRenderer.draw(...)
+        if (ctx.axisRange <= 0f)
+            return;
+
+        drawLabels(ctx, s, profile);
+        drawWeb(ctx, s, profile);
+        drawData(ctx, s, profile);
+
+        if (mDrawYLabels)
+            drawYLabels(ctx, s);
+    }
+
+    private void drawLabels(RenderContext ctx, DrawingSurface s, RadarProfile profile) {
+
+        s.setTypeface(null);
+        s.setTextSize(mLabelTextSize * mDensity);
+        s.setColor(mLabelColor);
+        s.setTextAlign(DrawingSurface.TextAlign.CENTER);
+
+        int count = profile.getLabelCount();
+        float[] positions = ctx.ensureLabelBuffer(count * 2);
+
+        RadarGeometry.computeLabelPositions(ctx.centerX, ctx.centerY, ctx.axisRange
+                * ctx.factor + ctx.labelWidth / 2f, count, ctx.sliceAngle, mRotationAngle,
+                positions);
+
+        String[] labels = profile.getLabels();
+
+        for (int i = 0; i < count; i++) {
+            s.drawText(labels[i], positions[i * 2], positions[i * 2 + 1] + ctx.labelHeight / 2f);
+        }
+    }
+
+    private void drawWeb(RenderContext ctx, DrawingSurface s, RadarProfile profile) {
+
+        RadarAxisValues axis = ctx.axis;
+        int count = profile.getLabelCount();
+
+        s.setStyle(DrawingSurface.Style.STROKE);
+        s.setStrokeWidth(mInnerWebLineWidth * mDensity);
+        s.setColor(mWebColorInner);
+        s.setAlpha(mWebAlpha);
+
+        float[] rings = ctx.ensureRingBuffer(axis.mEntryCount * count * 4);
+
+        int values = RadarGeometry.computeWebRings(ctx.centerX, ctx.centerY, axis.mEntries,
+                axis.mEntryCount, ctx.axisMinimum, ctx.factor, count, ctx.sliceAngle,
+                mRotationAngle, rings);
+
+        s.drawLines(rings, 0, values);
+
+        s.setStrokeWidth(mWebLineWidth * mDensity);
+        s.setColor(mWebColor);
+        s.setAlpha(mWebAlpha);
+
+        float baseRadius = RadarGeometry.getBaseRadius(axis.mEntries, axis.mEntryCount,
+                ctx.axisMinimum, ctx.factor);
+        float length = axis.mEntryCount > 0
+                ? (ctx.axisMaximum - axis.mEntries[0]) * ctx.factor
+                : 0f;
+
+        float[] spokes = ctx.ensureSpokeBuffer(count * 4);
+
+        values = RadarGeometry.computeWebSpokes(ctx.centerX, ctx.centerY, baseRadius, length,
+                count, ctx.sliceAngle, mRotationAngle, spokes);
+
+        s.drawLines(spokes, 0, values);
+    }
+
+    private void drawData(RenderContext ctx, DrawingSurface s, RadarProfile profile) {
+
+        float baseRadius = RadarGeometry.getBaseRadius(ctx.axis.mEntries, ctx.axis.mEntryCount,
+                ctx.axisMinimum, ctx.factor);
+        float[] p = ctx.position;
+
+        float[][] values = profile.getValues();
+
+        for (int i = 0; i < values.length; i++) {
+
+            float[] series = values[i];
+            PathBuilder path = s.beginPath();
+            boolean hasMovedToPoint = false;
+
+            for (int j = 0; j < series.length; j++) {
+
+                RadarGeometry.getPosition(ctx.centerX, ctx.centerY,
+                        baseRadius + (series[j] - ctx.axisMinimum) * ctx.factor,
+                        ctx.sliceAngle * j + mRotationAngle, p, 0);
+
+                if (Float.isNaN(p[0]))
+                    continue;
+
+                if (!hasMovedToPoint) {
+                    path.moveTo(p[0], p[1]);
+                    hasMovedToPoint = true;
+                } else
+                    path.lineTo(p[0], p[1]);
+            }
+
+            // no drawable value in the series
+            if (!hasMovedToPoint)
+                continue;
+
+            path.close();
+
+            s.setColor(mSeriesColors[i % mSeriesColors.length]);
+
+            if (mDrawFilled) {
+                s.setStyle(DrawingSurface.Style.FILL);
+                s.setAlpha(mFillAlpha);
+                s.drawPath(path);
+                s.setAlpha(255);
+            }
+
+            s.setStrokeWidth(mLineWidth * mDensity);
+            s.setStyle(DrawingSurface.Style.STROKE);
+
+            if (!mDrawFilled || mFillAlpha < 255)
+                s.drawPath(path);
+        }
+    }
+
+    private void drawYLabels(RenderContext ctx, DrawingSurface s) {
+
+        s.setTypeface(null);
+        s.setTextSize(mLabelTextSize * mDensity);
+        s.setColor(mLabelColor);
+        s.setTextAlign(DrawingSurface.TextAlign.LEFT);
+
+        float[] p = ctx.position;
+
+        for (int j = 0; j < ctx.axis.mEntryCount; j++) {
+
+            float r = (ctx.axis.mEntries[j] - ctx.axisMinimum) * ctx.factor;
+
+            RadarGeometry.getPosition(ctx.centerX, ctx.centerY, r, mRotationAngle, p, 0);
+
+            s.drawText(ctx.formatter.getFormattedValue(ctx.axis.mEntries[j]), p[0] + 10, p[1]);
+        }
+    }
+
+    private static int rgb(int red, int green, int blue) {
+        return 0xFF000000 | (red << 16) | (green << 8) | blue;
+    }
+
+    /** ONLY GETTERS AND SETTERS BELOW THIS */
+
+    public int getWidth() {
+        return mWidth;
+    }
+
+    public int getHeight() {
+        return mHeight;
+    }
+
+    /**
+     * Sets the number of pixels per dp. Default: 1f
+     *
+     * @param density
+     */
+    public void setDensity(float density) {
+        mDensity = density;
+    }
+
+    public void setBackgroundColor(int color) {
+        mBackgroundColor = color;
+    }
+
+    /**
+     * Sets the width of the web lines that come from the center in dp.
+     *
+     * @param width
+     */
+    public void setWebLineWidth(float width) {
+        mWebLineWidth = width;
+    }
+
+    /**
+     * Sets the width of the web lines that are in between the lines coming
+     * from the center in dp.
+     *
+     * @param width
+     */
+    public void setWebLineWidthInner(float width) {
+        mInnerWebLineWidth = width;
+    }
+
+    public void setWebColor(int color) {
+        mWebColor = color;
+    }
+
+    public void setWebColorInner(int color) {
+        mWebColorInner = color;
+    }
+
+    /**
+     * Sets the transparency (alpha) value for all web lines, default: 150
+     *
+     * @param alpha
+     */
+    public void setWebAlpha(int alpha) {
+        mWebAlpha = alpha;
+    }
+
+    public void setRotationAngle(float angle) {
+        mRotationAngle = MathUtils.getNormalizedAngle(angle);
+    }
+
+    /**
+     * Sets the text size of all labels in dp. Default: 10f
+     *
+     * @param size
+     */
+    public void setLabelTextSize(float size) {
+        mLabelTextSize = size;
+    }
+
+    public void setLabelColor(int color) {
+        mLabelColor = color;
+    }
+
+    /**
+     * Sets the number of rings of the web (y-axis entries), min = 2, max = 25,
+     * default: 6
+     *
+     * @param count
+     */
+    public void setYLabelCount(int count) {
+
+        if (count > 25)
+            count = 25;
+        if (count < 2)
+            count = 2;
+
+        mYLabelCount = count;
+    }
+
+    public void setStartAtZero(boolean enabled) {
+        mStartAtZero = enabled;
+    }
+
+    public void setSpaceTop(float percent) {
+        mSpacePercentTop = percent;
+    }
+
+    public void setSpaceBottom(float percent) {
+        mSpacePercentBottom = percent;
+    }
+
+    public void setDrawYLabels(boolean enabled) {
+        mDrawYLabels = enabled;
+    }
+
+    /**
+     * Sets the colors of the series, used round robin if there are more
+     * series than colors.
+     *
+     * @param colors
+     */
+    public void setSeriesColors(int[] colors) {
+        if (colors != null && colors.length > 0)
+            mSeriesColors = colors;
+    }
+
+    public void setDrawFilled(boolean filled) {
+        mDrawFilled = filled;
+    }
+
+    public void setFillAlpha(int alpha) {
+        mFillAlpha = alpha;
+    }
+
+    /**
+     * Sets the line width of the series in dp.
+     *
+     * @param width
+     */
+    public void setLineWidth(float width) {
+        mLineWidth = width;
+    }
+
+    /**
+     * Image, surface, buffers and layout results of one rendering thread.
+     */
+    private static class RenderContext {
+
+        final BufferedImage image;
+        final Graphics2D graphics;
+        final Java2DDrawingSurface surface = new Java2DDrawingSurface();
+        SvgDrawingSurface svgSurface;
+        final RadarAxisValues axis = new RadarAxisValues();
+        final StringBuilder text = new StringBuilder();
+
+        /** formatters by number of digits, created on first use */
+        final DefaultValueFormatter[] formatters = new DefaultValueFormatter[16];
+
+        float[] labelBuffer = new float[0];
+        float[] ringBuffer = new float[0];
+        float[] spokeBuffer = new float[0];
+        final float[] position = new float[2];
+
+        float axisMinimum;
+        float axisMaximum;
+        float axisRange;
+        float centerX;
+        float centerY;
+        float factor;
+        float sliceAngle;
+        int labelWidth;
+        int labelHeight;
+        DefaultValueFormatter formatter;
+
+        RenderContext(int width, int height) {
+
+            image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+            graphics = image.createGraphics();
+            graphics.setRenderingHint(RenderingHints.KEY_ANTIALIASING,
+                    RenderingHints.VALUE_ANTIALIAS_ON);
+            graphics.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING,
+                    RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+            surface.setGraphics(graphics);
+        }
+
+        SvgDrawingSurface getSvgSurface(Writer writer) {
+
+            if (svgSurface == null)
+                svgSurface = new SvgDrawingSurface(writer);
+            else
+                svgSurface.setWriter(writer);
+
+            return svgSurface;
+        }
+
+        DefaultValueFormatter getFormatter(int digits) {
+
+            int index = Math.max(0, Math.min(digits, formatters.length - 1));
+
+            if (formatters[index] == null)
+                formatters[index] = new DefaultValueFormatter(index);
+
+            return formatters[index];
+        }
+
+        float[] ensureLabelBuffer(int size) {
+            if (labelBuffer.length < size)
+                labelBuffer = new float[size];
+            return labelBuffer;
+        }
+
+        float[] ensureRingBuffer(int size) {
+            if (ringBuffer.length < size)
+                ringBuffer = new float[size];
+            return ringBuffer;
+        }
+
+        float[] ensureSpokeBuffer(int size) {
+            if (spokeBuffer.length < size)
+                spokeBuffer = new float[size];
+            return spokeBuffer;
+        }
+    }
+}
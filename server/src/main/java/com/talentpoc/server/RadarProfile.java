@@ -0,0 +1,63 @@
+
+package com.talentpoc.server;
+
+/**
+ * The data of a single radar chart that is rendered headless: the labels
+ * placed around the web and one or more series of values (one value per
+ * label), equivalent to the x-values and DataSets of a RadarData object.
+ */
+public class RadarProfile {
+
+    /** identifier of the profile, used as file name when writing images */
+    private String mId;
+
+    /** the labels around the web */
+    private String[] mLabels;
+
+    /** the values of each series, one value per label */
+    private float[][] mValues;
+
+    public RadarProfile(String id, String[] labels, float[][] values) {
+
+        for (int i = 0; i < values.length; i++) {
+            if (values[i].length > labels.length) {
+                throw new IllegalArgumentException(
+                        "One or more of the value arrays are longer than the labels array of this RadarProfile.");
+            }
+        }
+
+        this.mId = id;
+        this.mLabels = labels;
+        this.mValues = values;
+    }
+
+    public String getId() {
+        return mId;
+    }
+
+    public String[] getLabels() {
+        return mLabels;
+    }
+
+    /**
+     * Returns the number of labels (vertices of the web).
+     *
+     * @return
+     */
+    public int getLabelCount() {
+        return mLabels.length;
+    }
+
+    public float[][] getValues() {
+        return mValues;
+    }
+
+    /**
+     * Returns the number of value series.
+     *
+     * @return
+     */
+    public int getSeriesCount() {
+        return mValues.length;
+    }
+}
@@ -0,0 +1,91 @@
+package com.talentpoc.server;
+
+import org.junit.Test;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.StringWriter;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class RadarChartImageRendererTest {
+
+    private static final String[] LABELS = new String[] {
+            "Java", "Android", "SQL", "Design", "Testing"
+    };
+
+    private static final float NaN = Float.NaN;
+
+    private final RadarChartImageRenderer mRenderer = new RadarChartImageRenderer(200, 200);
+
+    @Test
+    public void rendersEmptySeriesBlank() throws IOException {
+        assertBlank(new RadarProfile("empty", LABELS, new float[][] {
+                {}
+        }));
+    }
+
+    @Test
+    public void rendersNaNSeriesBlank() throws IOException {
+        assertBlank(new RadarProfile("nan", LABELS, new float[][] {
+                {
+                        NaN, NaN, NaN, NaN, NaN
+                }
+        }));
+    }
+
+    @Test
+    public void rendersZeroSeriesBlank() throws IOException {
+        assertBlank(new RadarProfile("zero", LABELS, new float[][] {
+                {
+                        0f, 0f, 0f, 0f, 0f
+                }
+        }));
+    }
+
+    @Test
+    public void skipsSeriesWithoutValues() throws IOException {
+
+        RadarProfile profile = new RadarProfile("mixed", LABELS, new float[][] {
+                {}, {
+                        NaN, NaN, NaN, NaN, NaN
+                }, {
+                        10f, 40f, NaN, 70f, 20f
+                }
+        });
+
+        assertFalse(isBlank(mRenderer.render(profile)));
+
+        StringWriter svg = new StringWriter();
+        mRenderer.writeSvg(profile, svg);
+
+        assertFalse(svg.toString().contains("d=\"Z\""));
+    }
+
+    private void assertBlank(RadarProfile profile) throws IOException {
+
+        assertTrue(profile.getId(), isBlank(mRenderer.render(profile)));
+
+        // the SVG document is written completely
+        StringWriter svg = new StringWriter();
+        mRenderer.writeSvg(profile, svg);
+
+        assertTrue(profile.getId(), svg.toString().trim().endsWith("</svg>"));
+    }
+
+    /**
+     * Returns true if all pixels of the image have the background color.
+     */
+    private static boolean isBlank(BufferedImage image) {
+
+        for (int y = 0; y < image.getHeight(); y++) {
+            for (int x = 0; x < image.getWidth(); x++) {
+                if (image.getRGB(x, y) != 0xFFFFFFFF)
+                    return false;
+            }
+        }
+
+        return true;
+    }
+}